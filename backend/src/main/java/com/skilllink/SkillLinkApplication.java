@@ -1,11 +1,15 @@
 package com.skilllink;
 
+import com.skilllink.startup.StartupReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class SkillLinkApplication {
     public static void main(String[] args) {
-        SpringApplication.run(SkillLinkApplication.class, args);
+        SpringApplication application = new SpringApplication(SkillLinkApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(StartupReport.BUFFERED_STEPS));
+        application.run(args);
     }
 }
@@ -0,0 +1,43 @@
+package com.skilllink.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skilllink.web.AccessLogFilter;
+import com.skilllink.web.AsyncAccessLogWriter;
+import com.skilllink.web.SqlStatementCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+public class AccessLogConfig {
+
+    @Bean
+    public AsyncAccessLogWriter accessLogWriter(ObjectMapper objectMapper,
+                                                @Value("${skilllink.access-log.buffer-size:8192}") int bufferSize) {
+        return new AsyncAccessLogWriter(objectMapper, bufferSize);
+    }
+
+    @Bean
+    public AccessLogFilter accessLogFilter(AsyncAccessLogWriter accessLogWriter,
+                                           @Value("${skilllink.access-log.enabled:true}") boolean enabled,
+                                           @Value("${skilllink.access-log.sample-rate:1.0}") double sampleRate,
+                                           @Value("${skilllink.access-log.route-sample-rates:}") String routeSampleRates) {
+        return new AccessLogFilter(accessLogWriter, enabled, sampleRate, routeSampleRates);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilterRegistration(AccessLogFilter accessLogFilter) {
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(accessLogFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+}
@@ -0,0 +1,39 @@
+package com.skilllink.config;
+
+import com.skilllink.instrumentation.InstrumentedDataSource;
+import com.skilllink.instrumentation.RepositoryCallSite;
+import com.skilllink.instrumentation.StatementInterceptor;
+import com.skilllink.tracing.Tracer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps the application's {@code dataSource} once with every {@link StatementInterceptor} bean,
+ * in {@code @Order}, and registers the single repository aspect shared by tracing and slow-query
+ * capture.
+ */
+@Configuration
+public class InstrumentationConfig {
+
+    @Bean
+    public RepositoryCallSite repositoryCallSite(Tracer tracer) {
+        return new RepositoryCallSite(tracer);
+    }
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(
+            ObjectProvider<StatementInterceptor> interceptors) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+                    return new InstrumentedDataSource(dataSource, interceptors.orderedStream().toList());
+                }
+                return bean;
+            }
+        };
+    }
+}
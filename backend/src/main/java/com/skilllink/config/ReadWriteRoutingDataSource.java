@@ -0,0 +1,103 @@
+package com.skilllink.config;
+
+import com.skilllink.model.User;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only and non-transactional work to the replica and everything else to the primary.
+ *
+ * <p>When a read-write transaction commits for an authenticated user, that user is pinned to the
+ * primary for {@code stickyWindow} so their own reads never observe replication lag. Until the
+ * application is ready every connection comes from the primary, which keeps schema updates and
+ * seed scripts off the replica during startup.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource
+        implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final int STICKY_SWEEP_THRESHOLD = 10_000;
+
+    private final long stickyWindowNanos;
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+    private volatile boolean replicaReads;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration stickyWindow) {
+        this.stickyWindowNanos = stickyWindow.toNanos();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        replicaReads = true;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!replicaReads) {
+            return Route.PRIMARY;
+        }
+        Long userId = currentUserId();
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterCommit(userId);
+            return Route.PRIMARY;
+        }
+        return userId != null && isPinned(userId) ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    private void pinAfterCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(userId);
+            }
+        });
+    }
+
+    private void pin(Long userId) {
+        long now = System.nanoTime();
+        if (stickyUntil.size() > STICKY_SWEEP_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until - now < 0);
+        }
+        stickyUntil.put(userId, now + stickyWindowNanos);
+    }
+
+    private boolean isPinned(Long userId) {
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() < 0) {
+            stickyUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private enum Route {
+        PRIMARY,
+        REPLICA
+    }
+}
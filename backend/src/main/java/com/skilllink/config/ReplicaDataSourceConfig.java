@@ -0,0 +1,72 @@
+package com.skilllink.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the single auto-configured pool with a primary and a replica pool behind a
+ * {@link ReadWriteRoutingDataSource}. Only active when {@code skilllink.datasource.replica.url}
+ * is set. The lazy proxy defers the routing decision until the first statement, by which time
+ * the transaction's read-only flag is known.
+ *
+ * <p>The query cache is switched off here: a result read from a lagging replica would be cached
+ * as current and outlive the lag until the next write to its tables.
+ */
+@Configuration
+@ConditionalOnProperty(name = "skilllink.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${skilllink.datasource.replica.url}") String url,
+                                              @Value("${skilllink.datasource.replica.username:}") String username,
+                                              @Value("${skilllink.datasource.replica.password:}") String password,
+                                              @Value("${skilllink.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        dataSource.setPassword(username.isEmpty() ? properties.determinePassword() : password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                       HikariDataSource replicaDataSource,
+                                                       @Value("${skilllink.datasource.replica.sticky-window:PT5S}") Duration stickyWindow) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, stickyWindow);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer replicaQueryCacheCustomizer() {
+        return properties -> properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
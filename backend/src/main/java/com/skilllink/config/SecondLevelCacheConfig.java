@@ -0,0 +1,63 @@
+package com.skilllink.config;
+
+import com.skilllink.model.CacheRegions;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Heap-bounded Ehcache regions for the Hibernate second-level and query caches. Each application
+ * context gets its own cache manager, so two contexts in one JVM (as in the test suite) never
+ * share cached rows from different databases.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${skilllink.cache.entity-entries:10000}") long entityEntries,
+            @Value("${skilllink.cache.query-entries:1000}") long queryEntries,
+            @Value("${skilllink.cache.time-to-live:PT10M}") Duration timeToLive) {
+        ConfigurationBuilder regions = ConfigurationBuilder.newConfigurationBuilder()
+                .withCache(CacheRegions.USERS, region(entityEntries, timeToLive))
+                .withCache(CacheRegions.COURSES, region(entityEntries, timeToLive))
+                .withCache(CacheRegions.JOB_SKILLS, region(entityEntries, timeToLive))
+                .withCache(CacheRegions.USERS_BY_EMAIL, region(queryEntries, timeToLive))
+                .withCache(CacheRegions.COURSES_BY_MENTOR, region(queryEntries, timeToLive))
+                .withCache(CacheRegions.JOBS_BY_STATUS, region(queryEntries, timeToLive))
+                .withCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(queryEntries, timeToLive))
+                // Update timestamps must outlive every cached query result, so this region never expires.
+                .withCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                        CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.heap(1_000)));
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("urn:skilllink:l2:" + UUID.randomUUID()), regions.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CacheConfiguration<Object, Object> region(long entries, Duration timeToLive) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                        ResourcePoolsBuilder.heap(entries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive))
+                .build();
+    }
+}
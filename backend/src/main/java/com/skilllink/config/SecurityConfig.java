@@ -1,6 +1,8 @@
 package com.skilllink.config;
 
 import com.skilllink.security.JwtAuthenticationFilter;
+import com.skilllink.security.RateLimitFilter;
+import com.skilllink.web.AccessLogFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -22,9 +24,14 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final AccessLogFilter accessLogFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimitFilter rateLimitFilter,
+                          AccessLogFilter accessLogFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.accessLogFilter = accessLogFilter;
     }
 
     @Bean
@@ -35,9 +42,12 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/courses", "/api/jobs").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/courses", "/api/jobs",
+                                "/api/courses/trending", "/api/jobs/trending", "/api/skills/autocomplete").permitAll()
                         .anyRequest().authenticated())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterBefore(accessLogFilter.principalCapture(), RateLimitFilter.class);
         return http.build();
     }
 
@@ -0,0 +1,70 @@
+package com.skilllink.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skilllink.tracing.InMemorySpanExporter;
+import com.skilllink.tracing.LoggingSpanExporter;
+import com.skilllink.tracing.SpanExporter;
+import com.skilllink.tracing.Tracer;
+import com.skilllink.tracing.TracingAspect;
+import com.skilllink.tracing.TracingFilter;
+import com.skilllink.tracing.TracingJacksonHttpMessageConverter;
+import com.skilllink.tracing.TracingStatementInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Request tracing. Exporters are pluggable: {@code skilllink.tracing.exporter} picks a built-in
+ * one ({@code memory}, {@code log} or {@code none}) and any other {@link SpanExporter} bean is
+ * used as well. With no exporter the tracer never samples and instrumentation is a no-op.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "skilllink.tracing.exporter", havingValue = "memory")
+    public InMemorySpanExporter inMemorySpanExporter(@Value("${skilllink.tracing.memory.max-traces:200}") int maxTraces) {
+        return new InMemorySpanExporter(maxTraces);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "skilllink.tracing.exporter", havingValue = "log")
+    public LoggingSpanExporter loggingSpanExporter() {
+        return new LoggingSpanExporter();
+    }
+
+    @Bean
+    public Tracer tracer(ObjectProvider<SpanExporter> exporters,
+                         @Value("${skilllink.tracing.sample-rate:0.1}") double sampleRate) {
+        return new Tracer(exporters.orderedStream().toList(), sampleRate);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilterRegistration(Tracer tracer) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(tracer));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public TracingAspect tracingAspect(Tracer tracer) {
+        return new TracingAspect(tracer);
+    }
+
+    @Bean
+    public TracingJacksonHttpMessageConverter tracingJacksonHttpMessageConverter(ObjectMapper objectMapper,
+                                                                                 Tracer tracer) {
+        return new TracingJacksonHttpMessageConverter(objectMapper, tracer);
+    }
+
+    @Bean
+    @Order(0)
+    public TracingStatementInterceptor tracingStatementInterceptor(Tracer tracer) {
+        return new TracingStatementInterceptor(tracer);
+    }
+}
@@ -0,0 +1,91 @@
+package com.skilllink.controller;
+
+import com.skilllink.diagnostics.SlowQuery;
+import com.skilllink.diagnostics.SlowQueryLog;
+import com.skilllink.dto.CourseEnrollmentStatsResponse;
+import com.skilllink.dto.JobApplicationStatsResponse;
+import com.skilllink.dto.PlatformStatsResponse;
+import com.skilllink.model.User;
+import com.skilllink.security.AdminAccess;
+import com.skilllink.service.AdminStatsService;
+import com.skilllink.service.StatsRollups;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final AdminAccess adminAccess;
+    private final SlowQueryLog slowQueryLog;
+    private final AdminStatsService adminStatsService;
+    private final StatsRollups statsRollups;
+
+    public AdminController(AdminAccess adminAccess,
+                           SlowQueryLog slowQueryLog,
+                           AdminStatsService adminStatsService,
+                           StatsRollups statsRollups) {
+        this.adminAccess = adminAccess;
+        this.slowQueryLog = slowQueryLog;
+        this.adminStatsService = adminStatsService;
+        this.statsRollups = statsRollups;
+    }
+
+    @GetMapping("/slow-queries")
+    public ResponseEntity<List<SlowQuery>> slowQueries(@AuthenticationPrincipal User user) {
+        adminAccess.requireAdmin(user);
+        return ResponseEntity.ok(slowQueryLog.recent());
+    }
+
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<Void> clearSlowQueries(@AuthenticationPrincipal User user) {
+        adminAccess.requireAdmin(user);
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<PlatformStatsResponse> stats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal User user) {
+        adminAccess.requireAdmin(user);
+        return ResponseEntity.ok(adminStatsService.getPlatformStats(from, to));
+    }
+
+    @GetMapping("/stats/jobs")
+    public ResponseEntity<List<JobApplicationStatsResponse>> jobStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal User user) {
+        adminAccess.requireAdmin(user);
+        return ResponseEntity.ok(adminStatsService.getTopJobs(from, to, limit));
+    }
+
+    @GetMapping("/stats/courses")
+    public ResponseEntity<List<CourseEnrollmentStatsResponse>> courseStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal User user) {
+        adminAccess.requireAdmin(user);
+        return ResponseEntity.ok(adminStatsService.getTopCourses(from, to, limit));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildStats(@AuthenticationPrincipal User user) {
+        adminAccess.requireAdmin(user);
+        return ResponseEntity.ok(Map.of("rollupRows", statsRollups.rebuild()));
+    }
+}
@@ -3,6 +3,10 @@ package com.skilllink.controller;
 import com.skilllink.dto.ApplicationRequest;
 import com.skilllink.dto.ApplicationResponse;
 import com.skilllink.dto.ApplicationStatusUpdateRequest;
+import com.skilllink.dto.CursorPage;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.ForbiddenException;
+import com.skilllink.model.ApplicationStatus;
 import com.skilllink.model.User;
 import com.skilllink.service.ApplicationService;
 import jakarta.validation.Valid;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -37,15 +42,26 @@ public class ApplicationController {
     public ResponseEntity<List<ApplicationResponse>> getForFreelancer(@PathVariable Long id,
                                                                       @AuthenticationPrincipal User user) {
         if (!user.getId().equals(id)) {
-            throw new SecurityException("Cannot view another freelancer's applications");
+            throw new ForbiddenException(ErrorCode.FREELANCER_APPLICATIONS_FORBIDDEN);
         }
         return ResponseEntity.ok(applicationService.getForFreelancer(user));
     }
 
+    @GetMapping("/inbox")
+    public ResponseEntity<CursorPage<ApplicationResponse>> inbox(@RequestParam(required = false) ApplicationStatus status,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(defaultValue = "20") int limit,
+                                                                 @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(applicationService.getInbox(user, status, cursor, limit));
+    }
+
     @GetMapping("/job/{id}")
-    public ResponseEntity<List<ApplicationResponse>> getForJob(@PathVariable Long id,
-                                                               @AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(applicationService.getForJob(id, user));
+    public ResponseEntity<CursorPage<ApplicationResponse>> getForJob(@PathVariable Long id,
+                                                                     @RequestParam(required = false) ApplicationStatus status,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int limit,
+                                                                     @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(applicationService.getForJob(id, status, cursor, limit, user));
     }
 
     @PutMapping("/{id}/status")
@@ -2,18 +2,28 @@ package com.skilllink.controller;
 
 import com.skilllink.dto.CourseRequest;
 import com.skilllink.dto.CourseResponse;
+import com.skilllink.dto.CourseSummaryResponse;
 import com.skilllink.dto.EnrollmentResponse;
 import com.skilllink.model.User;
+import com.skilllink.service.Catalog;
+import com.skilllink.service.CatalogSnapshotCache;
 import com.skilllink.service.CourseService;
+import com.skilllink.service.CourseSort;
+import com.skilllink.service.EnrollmentQueue;
+import com.skilllink.service.FieldSelection;
+import com.skilllink.service.KeysetCursor;
 import jakarta.validation.Valid;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -21,9 +31,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CatalogSnapshotCache snapshots;
+    private final EnrollmentQueue enrollmentQueue;
 
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService, CatalogSnapshotCache snapshots,
+                            EnrollmentQueue enrollmentQueue) {
         this.courseService = courseService;
+        this.snapshots = snapshots;
+        this.enrollmentQueue = enrollmentQueue;
     }
 
     @PostMapping
@@ -33,8 +48,31 @@ public class CourseController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CourseResponse>> getCourses() {
-        return ResponseEntity.ok(courseService.getCourses());
+    public ResponseEntity<byte[]> getCourses(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CourseSort courseSort = CourseSort.fromValue(sort);
+        FieldSelection selection = FieldSelection.of(view, fields, CourseResponse.class, CourseSummaryResponse.class);
+        // Key on what the query actually uses, so equivalent requests share one snapshot.
+        int pageSize = CourseService.pageSize(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String position = after != null ? KeysetCursor.encode(after.key(), after.id()) : null;
+        String key = courseSort + "|" + pageSize + "|" + (position != null ? position : "");
+        return SnapshotResponses.of(
+                snapshots.get(Catalog.COURSES, key, selection, selection.summary()
+                        ? () -> courseService.getCourseSummaries(courseSort, position, pageSize)
+                        : () -> courseService.getCourses(courseSort, position, pageSize)),
+                acceptEncoding, ifNoneMatch);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<CourseResponse>> getTrendingCourses(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(courseService.getTrendingCourses(limit));
     }
 
     @GetMapping("/{id}")
@@ -45,6 +83,9 @@ public class CourseController {
     @PostMapping("/{id}/enroll")
     public ResponseEntity<EnrollmentResponse> enroll(@PathVariable Long id,
                                                      @AuthenticationPrincipal User user) {
+        if (enrollmentQueue.isEnabled()) {
+            return ResponseEntity.accepted().body(enrollmentQueue.enroll(id, user));
+        }
         return ResponseEntity.ok(courseService.enroll(id, user));
     }
 }
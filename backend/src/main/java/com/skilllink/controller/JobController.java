@@ -4,11 +4,20 @@ import com.skilllink.dto.AssignFreelancerRequest;
 import com.skilllink.dto.JobDetailResponse;
 import com.skilllink.dto.JobRequest;
 import com.skilllink.dto.JobResponse;
+import com.skilllink.dto.JobSummaryResponse;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.ForbiddenException;
 import com.skilllink.model.User;
 import com.skilllink.model.UserRole;
+import com.skilllink.service.Catalog;
+import com.skilllink.service.CatalogSnapshotCache;
+import com.skilllink.service.FieldSelection;
 import com.skilllink.service.JobService;
+import com.skilllink.service.KeysetCursor;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,7 +25,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,9 +35,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class JobController {
 
     private final JobService jobService;
+    private final CatalogSnapshotCache snapshots;
 
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService, CatalogSnapshotCache snapshots) {
         this.jobService = jobService;
+        this.snapshots = snapshots;
     }
 
     @PostMapping
@@ -36,14 +49,29 @@ public class JobController {
     }
 
     @GetMapping
-    public ResponseEntity<List<JobResponse>> getJobs() {
-        return ResponseEntity.ok(jobService.getJobs());
+    public ResponseEntity<byte[]> getJobs(
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        FieldSelection selection = FieldSelection.of(view, fields, JobResponse.class, JobSummaryResponse.class);
+        // Both projections are keyset-paged; key on the clamped size and decoded cursor.
+        int pageSize = JobService.pageSize(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String position = after != null ? KeysetCursor.encode("", after.id()) : null;
+        String key = pageSize + "|" + (position != null ? position : "");
+        Supplier<?> loader = selection.summary()
+                ? () -> jobService.getJobSummaries(position, pageSize)
+                : () -> jobService.getJobs(position, pageSize);
+        return SnapshotResponses.of(snapshots.get(Catalog.JOBS, key, selection, loader), acceptEncoding, ifNoneMatch);
     }
 
     @GetMapping("/client")
     public ResponseEntity<List<JobResponse>> getJobsForClient(@AuthenticationPrincipal User user) {
         if (user.getRole() != UserRole.CLIENT) {
-            throw new SecurityException("Only clients can view their posted jobs");
+            throw new ForbiddenException(ErrorCode.POSTED_JOBS_FORBIDDEN);
         }
         return ResponseEntity.ok(jobService.getJobsForClient(user));
     }
@@ -51,11 +79,16 @@ public class JobController {
     @GetMapping("/freelancer")
     public ResponseEntity<List<JobResponse>> getJobsForFreelancer(@AuthenticationPrincipal User user) {
         if (user.getRole() != UserRole.FREELANCER) {
-            throw new SecurityException("Only freelancers can view assigned jobs");
+            throw new ForbiddenException(ErrorCode.ASSIGNED_JOBS_FORBIDDEN);
         }
         return ResponseEntity.ok(jobService.getJobsForFreelancer(user));
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<List<JobResponse>> getTrendingJobs(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(jobService.getTrendingJobs(limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<JobResponse> getJob(@PathVariable Long id) {
         return ResponseEntity.ok(jobService.getJob(id));
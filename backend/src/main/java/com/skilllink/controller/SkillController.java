@@ -0,0 +1,27 @@
+package com.skilllink.controller;
+
+import com.skilllink.dto.SkillSuggestion;
+import com.skilllink.service.SkillDictionary;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/skills")
+public class SkillController {
+
+    private final SkillDictionary skillDictionary;
+
+    public SkillController(SkillDictionary skillDictionary) {
+        this.skillDictionary = skillDictionary;
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SkillSuggestion>> autocomplete(@RequestParam(defaultValue = "") String prefix,
+                                                              @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(skillDictionary.suggest(prefix, limit));
+    }
+}
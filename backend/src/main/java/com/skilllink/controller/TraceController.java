@@ -0,0 +1,54 @@
+package com.skilllink.controller;
+
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.NotFoundException;
+import com.skilllink.model.User;
+import com.skilllink.security.AdminAccess;
+import com.skilllink.tracing.InMemorySpanExporter;
+import com.skilllink.tracing.SpanData;
+import com.skilllink.tracing.TraceSummary;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/traces")
+@ConditionalOnProperty(name = "skilllink.tracing.exporter", havingValue = "memory")
+public class TraceController {
+
+    private final InMemorySpanExporter exporter;
+    private final AdminAccess adminAccess;
+    private final int maxTraces;
+
+    public TraceController(InMemorySpanExporter exporter,
+                           AdminAccess adminAccess,
+                           @Value("${skilllink.tracing.memory.max-traces:200}") int maxTraces) {
+        this.exporter = exporter;
+        this.adminAccess = adminAccess;
+        this.maxTraces = maxTraces;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TraceSummary>> recent(@AuthenticationPrincipal User user,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        adminAccess.requireAdmin(user);
+        return ResponseEntity.ok(exporter.recent(Math.max(1, Math.min(limit, maxTraces))));
+    }
+
+    @GetMapping("/{traceId}")
+    public ResponseEntity<List<SpanData>> trace(@AuthenticationPrincipal User user, @PathVariable String traceId) {
+        adminAccess.requireAdmin(user);
+        List<SpanData> spans = exporter.trace(traceId);
+        if (spans.isEmpty()) {
+            throw new NotFoundException(ErrorCode.TRACE_NOT_FOUND);
+        }
+        return ResponseEntity.ok(spans);
+    }
+}
@@ -1,10 +1,17 @@
 package com.skilllink.controller;
 
+import com.skilllink.dto.CursorPage;
+import com.skilllink.dto.DashboardResponse;
+import com.skilllink.dto.FreelancerProfileResponse;
 import com.skilllink.dto.UpdateUserRequest;
 import com.skilllink.dto.UserResponse;
 import com.skilllink.model.User;
+import com.skilllink.model.UserRole;
+import com.skilllink.service.DashboardService;
+import com.skilllink.service.FreelancerSearchIndex;
 import com.skilllink.service.UserService;
 import jakarta.validation.Valid;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -19,9 +27,26 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final DashboardService dashboardService;
+    private final FreelancerSearchIndex searchIndex;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, DashboardService dashboardService,
+                          FreelancerSearchIndex searchIndex) {
         this.userService = userService;
+        this.dashboardService = dashboardService;
+        this.searchIndex = searchIndex;
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<FreelancerProfileResponse>> search(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean mentor,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        UserRole wantedRole = role == null || role.isBlank() ? null : UserRole.fromValue(role);
+        return ResponseEntity.ok(searchIndex.search(wantedRole, mentor, skills, q, cursor, limit));
     }
 
     @GetMapping("/{id}")
@@ -34,6 +59,11 @@ public class UserController {
         return ResponseEntity.ok(userService.getCurrentUser(user));
     }
 
+    @GetMapping("/me/dashboard")
+    public ResponseEntity<DashboardResponse> dashboard(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(dashboardService.getDashboard(user));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserResponse> update(@PathVariable Long id,
                                                @Valid @RequestBody UpdateUserRequest request,
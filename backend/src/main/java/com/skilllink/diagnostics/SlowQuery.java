@@ -0,0 +1,20 @@
+package com.skilllink.diagnostics;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SlowQuery(
+        Instant capturedAt,
+        String sql,
+        List<String> parameters,
+        long durationMicros,
+        long rows,
+        String repositoryMethod,
+        List<String> callStack,
+        String plan
+) {
+
+    SlowQuery withPlan(String plan) {
+        return new SlowQuery(capturedAt, sql, parameters, durationMicros, rows, repositoryMethod, callStack, plan);
+    }
+}
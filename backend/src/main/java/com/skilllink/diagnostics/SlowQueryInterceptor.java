@@ -0,0 +1,159 @@
+package com.skilllink.diagnostics;
+
+import com.skilllink.instrumentation.RepositoryCallSite;
+import com.skilllink.instrumentation.StatementExecution;
+import com.skilllink.instrumentation.StatementInterceptor;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+/**
+ * Times every statement execution and hands those slower than the threshold to the
+ * {@link SlowQueryLog}. The fast path costs a {@code nanoTime} pair per execution; stack walking,
+ * redaction and result-set row counting only happen for statements that are already over the
+ * threshold. Plans are looked up on the pool underneath the instrumentation so {@code EXPLAIN}
+ * statements are never captured themselves.
+ */
+public class SlowQueryInterceptor implements StatementInterceptor {
+
+    private static final int MAX_STACK_FRAMES = 12;
+    private static final int MAX_VALUE_LENGTH = 200;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final SlowQueryLog slowQueryLog;
+    private final SqlParameterRedactor redactor;
+    private final long thresholdNanos;
+
+    public SlowQueryInterceptor(SlowQueryLog slowQueryLog, Duration threshold, Set<String> redactedUserColumns) {
+        this.slowQueryLog = slowQueryLog;
+        this.redactor = new SqlParameterRedactor("users", redactedUserColumns);
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public Object intercept(StatementExecution execution) throws Throwable {
+        long start = System.nanoTime();
+        Object result = execution.proceed();
+        long elapsed = System.nanoTime() - start;
+        if (elapsed < thresholdNanos) {
+            return result;
+        }
+        PendingCapture capture = new PendingCapture(execution, elapsed);
+        if (result instanceof ResultSet resultSet) {
+            execution.onStatementClose(capture::finish);
+            return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                    new ResultSetHandler(resultSet, capture));
+        }
+        capture.rows = switch (result) {
+            case Integer count -> count;
+            case Long count -> count;
+            case int[] counts -> Arrays.stream(counts).asLongStream().sum();
+            case long[] counts -> Arrays.stream(counts).sum();
+            default -> -1L;
+        };
+        capture.finish();
+        return result;
+    }
+
+    private static String display(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        if (value instanceof InputStream || value instanceof Reader) {
+            return "<stream>";
+        }
+        String text = value.toString();
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) + "…" : text;
+    }
+
+    private static List<String> callStack() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("com.skilllink.")
+                        && !frame.getClassName().startsWith("com.skilllink.diagnostics.")
+                        && !frame.getClassName().startsWith("com.skilllink.instrumentation.")
+                        && !frame.getClassName().startsWith("com.skilllink.tracing.")
+                        && !frame.getClassName().contains("$$"))
+                .limit(MAX_STACK_FRAMES)
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName()
+                        + ":" + frame.getLineNumber())
+                .toList());
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private final class PendingCapture {
+
+        private final Instant capturedAt = Instant.now();
+        private final String sql;
+        private final long elapsedNanos;
+        private final List<Object> boundValues;
+        private final DataSource explainDataSource;
+        private final String repositoryMethod = RepositoryCallSite.current();
+        private final List<String> callStack = callStack();
+        private long rows;
+        private boolean finished;
+
+        PendingCapture(StatementExecution execution, long elapsedNanos) {
+            this.sql = execution.sql();
+            this.elapsedNanos = elapsedNanos;
+            this.boundValues = execution.boundValues();
+            this.explainDataSource = execution.dataSource();
+        }
+
+        void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            List<String> displayed = new ArrayList<>(boundValues.size());
+            boundValues.forEach(value -> displayed.add(display(value)));
+            slowQueryLog.record(new SlowQuery(capturedAt, sql, redactor.redact(sql, displayed),
+                    TimeUnit.NANOSECONDS.toMicros(elapsedNanos), rows, repositoryMethod, callStack, null),
+                    boundValues, explainDataSource);
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final PendingCapture capture;
+
+        ResultSetHandler(ResultSet target, PendingCapture capture) {
+            this.target = target;
+            this.capture = capture;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                capture.rows++;
+            } else if (method.getName().equals("close")) {
+                capture.finish();
+            }
+            return result;
+        }
+    }
+}
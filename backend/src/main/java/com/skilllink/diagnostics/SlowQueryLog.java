@@ -0,0 +1,107 @@
+package com.skilllink.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the most recent slow statements in a bounded ring, oldest evicted first. When plan
+ * capture is on, {@code EXPLAIN} runs on a background thread so the request that was already slow
+ * does not wait for it; if that thread is backed up the capture is kept without a plan.
+ */
+public class SlowQueryLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private final int capacity;
+    private final ArrayDeque<SlowQuery> captures;
+    private final ThreadPoolExecutor explainer;
+
+    public SlowQueryLog(int capacity, boolean explain) {
+        this.capacity = capacity;
+        this.captures = new ArrayDeque<>(capacity);
+        this.explainer = !explain ? null : new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    void record(SlowQuery capture, List<Object> boundValues, DataSource explainDataSource) {
+        log.warn("Slow query ({} us, {} rows) from {}: {}", capture.durationMicros(), capture.rows(),
+                capture.repositoryMethod(), capture.sql());
+        if (explainer == null || !isSelect(capture.sql())) {
+            add(capture);
+            return;
+        }
+        try {
+            explainer.execute(() -> add(capture.withPlan(explain(explainDataSource, capture.sql(), boundValues))));
+        } catch (RejectedExecutionException ex) {
+            add(capture);
+        }
+    }
+
+    public synchronized List<SlowQuery> recent() {
+        List<SlowQuery> newestFirst = new ArrayList<>(captures.size());
+        captures.descendingIterator().forEachRemaining(newestFirst::add);
+        return newestFirst;
+    }
+
+    public synchronized void clear() {
+        captures.clear();
+    }
+
+    private synchronized void add(SlowQuery capture) {
+        if (captures.size() == capacity) {
+            captures.removeFirst();
+        }
+        captures.addLast(capture);
+    }
+
+    private static String explain(DataSource explainDataSource, String sql, List<Object> boundValues) {
+        try (Connection connection = explainDataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < boundValues.size(); i++) {
+                statement.setObject(i + 1, boundValues.get(i));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = statement.executeQuery()) {
+                int columns = rows.getMetaData().getColumnCount();
+                while (rows.next()) {
+                    for (int column = 1; column <= columns; column++) {
+                        plan.append(column > 1 ? "\t" : "").append(rows.getString(column));
+                    }
+                    plan.append('\n');
+                }
+            }
+            return plan.toString().strip();
+        } catch (SQLException | RuntimeException ex) {
+            return "EXPLAIN failed: " + ex.getMessage();
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql != null && sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (explainer != null) {
+            explainer.shutdownNow();
+        }
+    }
+}
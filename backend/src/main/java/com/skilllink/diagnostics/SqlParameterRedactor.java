@@ -0,0 +1,116 @@
+package com.skilllink.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Works out which column each {@code ?} of a statement on a protected table is bound to, and
+ * masks the values bound to protected columns. A placeholder that cannot be attributed to a
+ * column is masked too, so a statement shape this does not understand errs towards hiding data.
+ */
+final class SqlParameterRedactor {
+
+    static final String REDACTED = "***";
+
+    private static final Pattern INSERT = Pattern.compile(
+            "insert\\s+into\\s+(\\w+)\\s*\\(([^)]*)\\)\\s*values\\s*\\(([^)]*)\\)", Pattern.CASE_INSENSITIVE);
+    private static final Set<String> OPERATORS = Set.of("=", "<>", "!=", "<", ">", "<=", ">=", "like", "in");
+    private static final Set<String> PAGING = Set.of("limit", "offset", "first", "next");
+    private static final String PAGING_PLACEHOLDER = "";
+
+    private final Pattern protectedTable;
+    private final Set<String> protectedColumns;
+
+    SqlParameterRedactor(String table, Set<String> columns) {
+        this.protectedTable = Pattern.compile("\\b" + Pattern.quote(table) + "\\b", Pattern.CASE_INSENSITIVE);
+        this.protectedColumns = columns.stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .filter(column -> !column.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    List<String> redact(String sql, List<String> values) {
+        if (sql == null || protectedColumns.isEmpty() || !protectedTable.matcher(sql).find()) {
+            return values;
+        }
+        List<String> columns = placeholderColumns(sql);
+        List<String> redacted = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            String column = i < columns.size() ? columns.get(i) : null;
+            redacted.add(column == null || protectedColumns.contains(column) ? REDACTED : values.get(i));
+        }
+        return redacted;
+    }
+
+    static List<String> placeholderColumns(String sql) {
+        List<String> columns = new ArrayList<>();
+        Matcher insert = INSERT.matcher(sql);
+        if (insert.find()) {
+            String[] names = insert.group(2).split(",");
+            String[] values = insert.group(3).split(",");
+            for (int i = 0; i < values.length; i++) {
+                if (values[i].trim().equals("?")) {
+                    columns.add(i < names.length ? unqualified(names[i].trim()) : null);
+                }
+            }
+            return columns;
+        }
+        for (int i = 0; i < sql.length(); i++) {
+            if (sql.charAt(i) == '?') {
+                columns.add(columnBefore(sql, i));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Reads {@code column op ?} (or {@code column in (?, ?)}) backwards from a placeholder. Row
+     * limits ({@code limit ?}, {@code fetch first ? rows}) are attributed to no column and kept.
+     */
+    private static String columnBefore(String sql, int placeholder) {
+        int i = placeholder - 1;
+        while (i >= 0 && (Character.isWhitespace(sql.charAt(i)) || "?,(".indexOf(sql.charAt(i)) >= 0)) {
+            i--;
+        }
+        int end = i + 1;
+        while (i >= 0 && !Character.isWhitespace(sql.charAt(i)) && !isIdentifierChar(sql.charAt(i))) {
+            i--;
+        }
+        String operator = sql.substring(i + 1, end);
+        if (operator.isEmpty()) {
+            while (i >= 0 && Character.isLetter(sql.charAt(i))) {
+                i--;
+            }
+            operator = sql.substring(i + 1, end);
+        }
+        String keyword = operator.toLowerCase(Locale.ROOT);
+        if (PAGING.contains(keyword)) {
+            return PAGING_PLACEHOLDER;
+        }
+        if (!OPERATORS.contains(keyword)) {
+            return null;
+        }
+        while (i >= 0 && Character.isWhitespace(sql.charAt(i))) {
+            i--;
+        }
+        int identifierEnd = i + 1;
+        while (i >= 0 && (isIdentifierChar(sql.charAt(i)) || sql.charAt(i) == '.')) {
+            i--;
+        }
+        String identifier = sql.substring(i + 1, identifierEnd);
+        return identifier.isEmpty() ? null : unqualified(identifier);
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static String unqualified(String identifier) {
+        return identifier.substring(identifier.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+}
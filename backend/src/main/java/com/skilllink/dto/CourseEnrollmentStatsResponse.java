@@ -0,0 +1,11 @@
+package com.skilllink.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public record CourseEnrollmentStatsResponse(
+        Long courseId,
+        long enrollments,
+        Map<LocalDate, Long> enrollmentsByDay
+) {
+}
@@ -11,6 +11,8 @@ public record CourseResponse(
         BigDecimal price,
         LocalDateTime createdAt,
         Long mentorId,
-        String mentorName
+        String mentorName,
+        long viewCount,
+        long enrollmentCount
 ) {
 }
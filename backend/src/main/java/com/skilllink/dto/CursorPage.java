@@ -0,0 +1,9 @@
+package com.skilllink.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,18 @@
+package com.skilllink.dto;
+
+import com.skilllink.model.JobStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+public record DailyStatsResponse(
+        LocalDate date,
+        long jobsPosted,
+        BigDecimal budgetPosted,
+        Map<JobStatus, Long> jobsByStatus,
+        long applications,
+        long acceptedApplications,
+        long rejectedApplications,
+        long enrollments
+) {
+}
@@ -0,0 +1,15 @@
+package com.skilllink.dto;
+
+import java.util.List;
+
+public record DashboardResponse(
+        UserResponse user,
+        List<JobResponse> postedJobs,
+        List<JobResponse> openJobs,
+        List<JobResponse> assignedJobs,
+        List<ApplicationResponse> applications,
+        List<EnrollmentResponse> enrollments,
+        List<CourseResponse> courses,
+        List<String> unavailable
+) {
+}
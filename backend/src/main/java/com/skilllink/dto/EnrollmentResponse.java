@@ -6,6 +6,7 @@ public record EnrollmentResponse(
         Long id,
         Long courseId,
         Long learnerId,
-        LocalDateTime enrolledAt
+        LocalDateTime enrolledAt,
+        boolean pending
 ) {
 }
@@ -0,0 +1,15 @@
+package com.skilllink.dto;
+
+import com.skilllink.model.UserRole;
+import java.util.List;
+
+public record FreelancerProfileResponse(
+        Long id,
+        String name,
+        UserRole role,
+        boolean mentor,
+        List<String> skills,
+        String bio,
+        Double score
+) {
+}
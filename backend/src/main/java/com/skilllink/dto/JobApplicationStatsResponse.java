@@ -0,0 +1,10 @@
+package com.skilllink.dto;
+
+public record JobApplicationStatsResponse(
+        Long jobId,
+        long applications,
+        long pending,
+        long accepted,
+        long rejected
+) {
+}
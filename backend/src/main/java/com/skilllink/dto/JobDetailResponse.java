@@ -1,9 +1,14 @@
 package com.skilllink.dto;
 
+import com.skilllink.model.ApplicationStatus;
 import java.util.List;
+import java.util.Map;
 
 public record JobDetailResponse(
         JobResponse job,
-        List<ApplicationResponse> applications
+        List<ApplicationResponse> applications,
+        String nextCursor,
+        Map<ApplicationStatus, Long> applicationCounts,
+        long totalApplications
 ) {
 }
\ No newline at end of file
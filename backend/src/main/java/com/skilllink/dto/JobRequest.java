@@ -3,6 +3,7 @@ package com.skilllink.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import java.util.Set;
 
@@ -10,6 +11,7 @@ public record JobRequest(
         @NotBlank String title,
         @NotBlank String description,
         @NotNull @Positive BigDecimal budget,
-        Set<String> skills
+        @Size(max = 30, message = "At most 30 skills are allowed")
+        Set<@Size(max = 100, message = "Skill names are limited to 100 characters") String> skills
 ) {
 }
@@ -1,8 +1,10 @@
 package com.skilllink.dto;
 
+import com.skilllink.model.ApplicationStatus;
 import com.skilllink.model.JobStatus;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Set;
 
 public record JobResponse(
@@ -16,6 +18,8 @@ public record JobResponse(
         Long clientId,
         String clientName,
         Long freelancerId,
-        String freelancerName
+        String freelancerName,
+        long viewCount,
+        Map<ApplicationStatus, Long> applicationCounts
 ) {
 }
@@ -0,0 +1,21 @@
+package com.skilllink.dto;
+
+import com.skilllink.model.JobStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record JobSummaryResponse(
+        Long id,
+        String title,
+        BigDecimal budget,
+        JobStatus status,
+        LocalDateTime createdAt,
+        Set<String> requiredSkills,
+        Long clientId,
+        String clientName,
+        Long freelancerId,
+        String freelancerName,
+        long viewCount
+) {
+}
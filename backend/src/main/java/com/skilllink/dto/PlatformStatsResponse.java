@@ -0,0 +1,19 @@
+package com.skilllink.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record PlatformStatsResponse(
+        LocalDate from,
+        LocalDate to,
+        long jobsPosted,
+        BigDecimal budgetPosted,
+        long applications,
+        long acceptedApplications,
+        long rejectedApplications,
+        Double acceptanceRate,
+        long enrollments,
+        List<DailyStatsResponse> days
+) {
+}
@@ -10,7 +10,7 @@ public record RegisterRequest(
         @Email @NotBlank String email,
         @Size(min = 6, message = "Password must be at least 6 characters") String password,
         UserRole role,
-        String skills,
+        @Size(max = 3100, message = "Skills are limited to 3100 characters") String skills,
         String bio,
         Boolean isMentor
 ) {
@@ -0,0 +1,8 @@
+package com.skilllink.dto;
+
+public record SkillSuggestion(
+        Long id,
+        String name,
+        long usage
+) {
+}
@@ -1,9 +1,11 @@
 package com.skilllink.dto;
 
+import jakarta.validation.constraints.Size;
+
 public record UpdateUserRequest(
         String name,
         String bio,
-        String skills,
+        @Size(max = 3100, message = "Skills are limited to 3100 characters") String skills,
         Boolean isMentor
 ) {
 }
@@ -0,0 +1,11 @@
+package com.skilllink.exception;
+
+/**
+ * An expected failure of a request, such as a missing entity or a caller without access. These
+ * are thrown on every bad request, so implementations skip the stack trace: nothing reads it and
+ * filling it in is most of what throwing costs.
+ */
+public interface DomainException {
+
+    ErrorCode code();
+}
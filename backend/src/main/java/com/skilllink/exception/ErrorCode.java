@@ -0,0 +1,73 @@
+package com.skilllink.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Stable identifiers for the errors the API reports, each with its HTTP status and the message
+ * clients have always received for it. The code is part of the response body, so renaming one
+ * is a breaking change.
+ */
+public enum ErrorCode {
+
+    JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "Job not found"),
+    APPLICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "Application not found"),
+    COURSE_NOT_FOUND(HttpStatus.NOT_FOUND, "Course not found"),
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "User not found"),
+    FREELANCER_NOT_FOUND(HttpStatus.NOT_FOUND, "Freelancer not found"),
+    TRACE_NOT_FOUND(HttpStatus.NOT_FOUND, "Trace not found"),
+
+    JOB_POSTING_FORBIDDEN(HttpStatus.FORBIDDEN, "Only clients can post jobs"),
+    POSTED_JOBS_FORBIDDEN(HttpStatus.FORBIDDEN, "Only clients can view their posted jobs"),
+    ASSIGNED_JOBS_FORBIDDEN(HttpStatus.FORBIDDEN, "Only freelancers can view assigned jobs"),
+    JOB_DETAILS_FORBIDDEN(HttpStatus.FORBIDDEN, "Cannot view details for this job"),
+    JOB_ASSIGNMENT_FORBIDDEN(HttpStatus.FORBIDDEN, "Cannot assign freelancer to someone else's job"),
+    APPLY_FORBIDDEN(HttpStatus.FORBIDDEN, "Only freelancers can apply to jobs"),
+    JOB_APPLICATIONS_FORBIDDEN(HttpStatus.FORBIDDEN, "Cannot view applications for this job"),
+    APPLICATION_UPDATE_FORBIDDEN(HttpStatus.FORBIDDEN, "Cannot modify applications for this job"),
+    INBOX_FORBIDDEN(HttpStatus.FORBIDDEN, "Only clients have an application inbox"),
+    FREELANCER_APPLICATIONS_FORBIDDEN(HttpStatus.FORBIDDEN, "Cannot view another freelancer's applications"),
+    COURSE_CREATION_FORBIDDEN(HttpStatus.FORBIDDEN, "Only mentors/freelancers can create courses"),
+    ENROLLMENT_FORBIDDEN(HttpStatus.FORBIDDEN, "Only learners can enroll in courses"),
+    PROFILE_UPDATE_FORBIDDEN(HttpStatus.FORBIDDEN, "Cannot update another user's profile"),
+    ADMIN_REQUIRED(HttpStatus.FORBIDDEN, "Admin access required"),
+
+    JOB_CLOSED(HttpStatus.BAD_REQUEST, "Cannot apply to closed job"),
+    ALREADY_APPLIED(HttpStatus.BAD_REQUEST, "You have already applied to this job"),
+    APPLICATION_WITHOUT_JOB(HttpStatus.BAD_REQUEST, "Application is not associated with a job"),
+    APPLICATION_ALREADY_PROCESSED(HttpStatus.BAD_REQUEST, "Application has already been processed"),
+    APPLICATION_STATUS_REQUIRED(HttpStatus.BAD_REQUEST, "Status is required"),
+    APPLICATION_STATUS_REVERT(HttpStatus.BAD_REQUEST, "Cannot revert application to APPLIED"),
+    JOB_NOT_ASSIGNABLE(HttpStatus.BAD_REQUEST, "Job is not open for assignment"),
+    NOT_A_FREELANCER(HttpStatus.BAD_REQUEST, "Selected user is not a freelancer"),
+    ALREADY_ENROLLED(HttpStatus.BAD_REQUEST, "Already enrolled"),
+    EMAIL_TAKEN(HttpStatus.BAD_REQUEST, "Email already registered"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "Invalid cursor"),
+    TOO_MANY_SKILLS(HttpStatus.BAD_REQUEST, "At most 30 skills are allowed"),
+    SKILL_NAME_TOO_LONG(HttpStatus.BAD_REQUEST, "Skill names are limited to 100 characters"),
+    SKILL_CREATE_CONFLICT(HttpStatus.CONFLICT, "A skill was added concurrently, retry the request"),
+
+    // Fallbacks for exceptions thrown without a code; their message is the exception's own.
+    BAD_REQUEST(HttpStatus.BAD_REQUEST, null),
+    FORBIDDEN(HttpStatus.FORBIDDEN, null),
+    NOT_FOUND(HttpStatus.NOT_FOUND, null),
+    VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "Validation failed"),
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Invalid email or password"),
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, retry later"),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, null);
+
+    private final HttpStatus status;
+    private final String message;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    public HttpStatus status() {
+        return status;
+    }
+
+    public String message() {
+        return message;
+    }
+}
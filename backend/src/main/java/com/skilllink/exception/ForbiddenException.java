@@ -0,0 +1,21 @@
+package com.skilllink.exception;
+
+public class ForbiddenException extends SecurityException implements DomainException {
+
+    private final ErrorCode code;
+
+    public ForbiddenException(ErrorCode code) {
+        super(code.message());
+        this.code = code;
+    }
+
+    @Override
+    public ErrorCode code() {
+        return code;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
@@ -19,28 +20,28 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(NoSuchElementException.class)
-    public ResponseEntity<Map<String, Object>> handleNotFound(NoSuchElementException ex) {
-        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    public ResponseEntity<byte[]> handleNotFound(NoSuchElementException ex) {
+        return problem(ex, ErrorCode.NOT_FOUND);
     }
 
     @ExceptionHandler({IllegalArgumentException.class, IllegalStateException.class})
-    public ResponseEntity<Map<String, Object>> handleBadRequest(RuntimeException ex) {
-        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    public ResponseEntity<byte[]> handleBadRequest(RuntimeException ex) {
+        return problem(ex, ErrorCode.BAD_REQUEST);
     }
 
     @ExceptionHandler(SecurityException.class)
-    public ResponseEntity<Map<String, Object>> handleForbidden(SecurityException ex) {
-        return buildResponse(HttpStatus.FORBIDDEN, ex.getMessage());
+    public ResponseEntity<byte[]> handleForbidden(SecurityException ex) {
+        return problem(ex, ErrorCode.FORBIDDEN);
     }
 
     @ExceptionHandler(AuthenticationException.class)
-    public ResponseEntity<Map<String, Object>> handleAuthentication(AuthenticationException ex) {
-        return buildResponse(HttpStatus.UNAUTHORIZED, "Invalid email or password");
+    public ResponseEntity<byte[]> handleAuthentication(AuthenticationException ex) {
+        return ProblemResponses.of(ErrorCode.UNAUTHORIZED, ErrorCode.UNAUTHORIZED.message());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
-        Map<String, Object> body = createBody(HttpStatus.BAD_REQUEST, "Validation failed");
+        Map<String, Object> body = createBody(ErrorCode.VALIDATION_FAILED);
 
         Map<String, String> fieldErrors = new HashMap<>();
         List<Map<String, Object>> details = new ArrayList<>();
@@ -70,26 +71,29 @@ public class GlobalExceptionHandler {
         body.put("errorCount", ex.getErrorCount());
         body.put("errors", fieldErrors);
         body.put("details", details);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_PROBLEM_JSON).body(body);
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGeneric(Exception ex) {
-        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error: " + ex.getMessage());
+    public ResponseEntity<byte[]> handleGeneric(Exception ex) {
+        return ProblemResponses.of(ErrorCode.INTERNAL_ERROR, "Unexpected error: " + ex.getMessage());
     }
 
-    private ResponseEntity<Map<String, Object>> buildResponse(HttpStatus status, String message) {
-        Map<String, Object> body = createBody(status, message);
-        return ResponseEntity.status(status).body(body);
+    // Domain exceptions carry their own code; anything else thrown as the same JDK type gets the fallback.
+    private static ResponseEntity<byte[]> problem(RuntimeException ex, ErrorCode fallback) {
+        ErrorCode code = ex instanceof DomainException domain ? domain.code() : fallback;
+        return ProblemResponses.of(code, ex.getMessage());
     }
 
-    private Map<String, Object> createBody(HttpStatus status, String message) {
+    private Map<String, Object> createBody(ErrorCode code) {
         Map<String, Object> body = new HashMap<>();
+        body.put("type", ProblemResponses.type(code));
+        body.put("title", code.status().getReasonPhrase());
+        body.put("status", code.status().value());
+        body.put("code", code.name());
+        body.put("detail", code.message());
+        body.put("message", code.message());
         body.put("timestamp", LocalDateTime.now());
-        body.put("status", status.value());
-        if (message != null && !message.isBlank()) {
-            body.put("message", message);
-        }
         return body;
     }
 
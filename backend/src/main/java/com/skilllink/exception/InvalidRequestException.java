@@ -0,0 +1,26 @@
+package com.skilllink.exception;
+
+public class InvalidRequestException extends IllegalArgumentException implements DomainException {
+
+    private final ErrorCode code;
+
+    public InvalidRequestException(ErrorCode code) {
+        super(code.message());
+        this.code = code;
+    }
+
+    public InvalidRequestException(ErrorCode code, Throwable cause) {
+        super(code.message(), cause);
+        this.code = code;
+    }
+
+    @Override
+    public ErrorCode code() {
+        return code;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
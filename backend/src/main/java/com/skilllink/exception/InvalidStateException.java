@@ -0,0 +1,27 @@
+package com.skilllink.exception;
+
+/** The request is well-formed but conflicts with the current state, e.g. a second enrollment. */
+public class InvalidStateException extends IllegalStateException implements DomainException {
+
+    private final ErrorCode code;
+
+    public InvalidStateException(ErrorCode code) {
+        super(code.message());
+        this.code = code;
+    }
+
+    public InvalidStateException(ErrorCode code, Throwable cause) {
+        super(code.message(), cause);
+        this.code = code;
+    }
+
+    @Override
+    public ErrorCode code() {
+        return code;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
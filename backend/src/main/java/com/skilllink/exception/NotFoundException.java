@@ -0,0 +1,23 @@
+package com.skilllink.exception;
+
+import java.util.NoSuchElementException;
+
+public class NotFoundException extends NoSuchElementException implements DomainException {
+
+    private final ErrorCode code;
+
+    public NotFoundException(ErrorCode code) {
+        super(code.message());
+        this.code = code;
+    }
+
+    @Override
+    public ErrorCode code() {
+        return code;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
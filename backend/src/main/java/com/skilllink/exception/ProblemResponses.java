@@ -0,0 +1,87 @@
+package com.skilllink.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * RFC 7807 {@code application/problem+json} error bodies, pre-encoded per {@link ErrorCode}. A
+ * body is {@code type}, {@code title}, {@code status}, {@code code}, the message as both
+ * {@code detail} and the {@code message} clients already read, and {@code timestamp}. Everything
+ * up to the timestamp is encoded once, so an error with its code's own message costs one array
+ * copy; other messages are escaped per response.
+ */
+public final class ProblemResponses {
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+    private static final byte[] TAIL = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final Map<ErrorCode, Template> TEMPLATES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            TEMPLATES.put(code, new Template(code));
+        }
+    }
+
+    private ProblemResponses() {
+    }
+
+    public static ResponseEntity<byte[]> of(ErrorCode code, String message) {
+        return ResponseEntity.status(code.status())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(body(code, message, LocalDateTime.now()));
+    }
+
+    public static String type(ErrorCode code) {
+        return "urn:skilllink:problem:" + code.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static byte[] body(ErrorCode code, String message, LocalDateTime timestamp) {
+        Template template = TEMPLATES.get(code);
+        byte[] head = template.head(message);
+        byte[] time = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp).getBytes(StandardCharsets.US_ASCII);
+        byte[] body = new byte[head.length + time.length + TAIL.length];
+        System.arraycopy(head, 0, body, 0, head.length);
+        System.arraycopy(time, 0, body, head.length, time.length);
+        System.arraycopy(TAIL, 0, body, head.length + time.length, TAIL.length);
+        return body;
+    }
+
+    private static final class Template {
+
+        private final String fields;
+        private final String defaultMessage;
+        private final byte[] withDefaultMessage;
+
+        Template(ErrorCode code) {
+            this.fields = "{\"type\":\"" + type(code) + "\",\"title\":\"" + code.status().getReasonPhrase()
+                    + "\",\"status\":" + code.status().value()
+                    + ",\"code\":\"" + code.name() + "\"";
+            this.defaultMessage = code.message();
+            this.withDefaultMessage = encode(defaultMessage);
+        }
+
+        byte[] head(String message) {
+            if (message == null ? defaultMessage == null : message.equals(defaultMessage)) {
+                return withDefaultMessage;
+            }
+            return encode(message);
+        }
+
+        // A missing or blank message is left out, as the error bodies always have.
+        private byte[] encode(String message) {
+            StringBuilder head = new StringBuilder(fields);
+            if (message != null && !message.isBlank()) {
+                String quoted = new String(ENCODER.quoteAsString(message));
+                head.append(",\"detail\":\"").append(quoted).append("\",\"message\":\"").append(quoted).append('"');
+            }
+            return head.append(",\"timestamp\":\"").toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.skilllink.instrumentation;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * The one JDBC proxy layer: connections from the wrapped pool hand out statements that run every
+ * execution through the {@link StatementInterceptor}s in order. Tracing, slow-query capture and
+ * the per-request statement count all hook in here, so a statement passes a single proxy however
+ * many of them are on. Bound parameters are tracked for the interceptors at the cost of an array
+ * store each.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final List<StatementInterceptor> interceptors;
+
+    public InstrumentedDataSource(DataSource target, List<StatementInterceptor> interceptors) {
+        super(target);
+        this.interceptors = List.copyOf(interceptors);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        if (interceptors.isEmpty()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            return switch (method.getName()) {
+                case "prepareCall" -> statementProxy(CallableStatement.class, (Statement) result, sql);
+                case "prepareStatement" -> statementProxy(PreparedStatement.class, (Statement) result, sql);
+                case "createStatement" -> statementProxy(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        }
+
+        private Object statementProxy(Class<? extends Statement> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        Object[] parameters = new Object[8];
+        int parameterCount;
+        private Runnable onClose;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                Arrays.fill(parameters, null);
+                parameterCount = 0;
+            } else if (name.equals("close") && onClose != null) {
+                Runnable action = onClose;
+                onClose = null;
+                action.run();
+            }
+            if (!EXECUTE_METHODS.contains(name)) {
+                return InstrumentedDataSource.invoke(target, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            return new StatementExecution(interceptors, this, name, sql,
+                    () -> InstrumentedDataSource.invoke(target, method, args)).proceed();
+        }
+
+        void onClose(Runnable action) {
+            Runnable previous = onClose;
+            onClose = previous == null ? action : () -> {
+                previous.run();
+                action.run();
+            };
+        }
+
+        DataSource dataSource() {
+            return getTargetDataSource();
+        }
+
+        private void bind(int index, Object value) {
+            if (index < 1) {
+                return;
+            }
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+    }
+}
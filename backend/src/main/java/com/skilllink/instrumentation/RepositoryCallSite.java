@@ -0,0 +1,66 @@
+package com.skilllink.instrumentation;
+
+import com.skilllink.tracing.Span;
+import com.skilllink.tracing.SpanKind;
+import com.skilllink.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * The one advice around repository calls. It remembers which repository method the current thread
+ * is inside, since Spring Data repositories are interface proxies and the method never shows up in
+ * a stack trace taken at the JDBC layer, and opens the repository span when a trace is recorded.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RepositoryCallSite {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final Tracer tracer;
+
+    public RepositoryCallSite(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = CURRENT.get();
+        String name = repositoryName(joinPoint.getThis()) + "." + joinPoint.getSignature().getName();
+        CURRENT.set(name);
+        try {
+            if (!tracer.isTracing()) {
+                return joinPoint.proceed();
+            }
+            try (Span span = tracer.startSpan(name, SpanKind.INTERNAL).attribute("layer", "repository")) {
+                try {
+                    return joinPoint.proceed();
+                } catch (Throwable ex) {
+                    span.error(ex);
+                    throw ex;
+                }
+            }
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    private static String repositoryName(Object proxy) {
+        if (proxy != null && AopUtils.isJdkDynamicProxy(proxy) && proxy.getClass().getInterfaces().length > 0) {
+            return proxy.getClass().getInterfaces()[0].getSimpleName();
+        }
+        return proxy != null ? AopUtils.getTargetClass(proxy).getSimpleName() : "?";
+    }
+}
@@ -0,0 +1,64 @@
+package com.skilllink.instrumentation;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * One statement execution passing through the {@link StatementInterceptor} chain: the JDBC method,
+ * its SQL, the values bound so far and the pool underneath the instrumentation.
+ */
+public final class StatementExecution {
+
+    @FunctionalInterface
+    interface Invocation {
+        Object invoke() throws Throwable;
+    }
+
+    private final List<StatementInterceptor> interceptors;
+    private final InstrumentedDataSource.StatementHandler statement;
+    private final String operation;
+    private final String sql;
+    private final Invocation invocation;
+    private int next;
+
+    StatementExecution(List<StatementInterceptor> interceptors, InstrumentedDataSource.StatementHandler statement,
+                       String operation, String sql, Invocation invocation) {
+        this.interceptors = interceptors;
+        this.statement = statement;
+        this.operation = operation;
+        this.sql = sql;
+        this.invocation = invocation;
+    }
+
+    /** The JDBC method, e.g. {@code executeQuery}. */
+    public String operation() {
+        return operation;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    /** A copy of the parameters bound on the statement, by index; {@code setNull} binds {@code null}. */
+    public List<Object> boundValues() {
+        return Arrays.asList(Arrays.copyOf(statement.parameters, statement.parameterCount));
+    }
+
+    /** Runs {@code action} once when the statement is closed. */
+    public void onStatementClose(Runnable action) {
+        statement.onClose(action);
+    }
+
+    /** The pool underneath the instrumentation, for follow-up statements that must not be intercepted. */
+    public DataSource dataSource() {
+        return statement.dataSource();
+    }
+
+    public Object proceed() throws Throwable {
+        if (next < interceptors.size()) {
+            return interceptors.get(next++).intercept(this);
+        }
+        return invocation.invoke();
+    }
+}
@@ -0,0 +1,11 @@
+package com.skilllink.instrumentation;
+
+/**
+ * Around advice for one statement execution on a connection from an {@link InstrumentedDataSource}.
+ * An interceptor calls {@link StatementExecution#proceed()} exactly once and returns its result.
+ */
+@FunctionalInterface
+public interface StatementInterceptor {
+
+    Object intercept(StatementExecution execution) throws Throwable;
+}
@@ -7,14 +7,23 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_status", columnList = "status"),
+        @Index(name = "idx_applications_job_applied", columnList = "job_id, applied_at, id"),
+        @Index(name = "idx_applications_job_status_applied", columnList = "job_id, status, applied_at, id"),
+        @Index(name = "idx_applications_freelancer", columnList = "freelancer_id"),
+        @Index(name = "idx_applications_client_applied", columnList = "client_id, applied_at, id"),
+        @Index(name = "idx_applications_client_status_applied", columnList = "client_id, status, applied_at, id")
+}, uniqueConstraints = @UniqueConstraint(name = "uq_applications", columnNames = {"job_id", "freelancer_id"}))
 public class Application {
 
     @Id
@@ -29,6 +38,10 @@ public class Application {
     @JoinColumn(name = "freelancer_id")
     private User freelancer;
 
+    // Copy of the job's client, which never changes, so the client inbox is served by its own index.
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ApplicationStatus status = ApplicationStatus.APPLIED;
@@ -71,6 +84,14 @@ public class Application {
         this.freelancer = freelancer;
     }
 
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(Long clientId) {
+        this.clientId = clientId;
+    }
+
     public ApplicationStatus getStatus() {
         return status;
     }
@@ -0,0 +1,62 @@
+package com.skilllink.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the shared change log that carries cache invalidations between backend instances.
+ * Rows are written and tailed with plain JDBC by {@code CacheInvalidationBus}; the mapping exists
+ * so the table is created and validated with the rest of the schema.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = @Index(name = "idx_cache_invalidations_created", columnList = "created_at"))
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private InvalidationKind kind;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public CacheInvalidation() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public InvalidationKind getKind() {
+        return kind;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
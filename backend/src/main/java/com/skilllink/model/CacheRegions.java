@@ -0,0 +1,18 @@
+package com.skilllink.model;
+
+/**
+ * Names of the Hibernate second-level cache regions. Every region must be declared in
+ * {@code SecondLevelCacheConfig}; Hibernate refuses to start if one is missing.
+ */
+public final class CacheRegions {
+
+    public static final String USERS = "users";
+    public static final String COURSES = "courses";
+    public static final String JOB_SKILLS = "job-skills";
+    public static final String USERS_BY_EMAIL = "users-by-email";
+    public static final String COURSES_BY_MENTOR = "courses-by-mentor";
+    public static final String JOBS_BY_STATUS = "jobs-by-status";
+
+    private CacheRegions() {
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -15,9 +16,18 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 @Entity
-@Table(name = "courses")
+@Table(name = "courses", indexes = {
+        @Index(name = "idx_courses_created", columnList = "created_at, id"),
+        @Index(name = "idx_courses_price", columnList = "price, id"),
+        @Index(name = "idx_courses_enrollment_count", columnList = "enrollment_count, id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSES)
 public class Course {
 
     @Id
@@ -43,6 +53,17 @@ public class Course {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // Only EngagementCounters' increment SQL writes the counters; entity writes re-read them.
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private long viewCount;
+
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "enrollment_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private long enrollmentCount;
+
     @JsonIgnore
     @OneToMany(mappedBy = "course")
     private Set<Enrollment> enrollments = new HashSet<>();
@@ -111,6 +132,22 @@ public class Course {
         this.createdAt = createdAt;
     }
 
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(long viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public long getEnrollmentCount() {
+        return enrollmentCount;
+    }
+
+    public void setEnrollmentCount(long enrollmentCount) {
+        this.enrollmentCount = enrollmentCount;
+    }
+
     public Set<Enrollment> getEnrollments() {
         return enrollments;
     }
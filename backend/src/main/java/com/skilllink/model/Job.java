@@ -9,7 +9,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
@@ -18,9 +21,17 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_status", columnList = "status"),
+        @Index(name = "idx_jobs_client", columnList = "client_id"),
+        @Index(name = "idx_jobs_freelancer", columnList = "freelancer_id")
+})
 public class Job {
 
     @Id
@@ -51,11 +62,26 @@ public class Job {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // Only EngagementCounters' increment SQL writes the counters; entity writes re-read them.
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private long viewCount;
+
     @ElementCollection
-    @CollectionTable(name = "job_skills", joinColumns = @JoinColumn(name = "job_id"))
+    @CollectionTable(name = "job_skills", joinColumns = @JoinColumn(name = "job_id"),
+            indexes = @Index(name = "idx_job_skills_skill", columnList = "skill"))
     @Column(name = "skill")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.JOB_SKILLS)
     private Set<String> requiredSkills = new HashSet<>();
 
+    // Normalized form of requiredSkills; the strings above hold the canonical display names.
+    @ManyToMany
+    @JoinTable(name = "job_required_skills", joinColumns = @JoinColumn(name = "job_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_job_required_skills_skill", columnList = "skill_id"))
+    private Set<Skill> canonicalSkills = new HashSet<>();
+
     @OneToMany(mappedBy = "job")
     private Set<Application> applications = new HashSet<>();
 
@@ -134,6 +160,14 @@ public class Job {
         this.createdAt = createdAt;
     }
 
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(long viewCount) {
+        this.viewCount = viewCount;
+    }
+
     public Set<String> getRequiredSkills() {
         return requiredSkills;
     }
@@ -142,6 +176,14 @@ public class Job {
         this.requiredSkills = requiredSkills;
     }
 
+    public Set<Skill> getCanonicalSkills() {
+        return canonicalSkills;
+    }
+
+    public void setCanonicalSkills(Set<Skill> canonicalSkills) {
+        this.canonicalSkills = canonicalSkills;
+    }
+
     public Set<Application> getApplications() {
         return applications;
     }
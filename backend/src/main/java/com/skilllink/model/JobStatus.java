@@ -3,5 +3,6 @@ package com.skilllink.model;
 public enum JobStatus {
     OPEN,
     IN_PROGRESS,
-    COMPLETED
+    COMPLETED,
+    CLOSED
 }
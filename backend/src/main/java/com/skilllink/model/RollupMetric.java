@@ -0,0 +1,7 @@
+package com.skilllink.model;
+
+public enum RollupMetric {
+    JOBS,
+    APPLICATIONS,
+    ENROLLMENTS
+}
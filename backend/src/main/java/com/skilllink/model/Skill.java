@@ -0,0 +1,60 @@
+package com.skilllink.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Canonical dictionary entry. {@code slug} is the normalized key every spelling resolves to;
+ * {@code name} is the display form.
+ */
+@Entity
+@Table(name = "skills", uniqueConstraints = @UniqueConstraint(name = "uq_skills_slug", columnNames = "slug"))
+public class Skill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String slug;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    public Skill() {
+    }
+
+    public Skill(String slug, String name) {
+        this.slug = slug;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
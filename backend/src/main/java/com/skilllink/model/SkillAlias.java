@@ -0,0 +1,44 @@
+package com.skilllink.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * Another normalized spelling of a skill ("reactjs" for React).
+ */
+@Entity
+@Table(name = "skill_aliases", indexes = @Index(name = "idx_skill_aliases_skill", columnList = "skill_id"))
+public class SkillAlias {
+
+    @Id
+    @Column(length = 100)
+    private String alias;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "skill_id")
+    private Skill skill;
+
+    public SkillAlias() {
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    public void setAlias(String alias) {
+        this.alias = alias;
+    }
+
+    public Skill getSkill() {
+        return skill;
+    }
+
+    public void setSkill(Skill skill) {
+        this.skill = skill;
+    }
+}
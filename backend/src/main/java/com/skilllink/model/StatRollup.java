@@ -0,0 +1,83 @@
+package com.skilllink.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One pre-aggregated admin metric cell: how many jobs, applications or enrollments from one day
+ * are currently in one status, per subject (the job for applications, the course for
+ * enrollments, {@code 0} for jobs), with the summed job budget in {@code amount}. Rows are
+ * maintained with plain JDBC by {@code StatsRollups}; the mapping exists so the table is created
+ * and validated with the rest of the schema.
+ */
+@Entity
+@Table(name = "stat_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uq_stat_rollups",
+                columnNames = {"metric", "stat_date", "subject_id", "status"}),
+        indexes = @Index(name = "idx_stat_rollups_subject", columnList = "metric, subject_id"))
+public class StatRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private RollupMetric metric;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "subject_id", nullable = false)
+    private Long subjectId;
+
+    @Column(nullable = false, length = 32)
+    private String status;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    public StatRollup() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public RollupMetric getMetric() {
+        return metric;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public Long getSubjectId() {
+        return subjectId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+}
@@ -8,18 +8,25 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 public class User implements UserDetails {
 
     @Id
@@ -41,6 +48,14 @@ public class User implements UserDetails {
     @Column(columnDefinition = "TEXT")
     private String skills;
 
+    // Normalized form of skills; the text above holds the canonical display names, comma-separated.
+    @JsonIgnore
+    @ManyToMany
+    @JoinTable(name = "user_skills", joinColumns = @JoinColumn(name = "user_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_user_skills_skill", columnList = "skill_id"))
+    private Set<Skill> canonicalSkills = new HashSet<>();
+
     @Column(columnDefinition = "TEXT")
     private String bio;
 
@@ -178,6 +193,14 @@ public class User implements UserDetails {
         this.enrollments = enrollments;
     }
 
+    public Set<Skill> getCanonicalSkills() {
+        return canonicalSkills;
+    }
+
+    public void setCanonicalSkills(Set<Skill> canonicalSkills) {
+        this.canonicalSkills = canonicalSkills;
+    }
+
     public Set<Application> getApplications() {
         return applications;
     }
@@ -1,11 +1,77 @@
 package com.skilllink.repository;
 
 import com.skilllink.model.Application;
+import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.JobStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     List<Application> findByFreelancerId(Long freelancerId);
     List<Application> findByJobId(Long jobId);
     boolean existsByJobIdAndFreelancerId(Long jobId, Long freelancerId);
+
+    @Query("select a from Application a join fetch a.freelancer where a.job.id = :jobId "
+            + "and a.appliedAt >= :appliedAt and (a.appliedAt > :appliedAt or a.id > :id) "
+            + "order by a.appliedAt asc, a.id asc")
+    List<Application> findPageByJobAfter(@Param("jobId") Long jobId,
+                                         @Param("appliedAt") LocalDateTime appliedAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query("select a from Application a join fetch a.freelancer where a.job.id = :jobId and a.status = :status "
+            + "and a.appliedAt >= :appliedAt and (a.appliedAt > :appliedAt or a.id > :id) "
+            + "order by a.appliedAt asc, a.id asc")
+    List<Application> findPageByJobAndStatusAfter(@Param("jobId") Long jobId,
+                                                  @Param("status") ApplicationStatus status,
+                                                  @Param("appliedAt") LocalDateTime appliedAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query("select a from Application a join fetch a.job join fetch a.freelancer where a.clientId = :clientId "
+            + "and a.appliedAt <= :appliedAt and (a.appliedAt < :appliedAt or a.id < :id) "
+            + "order by a.appliedAt desc, a.id desc")
+    List<Application> findInboxPageBefore(@Param("clientId") Long clientId,
+                                          @Param("appliedAt") LocalDateTime appliedAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    @Query("select a from Application a join fetch a.job join fetch a.freelancer where a.clientId = :clientId "
+            + "and a.status = :status and a.appliedAt <= :appliedAt and (a.appliedAt < :appliedAt or a.id < :id) "
+            + "order by a.appliedAt desc, a.id desc")
+    List<Application> findInboxPageByStatusBefore(@Param("clientId") Long clientId,
+                                                  @Param("status") ApplicationStatus status,
+                                                  @Param("appliedAt") LocalDateTime appliedAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query("select new com.skilllink.repository.ApplicationStatusCount(a.job.id, a.status, count(a)) "
+            + "from Application a where a.job.id in :jobIds group by a.job.id, a.status")
+    List<ApplicationStatusCount> countByJobIdsGroupedByStatus(@Param("jobIds") Collection<Long> jobIds);
+
+    @Modifying
+    @Query("update Application a set a.status = :target where a.status = :expected "
+            + "and a.job.id in (select j.id from Job j where j.id in :jobIds and j.status = :jobStatus)")
+    int updateStatusForJobs(@Param("jobIds") Collection<Long> jobIds,
+                            @Param("jobStatus") JobStatus jobStatus,
+                            @Param("expected") ApplicationStatus expected,
+                            @Param("target") ApplicationStatus target);
+
+    @Query("select coalesce(max(a.id), 0) from Application a")
+    long findMaxId();
+
+    @Query("select new com.skilllink.repository.ApplicationRollupRow(a.id, a.job.id, a.status, a.appliedAt) "
+            + "from Application a where a.id > :afterId and a.id <= :throughId")
+    List<ApplicationRollupRow> findRollupRows(@Param("afterId") Long afterId, @Param("throughId") Long throughId);
+
+    @Query("select new com.skilllink.repository.ApplicationRollupRow(a.id, a.job.id, a.status, a.appliedAt) "
+            + "from Application a where a.job.id in :jobIds and a.status = :status")
+    List<ApplicationRollupRow> findRollupRowsByJobIdInAndStatus(@Param("jobIds") Collection<Long> jobIds,
+                                                                @Param("status") ApplicationStatus status);
 }
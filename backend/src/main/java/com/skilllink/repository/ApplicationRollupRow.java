@@ -0,0 +1,7 @@
+package com.skilllink.repository;
+
+import com.skilllink.model.ApplicationStatus;
+import java.time.LocalDateTime;
+
+public record ApplicationRollupRow(Long id, Long jobId, ApplicationStatus status, LocalDateTime appliedAt) {
+}
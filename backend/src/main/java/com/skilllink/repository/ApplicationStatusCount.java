@@ -0,0 +1,6 @@
+package com.skilllink.repository;
+
+import com.skilllink.model.ApplicationStatus;
+
+public record ApplicationStatusCount(Long jobId, ApplicationStatus status, long count) {
+}
@@ -1,9 +1,74 @@
 package com.skilllink.repository;
 
+import com.skilllink.model.CacheRegions;
 import com.skilllink.model.Course;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
+
+    String SUMMARY_SELECT = "select new com.skilllink.repository.CourseSummaryRow(c.id, c.title, c.price, c.createdAt, "
+            + "m.id, m.name, c.viewCount, c.enrollmentCount) from Course c join c.mentor m ";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.COURSES_BY_MENTOR)
+    })
     List<Course> findByMentorId(Long mentorId);
+
+    @Query("select c from Course c join fetch c.mentor where c.id in :ids")
+    List<Course> findWithMentorByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select c from Course c join fetch c.mentor "
+            + "where c.createdAt <= :createdAt and (c.createdAt < :createdAt or c.id < :id) "
+            + "order by c.createdAt desc, c.id desc")
+    List<Course> findNewestAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select c from Course c join fetch c.mentor "
+            + "where c.price >= :price and (c.price > :price or c.id > :id) "
+            + "order by c.price asc, c.id asc")
+    List<Course> findCheapestAfter(@Param("price") BigDecimal price, @Param("id") Long id, Pageable pageable);
+
+    @Query("select c from Course c join fetch c.mentor "
+            + "where c.price <= :price and (c.price < :price or c.id < :id) "
+            + "order by c.price desc, c.id desc")
+    List<Course> findPriciestAfter(@Param("price") BigDecimal price, @Param("id") Long id, Pageable pageable);
+
+    @Query("select c from Course c join fetch c.mentor "
+            + "where c.enrollmentCount <= :enrollments and (c.enrollmentCount < :enrollments or c.id < :id) "
+            + "order by c.enrollmentCount desc, c.id desc")
+    List<Course> findMostPopularAfter(@Param("enrollments") long enrollments, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT
+            + "where c.createdAt <= :createdAt and (c.createdAt < :createdAt or c.id < :id) "
+            + "order by c.createdAt desc, c.id desc")
+    List<CourseSummaryRow> findNewestSummariesAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                    Pageable pageable);
+
+    @Query(SUMMARY_SELECT
+            + "where c.price >= :price and (c.price > :price or c.id > :id) "
+            + "order by c.price asc, c.id asc")
+    List<CourseSummaryRow> findCheapestSummariesAfter(@Param("price") BigDecimal price, @Param("id") Long id,
+                                                      Pageable pageable);
+
+    @Query(SUMMARY_SELECT
+            + "where c.price <= :price and (c.price < :price or c.id < :id) "
+            + "order by c.price desc, c.id desc")
+    List<CourseSummaryRow> findPriciestSummariesAfter(@Param("price") BigDecimal price, @Param("id") Long id,
+                                                      Pageable pageable);
+
+    @Query(SUMMARY_SELECT
+            + "where c.enrollmentCount <= :enrollments and (c.enrollmentCount < :enrollments or c.id < :id) "
+            + "order by c.enrollmentCount desc, c.id desc")
+    List<CourseSummaryRow> findMostPopularSummariesAfter(@Param("enrollments") long enrollments, @Param("id") Long id,
+                                                         Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package com.skilllink.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CourseSummaryRow(
+        Long id,
+        String title,
+        BigDecimal price,
+        LocalDateTime createdAt,
+        Long mentorId,
+        String mentorName,
+        long viewCount,
+        long enrollmentCount
+) {
+}
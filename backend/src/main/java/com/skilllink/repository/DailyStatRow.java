@@ -0,0 +1,7 @@
+package com.skilllink.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyStatRow(LocalDate day, String status, long total, BigDecimal amount) {
+}
@@ -1,10 +1,32 @@
 package com.skilllink.repository;
 
 import com.skilllink.model.Enrollment;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     boolean existsByCourseIdAndLearnerId(Long courseId, Long learnerId);
     List<Enrollment> findByLearnerId(Long learnerId);
+
+    @Query("select coalesce(max(e.id), 0) from Enrollment e")
+    long findMaxId();
+
+    @Query("select new com.skilllink.repository.EnrollmentRollupRow(e.id, e.course.id, e.enrolledAt) "
+            + "from Enrollment e where e.id > :afterId and e.id <= :throughId")
+    List<EnrollmentRollupRow> findRollupRows(@Param("afterId") Long afterId, @Param("throughId") Long throughId);
+
+    @Query("select e.learner.id from Enrollment e where e.course.id = :courseId")
+    List<Long> findLearnerIdsByCourseId(@Param("courseId") Long courseId);
+
+    @Query("select e.learner.id from Enrollment e where e.course.id = :courseId and e.learner.id in :learnerIds")
+    List<Long> findLearnerIdsByCourseIdAndLearnerIdIn(@Param("courseId") Long courseId,
+                                                      @Param("learnerIds") Collection<Long> learnerIds);
+
+    @Query("select new com.skilllink.repository.EnrollmentRollupRow(e.id, e.course.id, e.enrolledAt) "
+            + "from Enrollment e where e.course.id = :courseId and e.learner.id in :learnerIds")
+    List<EnrollmentRollupRow> findRollupRowsByCourseIdAndLearnerIdIn(@Param("courseId") Long courseId,
+                                                                     @Param("learnerIds") Collection<Long> learnerIds);
 }
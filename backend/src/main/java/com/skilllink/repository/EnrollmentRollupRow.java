@@ -0,0 +1,6 @@
+package com.skilllink.repository;
+
+import java.time.LocalDateTime;
+
+public record EnrollmentRollupRow(Long id, Long courseId, LocalDateTime enrolledAt) {
+}
@@ -1,17 +1,92 @@
 package com.skilllink.repository;
 
+import com.skilllink.model.CacheRegions;
 import com.skilllink.model.Job;
 import com.skilllink.model.JobStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface JobRepository extends JpaRepository<Job, Long> {
     List<Job> findByClientId(Long clientId);
-    List<Job> findByFreelancerId(Long freelancerId);
+
+    // Explicit so the filter stays on jobs.freelancer_id; the derived query left-joins users and scans jobs.
+    @Query("select j from Job j where j.freelancer.id = :freelancerId")
+    List<Job> findByFreelancerId(@Param("freelancerId") Long freelancerId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.JOBS_BY_STATUS)
+    })
     List<Job> findByStatus(JobStatus status);
 
-    @EntityGraph(attributePaths = {"client", "freelancer", "applications", "applications.freelancer"})
-    Optional<Job> findWithApplicationsById(Long id);
+    @Query("select j from Job j join fetch j.client left join fetch j.freelancer where j.status = :status "
+            + "order by j.id desc")
+    List<Job> findRecentByStatus(@Param("status") JobStatus status, Pageable pageable);
+
+    @Query("select new com.skilllink.repository.JobSummaryRow(j.id, j.title, j.budget, j.status, j.createdAt, "
+            + "c.id, c.name, f.id, f.name, j.viewCount) from Job j join j.client c left join j.freelancer f "
+            + "where j.id > :afterId order by j.id")
+    List<JobSummaryRow> findSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new com.skilllink.repository.JobSkillRow(j.id, s) from Job j join j.requiredSkills s "
+            + "where j.id in :ids")
+    List<JobSkillRow> findSkillsByJobIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select j.id from Job j where j.id > :afterId and j.requiredSkills is not empty "
+            + "and j.canonicalSkills is empty order by j.id")
+    List<Long> findIdsWithoutCanonicalSkills(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select j from Job j join fetch j.client left join fetch j.freelancer where j.id > :afterId order by j.id")
+    List<Job> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select j from Job j join fetch j.client left join fetch j.freelancer where j.id in :ids")
+    List<Job> findWithPartiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"client", "freelancer"})
+    Optional<Job> findWithPartiesById(Long id);
+
+    @Query("select j.id from Job j where j.status = :status and j.id > :afterId and j.createdAt < :cutoff "
+            + "and not exists (select a.id from Application a where a.job = j and a.appliedAt >= :cutoff) "
+            + "order by j.id")
+    List<Long> findIdleJobIds(@Param("status") JobStatus status,
+                              @Param("afterId") Long afterId,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              Pageable pageable);
+
+    // Locks the rows it returns, so a concurrent sweep waits and then no longer sees them as OPEN.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.skilllink.repository.JobRollupRow(j.id, j.createdAt, j.status, j.budget) from Job j "
+            + "where j.id in :ids and j.status = :status and j.createdAt < :cutoff "
+            + "and not exists (select a.id from Application a where a.job = j and a.appliedAt >= :cutoff)")
+    List<JobRollupRow> lockIdleRollupRows(@Param("ids") Collection<Long> ids,
+                                          @Param("status") JobStatus status,
+                                          @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("update Job j set j.status = :target where j.id in :ids and j.status = :expected and j.createdAt < :cutoff "
+            + "and not exists (select a.id from Application a where a.job = j and a.appliedAt >= :cutoff)")
+    int closeIdleJobs(@Param("ids") Collection<Long> ids,
+                      @Param("expected") JobStatus expected,
+                      @Param("target") JobStatus target,
+                      @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("select coalesce(max(j.id), 0) from Job j")
+    long findMaxId();
+
+    @Query("select new com.skilllink.repository.JobRollupRow(j.id, j.createdAt, j.status, j.budget) from Job j "
+            + "where j.id > :afterId and j.id <= :throughId")
+    List<JobRollupRow> findRollupRows(@Param("afterId") Long afterId, @Param("throughId") Long throughId);
 }
@@ -0,0 +1,8 @@
+package com.skilllink.repository;
+
+import com.skilllink.model.JobStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record JobRollupRow(Long id, LocalDateTime createdAt, JobStatus status, BigDecimal budget) {
+}
@@ -0,0 +1,4 @@
+package com.skilllink.repository;
+
+public record JobSkillRow(Long jobId, String skill) {
+}
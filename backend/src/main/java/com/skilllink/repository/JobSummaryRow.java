@@ -0,0 +1,19 @@
+package com.skilllink.repository;
+
+import com.skilllink.model.JobStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record JobSummaryRow(
+        Long id,
+        String title,
+        BigDecimal budget,
+        JobStatus status,
+        LocalDateTime createdAt,
+        Long clientId,
+        String clientName,
+        Long freelancerId,
+        String freelancerName,
+        long viewCount
+) {
+}
@@ -0,0 +1,4 @@
+package com.skilllink.repository;
+
+public record SkillKeyRow(String key, Long skillId) {
+}
@@ -0,0 +1,28 @@
+package com.skilllink.repository;
+
+import com.skilllink.model.Skill;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SkillRepository extends JpaRepository<Skill, Long> {
+
+    List<Skill> findBySlugIn(Collection<String> slugs);
+
+    @Query("select new com.skilllink.repository.SkillKeyRow(a.alias, a.skill.id) from SkillAlias a "
+            + "where a.alias in :aliases")
+    List<SkillKeyRow> findAliasesIn(@Param("aliases") Collection<String> aliases);
+
+    @Query("select new com.skilllink.repository.SkillKeyRow(a.alias, a.skill.id) from SkillAlias a")
+    List<SkillKeyRow> findAllAliases();
+
+    @Query("select new com.skilllink.repository.SkillUsageRow(s.id, count(j.id)) "
+            + "from Job j join j.canonicalSkills s group by s.id")
+    List<SkillUsageRow> countJobUsage();
+
+    @Query("select new com.skilllink.repository.SkillUsageRow(s.id, count(u.id)) "
+            + "from User u join u.canonicalSkills s group by s.id")
+    List<SkillUsageRow> countUserUsage();
+}
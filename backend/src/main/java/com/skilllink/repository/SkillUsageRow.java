@@ -0,0 +1,4 @@
+package com.skilllink.repository;
+
+public record SkillUsageRow(Long skillId, long usage) {
+}
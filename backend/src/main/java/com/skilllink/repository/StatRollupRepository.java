@@ -0,0 +1,25 @@
+package com.skilllink.repository;
+
+import com.skilllink.model.RollupMetric;
+import com.skilllink.model.StatRollup;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StatRollupRepository extends JpaRepository<StatRollup, Long> {
+
+    @Query("select new com.skilllink.repository.DailyStatRow(r.statDate, r.status, sum(r.total), sum(r.amount)) "
+            + "from StatRollup r where r.metric = :metric and r.statDate between :from and :to "
+            + "group by r.statDate, r.status order by r.statDate, r.status")
+    List<DailyStatRow> sumByDay(@Param("metric") RollupMetric metric,
+                                @Param("from") LocalDate from,
+                                @Param("to") LocalDate to);
+
+    @Query("select new com.skilllink.repository.SubjectStatRow(r.subjectId, r.statDate, r.status, r.total) "
+            + "from StatRollup r where r.metric = :metric and r.statDate between :from and :to and r.total <> 0")
+    List<SubjectStatRow> findBySubject(@Param("metric") RollupMetric metric,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+}
@@ -0,0 +1,6 @@
+package com.skilllink.repository;
+
+import java.time.LocalDate;
+
+public record SubjectStatRow(Long subjectId, LocalDate day, String status, long total) {
+}
@@ -0,0 +1,13 @@
+package com.skilllink.repository;
+
+import com.skilllink.model.UserRole;
+
+public record UserProfileRow(
+        Long id,
+        String name,
+        UserRole role,
+        boolean mentor,
+        String skills,
+        String bio
+) {
+}
@@ -1,10 +1,34 @@
 package com.skilllink.repository;
 
+import com.skilllink.model.CacheRegions;
 import com.skilllink.model.User;
+import com.skilllink.model.UserRole;
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USERS_BY_EMAIL)
+    })
     Optional<User> findByEmail(String email);
+
     boolean existsByEmail(String email);
+
+    @Query("select u.id from User u where u.id > :afterId and length(u.skills) > 0 "
+            + "and u.canonicalSkills is empty order by u.id")
+    List<Long> findIdsWithoutCanonicalSkills(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new com.skilllink.repository.UserProfileRow(u.id, u.name, u.role, u.isMentor, u.skills, u.bio) "
+            + "from User u where u.role = :role and u.id > :afterId order by u.id")
+    List<UserProfileRow> findProfilesByRoleAfter(@Param("role") UserRole role,
+                                                 @Param("afterId") Long afterId,
+                                                 Pageable pageable);
 }
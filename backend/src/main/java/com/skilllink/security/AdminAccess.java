@@ -0,0 +1,35 @@
+package com.skilllink.security;
+
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.ForbiddenException;
+import com.skilllink.model.User;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operators are named by email in {@code skilllink.admin.emails}; there is no admin role in the
+ * user model.
+ */
+@Component
+public class AdminAccess {
+
+    private final Set<String> adminEmails;
+
+    public AdminAccess(@Value("${skilllink.admin.emails:}") String adminEmails) {
+        this.adminEmails = Arrays.stream(adminEmails.split(","))
+                .map(email -> email.trim().toLowerCase(Locale.ROOT))
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public void requireAdmin(User user) {
+        if (user == null || user.getEmail() == null
+                || !adminEmails.contains(user.getEmail().toLowerCase(Locale.ROOT))) {
+            throw new ForbiddenException(ErrorCode.ADMIN_REQUIRED);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.skilllink.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public enum RateLimitGroup {
+    AUTH,
+    CATALOG,
+    WRITES;
+
+    public static RateLimitGroup of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/auth/")) {
+            return AUTH;
+        }
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+            return path.startsWith("/api/") ? WRITES : null;
+        }
+        if (path.startsWith("/api/jobs") || path.startsWith("/api/courses") || path.startsWith("/api/users/search")
+                || path.startsWith("/api/skills")) {
+            return CATALOG;
+        }
+        return null;
+    }
+}
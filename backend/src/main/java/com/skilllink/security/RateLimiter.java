@@ -0,0 +1,153 @@
+package com.skilllink.security;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token buckets implemented as GCRA: each key stores only its theoretical arrival time in an
+ * {@link AtomicLong}, and a request is admitted by a single compare-and-set when the bucket still
+ * has room. A key whose arrival time has passed holds a full bucket, which is indistinguishable
+ * from a missing key, so idle keys are dropped by the periodic sweep. Between sweeps, a bucket
+ * holding more than {@link #SWEEP_THRESHOLD} keys checks a few more of them each time a new key
+ * arrives, so a flood of one-off keys cannot outgrow memory and no single request pays for a full
+ * scan.
+ */
+@Component
+public class RateLimiter {
+
+    static final int SWEEP_THRESHOLD = 100_000;
+    static final int SWEEP_BATCH = 64;
+
+    private final Map<RateLimitGroup, Bucket> buckets = new EnumMap<>(RateLimitGroup.class);
+    private final LongSupplier clock;
+
+    @Autowired
+    public RateLimiter(@Value("${skilllink.rate-limit.auth.capacity:10}") int authCapacity,
+                       @Value("${skilllink.rate-limit.auth.period:PT1M}") Duration authPeriod,
+                       @Value("${skilllink.rate-limit.catalog.capacity:120}") int catalogCapacity,
+                       @Value("${skilllink.rate-limit.catalog.period:PT1M}") Duration catalogPeriod,
+                       @Value("${skilllink.rate-limit.writes.capacity:60}") int writesCapacity,
+                       @Value("${skilllink.rate-limit.writes.period:PT1M}") Duration writesPeriod) {
+        this(Map.of(
+                RateLimitGroup.AUTH, new Limit(authCapacity, authPeriod),
+                RateLimitGroup.CATALOG, new Limit(catalogCapacity, catalogPeriod),
+                RateLimitGroup.WRITES, new Limit(writesCapacity, writesPeriod)), System::nanoTime);
+    }
+
+    RateLimiter(Map<RateLimitGroup, Limit> limits, LongSupplier clock) {
+        this.clock = clock;
+        limits.forEach((group, limit) -> {
+            if (limit.capacity() < 1 || limit.period().isNegative() || limit.period().isZero()) {
+                throw new IllegalArgumentException("Invalid rate limit for " + group + ": " + limit);
+            }
+            buckets.put(group, new Bucket(limit.capacity(), limit.period().toNanos()));
+        });
+    }
+
+    public Decision acquire(RateLimitGroup group, String key) {
+        Bucket bucket = buckets.get(group);
+        if (bucket == null) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        AtomicLong state = bucket.states.get(key);
+        if (state == null) {
+            if (bucket.states.size() > SWEEP_THRESHOLD) {
+                bucket.sweepSome(now);
+            }
+            AtomicLong created = new AtomicLong(now);
+            state = bucket.states.putIfAbsent(key, created);
+            if (state == null) {
+                state = created;
+            }
+        }
+        while (true) {
+            long tat = state.get();
+            long base = tat - now > 0 ? tat : now;
+            long next = base + bucket.interval;
+            long backlog = next - now;
+            if (backlog > bucket.period) {
+                return new Decision(false, bucket.capacity, 0, tat - now, backlog - bucket.period);
+            }
+            if (state.compareAndSet(tat, next)) {
+                int remaining = (int) ((bucket.period - backlog) / bucket.interval);
+                return new Decision(true, bucket.capacity, remaining, backlog, 0);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${skilllink.rate-limit.sweep-interval:PT1M}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.values().forEach(bucket -> bucket.sweep(now));
+    }
+
+    int trackedKeys(RateLimitGroup group) {
+        return buckets.get(group).states.size();
+    }
+
+    record Limit(int capacity, Duration period) {
+    }
+
+    public record Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+
+    private static final class Bucket {
+
+        private final int capacity;
+        private final long period;
+        private final long interval;
+        private final ConcurrentHashMap<String, AtomicLong> states = new ConcurrentHashMap<>();
+        private final ReentrantLock sweepLock = new ReentrantLock();
+        // Where the last bounded sweep stopped; guarded by sweepLock.
+        private Iterator<Map.Entry<String, AtomicLong>> sweepCursor;
+
+        Bucket(int capacity, long period) {
+            this.capacity = capacity;
+            this.interval = Math.max(1, period / capacity);
+            this.period = interval * capacity;
+        }
+
+        void sweep(long now) {
+            states.forEach((key, state) -> {
+                if (state.get() - now <= 0) {
+                    states.remove(key, state);
+                }
+            });
+        }
+
+        // Checks at most SWEEP_BATCH keys, resuming where the previous call stopped. A caller that
+        // finds another thread sweeping skips it rather than waiting.
+        void sweepSome(long now) {
+            if (!sweepLock.tryLock()) {
+                return;
+            }
+            try {
+                for (int i = 0; i < SWEEP_BATCH; i++) {
+                    if (sweepCursor == null || !sweepCursor.hasNext()) {
+                        sweepCursor = states.entrySet().iterator();
+                        if (!sweepCursor.hasNext()) {
+                            return;
+                        }
+                    }
+                    Map.Entry<String, AtomicLong> entry = sweepCursor.next();
+                    if (entry.getValue().get() - now <= 0) {
+                        states.remove(entry.getKey(), entry.getValue());
+                    }
+                }
+            } finally {
+                sweepLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.skilllink.service;
+
+import com.skilllink.dto.CourseEnrollmentStatsResponse;
+import com.skilllink.dto.DailyStatsResponse;
+import com.skilllink.dto.JobApplicationStatsResponse;
+import com.skilllink.dto.PlatformStatsResponse;
+import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.JobStatus;
+import com.skilllink.model.RollupMetric;
+import com.skilllink.repository.DailyStatRow;
+import com.skilllink.repository.StatRollupRepository;
+import com.skilllink.repository.SubjectStatRow;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Admin metrics served from {@code stat_rollups} only; see {@link StatsRollups}. Days are the day
+ * a job was posted, an application submitted or an enrollment made, and statuses are current
+ * ones, so "accepted on day D" means submitted on day D and accepted since.
+ */
+@Service
+public class AdminStatsService {
+
+    public static final int DEFAULT_DAYS = 30;
+    public static final int MAX_DAYS = 366;
+    public static final int MAX_LIMIT = 100;
+
+    private final StatRollupRepository statRollupRepository;
+
+    public AdminStatsService(StatRollupRepository statRollupRepository) {
+        this.statRollupRepository = statRollupRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public PlatformStatsResponse getPlatformStats(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1L);
+        checkRange(start, end);
+
+        Map<LocalDate, Day> days = new LinkedHashMap<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            days.put(day, new Day());
+        }
+        for (DailyStatRow row : statRollupRepository.sumByDay(RollupMetric.JOBS, start, end)) {
+            Day day = days.get(row.day());
+            day.jobsByStatus.merge(JobStatus.valueOf(row.status()), row.total(), Long::sum);
+            day.budget = day.budget.add(row.amount());
+        }
+        for (DailyStatRow row : statRollupRepository.sumByDay(RollupMetric.APPLICATIONS, start, end)) {
+            days.get(row.day()).applications.merge(ApplicationStatus.valueOf(row.status()), row.total(), Long::sum);
+        }
+        for (DailyStatRow row : statRollupRepository.sumByDay(RollupMetric.ENROLLMENTS, start, end)) {
+            days.get(row.day()).enrollments += row.total();
+        }
+
+        List<DailyStatsResponse> daily = new ArrayList<>(days.size());
+        long jobs = 0L;
+        BigDecimal budget = BigDecimal.ZERO;
+        long applications = 0L;
+        long accepted = 0L;
+        long rejected = 0L;
+        long enrollments = 0L;
+        for (Map.Entry<LocalDate, Day> entry : days.entrySet()) {
+            DailyStatsResponse day = entry.getValue().toResponse(entry.getKey());
+            daily.add(day);
+            jobs += day.jobsPosted();
+            budget = budget.add(day.budgetPosted());
+            applications += day.applications();
+            accepted += day.acceptedApplications();
+            rejected += day.rejectedApplications();
+            enrollments += day.enrollments();
+        }
+        Double acceptanceRate = accepted + rejected > 0 ? (double) accepted / (accepted + rejected) : null;
+        return new PlatformStatsResponse(start, end, jobs, budget, applications, accepted, rejected, acceptanceRate,
+                enrollments, daily);
+    }
+
+    // Jobs with the most applications submitted in the range.
+    @Transactional(readOnly = true)
+    public List<JobApplicationStatsResponse> getTopJobs(LocalDate from, LocalDate to, int limit) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1L);
+        checkRange(start, end);
+
+        Map<Long, Map<ApplicationStatus, Long>> byJob = new HashMap<>();
+        for (SubjectStatRow row : statRollupRepository.findBySubject(RollupMetric.APPLICATIONS, start, end)) {
+            byJob.computeIfAbsent(row.subjectId(), id -> new EnumMap<>(ApplicationStatus.class))
+                    .merge(ApplicationStatus.valueOf(row.status()), row.total(), Long::sum);
+        }
+        return byJob.entrySet().stream()
+                .map(entry -> {
+                    Map<ApplicationStatus, Long> counts = entry.getValue();
+                    long pending = counts.getOrDefault(ApplicationStatus.APPLIED, 0L);
+                    long accepted = counts.getOrDefault(ApplicationStatus.ACCEPTED, 0L);
+                    long rejected = counts.getOrDefault(ApplicationStatus.REJECTED, 0L);
+                    return new JobApplicationStatsResponse(entry.getKey(), pending + accepted + rejected,
+                            pending, accepted, rejected);
+                })
+                .sorted(Comparator.comparingLong(JobApplicationStatsResponse::applications).reversed()
+                        .thenComparing(JobApplicationStatsResponse::jobId))
+                .limit(clampLimit(limit))
+                .toList();
+    }
+
+    // Courses with the most enrollments in the range, with their per-day counts.
+    @Transactional(readOnly = true)
+    public List<CourseEnrollmentStatsResponse> getTopCourses(LocalDate from, LocalDate to, int limit) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1L);
+        checkRange(start, end);
+
+        Map<Long, Map<LocalDate, Long>> byCourse = new HashMap<>();
+        for (SubjectStatRow row : statRollupRepository.findBySubject(RollupMetric.ENROLLMENTS, start, end)) {
+            byCourse.computeIfAbsent(row.subjectId(), id -> new TreeMap<>()).merge(row.day(), row.total(), Long::sum);
+        }
+        return byCourse.entrySet().stream()
+                .map(entry -> new CourseEnrollmentStatsResponse(entry.getKey(),
+                        entry.getValue().values().stream().mapToLong(Long::longValue).sum(), entry.getValue()))
+                .sorted(Comparator.comparingLong(CourseEnrollmentStatsResponse::enrollments).reversed()
+                        .thenComparing(CourseEnrollmentStatsResponse::courseId))
+                .limit(clampLimit(limit))
+                .toList();
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Stats ranges are limited to " + MAX_DAYS + " days");
+        }
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static final class Day {
+
+        private final Map<JobStatus, Long> jobsByStatus = new EnumMap<>(JobStatus.class);
+        private final Map<ApplicationStatus, Long> applications = new EnumMap<>(ApplicationStatus.class);
+        private BigDecimal budget = BigDecimal.ZERO.setScale(2);
+        private long enrollments;
+
+        Day() {
+            for (JobStatus status : JobStatus.values()) {
+                jobsByStatus.put(status, 0L);
+            }
+        }
+
+        DailyStatsResponse toResponse(LocalDate date) {
+            long jobs = jobsByStatus.values().stream().mapToLong(Long::longValue).sum();
+            long submitted = applications.values().stream().mapToLong(Long::longValue).sum();
+            return new DailyStatsResponse(date, jobs, budget, jobsByStatus, submitted,
+                    applications.getOrDefault(ApplicationStatus.ACCEPTED, 0L),
+                    applications.getOrDefault(ApplicationStatus.REJECTED, 0L), enrollments);
+        }
+    }
+}
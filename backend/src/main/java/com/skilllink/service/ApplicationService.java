@@ -2,93 +2,193 @@ package com.skilllink.service;
 
 import com.skilllink.dto.ApplicationRequest;
 import com.skilllink.dto.ApplicationResponse;
+import com.skilllink.dto.CursorPage;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.ForbiddenException;
+import com.skilllink.exception.InvalidRequestException;
+import com.skilllink.exception.InvalidStateException;
+import com.skilllink.exception.NotFoundException;
 import com.skilllink.model.Application;
 import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.InvalidationKind;
 import com.skilllink.model.Job;
 import com.skilllink.model.JobStatus;
 import com.skilllink.model.User;
 import com.skilllink.model.UserRole;
 import com.skilllink.repository.ApplicationRepository;
+import com.skilllink.repository.ApplicationStatusCount;
 import com.skilllink.repository.JobRepository;
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ApplicationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime EARLIEST_TIMESTAMP = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
-
-    public ApplicationService(ApplicationRepository applicationRepository, JobRepository jobRepository) {
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher events;
+    private final CacheInvalidationBus invalidations;
+    private final StatsRollups stats;
+
+    public ApplicationService(ApplicationRepository applicationRepository,
+                              JobRepository jobRepository,
+                              TrendingService trendingService,
+                              ApplicationEventPublisher events,
+                              CacheInvalidationBus invalidations,
+                              StatsRollups stats) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
+        this.trendingService = trendingService;
+        this.events = events;
+        this.invalidations = invalidations;
+        this.stats = stats;
     }
 
     @Transactional
     public ApplicationResponse apply(ApplicationRequest request, User freelancer) {
         if (freelancer.getRole() != UserRole.FREELANCER) {
-            throw new SecurityException("Only freelancers can apply to jobs");
+            throw new ForbiddenException(ErrorCode.APPLY_FORBIDDEN);
         }
 
         Job job = jobRepository.findById(request.jobId())
-                .orElseThrow(() -> new NoSuchElementException("Job not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.JOB_NOT_FOUND));
 
         if (job.getStatus() != JobStatus.OPEN) {
-            throw new IllegalStateException("Cannot apply to closed job");
+            throw new InvalidStateException(ErrorCode.JOB_CLOSED);
         }
 
         if (applicationRepository.existsByJobIdAndFreelancerId(job.getId(), freelancer.getId())) {
-            throw new IllegalStateException("You have already applied to this job");
+            throw new InvalidStateException(ErrorCode.ALREADY_APPLIED);
         }
 
         Application application = new Application();
         application.setJob(job);
         application.setFreelancer(freelancer);
+        application.setClientId(job.getClient().getId());
         application.setStatus(ApplicationStatus.APPLIED);
         Application saved = applicationRepository.save(application);
+        trendingService.recordApplication(job.getId());
+        stats.applicationSubmitted(saved);
         return DtoMapper.toApplicationResponse(saved);
     }
 
+    @Transactional(readOnly = true)
     public List<ApplicationResponse> getForFreelancer(User freelancer) {
         return applicationRepository.findByFreelancerId(freelancer.getId()).stream()
                 .map(DtoMapper::toApplicationResponse)
                 .collect(Collectors.toList());
     }
 
-    public List<ApplicationResponse> getForJob(Long jobId, User requester) {
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationResponse> getForJob(Long jobId, ApplicationStatus status, String cursor, int limit,
+                                                     User requester) {
         Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new NoSuchElementException("Job not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.JOB_NOT_FOUND));
 
         if (job.getClient() == null || !job.getClient().getId().equals(requester.getId())) {
-            throw new SecurityException("Cannot view applications for this job");
+            throw new ForbiddenException(ErrorCode.JOB_APPLICATIONS_FORBIDDEN);
         }
 
-        return applicationRepository.findByJobId(jobId).stream()
-                .sorted(Comparator.comparing(Application::getAppliedAt))
-                .map(DtoMapper::toApplicationResponse)
-                .collect(Collectors.toList());
+        return getPage(jobId, status, cursor, limit);
+    }
+
+    // Oldest first, served by the (job_id, [status,] applied_at, id) indexes; callers check job ownership.
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationResponse> getPage(Long jobId, ApplicationStatus status, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        LocalDateTime appliedAt = after != null ? after.timestampKey() : EARLIEST_TIMESTAMP;
+        Long id = after != null ? after.id() : 0L;
+        PageRequest window = PageRequest.of(0, pageSize + 1);
+        List<Application> rows = status == null
+                ? applicationRepository.findPageByJobAfter(jobId, appliedAt, id, window)
+                : applicationRepository.findPageByJobAndStatusAfter(jobId, status, appliedAt, id, window);
+        return toPage(rows, pageSize);
+    }
+
+    // Newest first across every job the client owns, in one join instead of a lookup per job.
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationResponse> getInbox(User client, ApplicationStatus status, String cursor, int limit) {
+        if (client.getRole() != UserRole.CLIENT) {
+            throw new ForbiddenException(ErrorCode.INBOX_FORBIDDEN);
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        LocalDateTime appliedAt = before != null ? before.timestampKey() : LATEST_TIMESTAMP;
+        Long id = before != null ? before.id() : Long.MAX_VALUE;
+        PageRequest window = PageRequest.of(0, pageSize + 1);
+        List<Application> rows = status == null
+                ? applicationRepository.findInboxPageBefore(client.getId(), appliedAt, id, window)
+                : applicationRepository.findInboxPageByStatusBefore(client.getId(), status, appliedAt, id, window);
+        return toPage(rows, pageSize);
+    }
+
+    private static CursorPage<ApplicationResponse> toPage(List<Application> rows, int pageSize) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Application last = rows.get(pageSize - 1);
+            nextCursor = KeysetCursor.encode(last.getAppliedAt(), last.getId());
+        }
+        return new CursorPage<>(rows.stream().map(DtoMapper::toApplicationResponse).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<ApplicationStatus, Long> countByStatus(Long jobId) {
+        return countByStatus(List.of(jobId)).get(jobId);
+    }
+
+    // One grouped query for a whole page of jobs; every requested job gets every status, zero-filled.
+    @Transactional(readOnly = true)
+    public Map<Long, Map<ApplicationStatus, Long>> countByStatus(Collection<Long> jobIds) {
+        Map<Long, Map<ApplicationStatus, Long>> counts = new HashMap<>();
+        for (Long jobId : jobIds) {
+            Map<ApplicationStatus, Long> perStatus = new EnumMap<>(ApplicationStatus.class);
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                perStatus.put(status, 0L);
+            }
+            counts.put(jobId, perStatus);
+        }
+        if (jobIds.isEmpty()) {
+            return counts;
+        }
+        for (ApplicationStatusCount row : applicationRepository.countByJobIdsGroupedByStatus(jobIds)) {
+            counts.get(row.jobId()).put(row.status(), row.count());
+        }
+        return counts;
     }
 
     @Transactional
     public ApplicationResponse updateStatus(Long applicationId, ApplicationStatus status, User requester) {
         if (status == null) {
-            throw new IllegalArgumentException("Status is required");
+            throw new InvalidRequestException(ErrorCode.APPLICATION_STATUS_REQUIRED);
         }
 
         Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new NoSuchElementException("Application not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.APPLICATION_NOT_FOUND));
 
         Job job = application.getJob();
         if (job == null) {
-            throw new IllegalStateException("Application is not associated with a job");
+            throw new InvalidStateException(ErrorCode.APPLICATION_WITHOUT_JOB);
         }
 
         if (job.getClient() == null || !job.getClient().getId().equals(requester.getId())) {
-            throw new SecurityException("Cannot modify applications for this job");
+            throw new ForbiddenException(ErrorCode.APPLICATION_UPDATE_FORBIDDEN);
         }
 
         if (application.getStatus() == status) {
@@ -96,31 +196,39 @@ public class ApplicationService {
         }
 
         if (application.getStatus() != ApplicationStatus.APPLIED) {
-            throw new IllegalStateException("Application has already been processed");
+            throw new InvalidStateException(ErrorCode.APPLICATION_ALREADY_PROCESSED);
         }
 
         switch (status) {
             case ACCEPTED -> handleAcceptance(application, job);
             case REJECTED -> application.setStatus(ApplicationStatus.REJECTED);
-            case APPLIED -> throw new IllegalArgumentException("Cannot revert application to APPLIED");
+            case APPLIED -> throw new InvalidRequestException(ErrorCode.APPLICATION_STATUS_REVERT);
             default -> throw new IllegalArgumentException("Unsupported status: " + status);
         }
+        stats.applicationStatusChanged(application, ApplicationStatus.APPLIED);
 
         return DtoMapper.toApplicationResponse(application);
     }
 
     private void handleAcceptance(Application application, Job job) {
         if (job.getStatus() != JobStatus.OPEN) {
-            throw new IllegalStateException("Job is not open for assignment");
+            throw new InvalidStateException(ErrorCode.JOB_NOT_ASSIGNABLE);
         }
 
         job.setFreelancer(application.getFreelancer());
         job.setStatus(JobStatus.IN_PROGRESS);
         application.setStatus(ApplicationStatus.ACCEPTED);
+        events.publishEvent(new CatalogChangedEvent(Catalog.JOBS));
+        invalidations.publish(InvalidationKind.JOB, job.getId());
+        stats.jobStatusChanged(job, JobStatus.OPEN);
+        trendingService.forgetJob(job.getId());
 
         applicationRepository.findByJobId(job.getId()).stream()
                 .filter(other -> !other.getId().equals(application.getId()))
                 .filter(other -> other.getStatus() == ApplicationStatus.APPLIED)
-                .forEach(other -> other.setStatus(ApplicationStatus.REJECTED));
+                .forEach(other -> {
+                    other.setStatus(ApplicationStatus.REJECTED);
+                    stats.applicationStatusChanged(other, ApplicationStatus.APPLIED);
+                });
     }
 }
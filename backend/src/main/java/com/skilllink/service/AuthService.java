@@ -4,10 +4,17 @@ import com.skilllink.dto.AuthRequest;
 import com.skilllink.dto.AuthResponse;
 import com.skilllink.dto.RegisterRequest;
 import com.skilllink.dto.UserResponse;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.InvalidRequestException;
+import com.skilllink.model.InvalidationKind;
+import com.skilllink.model.Skill;
 import com.skilllink.model.User;
 import com.skilllink.model.UserRole;
 import com.skilllink.repository.UserRepository;
 import com.skilllink.security.JwtService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,21 +28,30 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final ApplicationEventPublisher events;
+    private final CacheInvalidationBus invalidations;
+    private final SkillDictionary skillDictionary;
 
     public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        JwtService jwtService,
-                       AuthenticationManager authenticationManager) {
+                       AuthenticationManager authenticationManager,
+                       ApplicationEventPublisher events,
+                       CacheInvalidationBus invalidations,
+                       SkillDictionary skillDictionary) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.events = events;
+        this.invalidations = invalidations;
+        this.skillDictionary = skillDictionary;
     }
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.email())) {
-            throw new IllegalArgumentException("Email already registered");
+            throw new InvalidRequestException(ErrorCode.EMAIL_TAKEN);
         }
 
         User user = new User();
@@ -43,16 +59,21 @@ public class AuthService {
         user.setEmail(request.email());
         user.setPassword(passwordEncoder.encode(request.password()));
         user.setRole(request.role() != null ? request.role() : UserRole.LEARNER);
-        user.setSkills(request.skills());
+        List<Skill> skills = skillDictionary.resolve(SkillDictionary.split(request.skills()));
+        user.setCanonicalSkills(new LinkedHashSet<>(skills));
+        user.setSkills(SkillDictionary.join(skills));
         user.setBio(request.bio());
         user.setMentor(Boolean.TRUE.equals(request.isMentor()));
 
         User saved = userRepository.save(user);
+        events.publishEvent(UserProfileChangedEvent.of(saved));
+        invalidations.publish(InvalidationKind.USER, saved.getId());
         String token = jwtService.generateToken(saved);
         UserResponse response = DtoMapper.toUserResponse(saved);
         return new AuthResponse(token, response);
     }
 
+    @Transactional
     public AuthResponse authenticate(AuthRequest request) {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                 request.email(),
@@ -0,0 +1,282 @@
+package com.skilllink.service;
+
+import com.skilllink.model.CacheRegions;
+import com.skilllink.model.Course;
+import com.skilllink.model.InvalidationKind;
+import com.skilllink.model.Job;
+import com.skilllink.model.User;
+import com.skilllink.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Carries cache invalidations between backend instances through the shared
+ * {@code cache_invalidations} table. Writers append a compact row (origin node, kind, entity id)
+ * inside their own transaction, so an invalidation is visible exactly when the write commits.
+ * Every node tails the table in id order in bounded batches and, for rows written by other nodes,
+ * evicts the matching second-level cache entries and query regions, marks catalog snapshots stale
+ * and patches the people search index.
+ *
+ * <p>Identity values are handed out at insert time but become visible at commit, so a lower id
+ * can appear after a higher one. The cursor therefore only moves over a contiguous run of handled
+ * ids; rows seen beyond a hole are remembered and the hole is re-read on every poll. A hole that
+ * stays empty for {@code gap-timeout} (a rolled-back insert) is skipped. Rows older than
+ * {@code retention} are purged.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    private static final String JOB_SKILLS_ROLE = Job.class.getName() + ".requiredSkills";
+    private static final String INSERT_SQL =
+            "insert into cache_invalidations (origin, kind, entity_id, created_at) values (?, ?, ?, ?)";
+    private static final String MAX_ID_SQL = "select coalesce(max(id), 0) from cache_invalidations";
+    private static final String BATCH_SQL =
+            "select id, origin, kind, entity_id from cache_invalidations where id > ? order by id limit ?";
+    private static final String GAP_SQL =
+            "select id, origin, kind, entity_id from cache_invalidations where id > ? and id < ? order by id";
+    private static final String PURGE_SQL = "delete from cache_invalidations where created_at < ?";
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+            rs.getLong("id"),
+            rs.getString("origin"),
+            InvalidationKind.valueOf(rs.getString("kind")),
+            rs.getObject("entity_id", Long.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher events;
+    private final boolean enabled;
+    private final String nodeId;
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final Duration retention;
+
+    // Guarded by this: every id <= cursor is handled, handledAhead holds handled ids above it.
+    private long cursor = -1L;
+    private final TreeSet<Long> handledAhead = new TreeSet<>();
+    private long gapSince;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                EntityManagerFactory entityManagerFactory,
+                                UserRepository userRepository,
+                                ApplicationEventPublisher events,
+                                @Value("${skilllink.invalidation.enabled:true}") boolean enabled,
+                                @Value("${skilllink.invalidation.node-id:}") String nodeId,
+                                @Value("${skilllink.invalidation.batch-size:500}") int batchSize,
+                                @Value("${skilllink.invalidation.gap-timeout:PT10S}") Duration gapTimeout,
+                                @Value("${skilllink.invalidation.retention:PT1H}") Duration retention) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("skilllink.invalidation.batch-size must be at least 1");
+        }
+        if (retention.compareTo(gapTimeout) <= 0) {
+            throw new IllegalArgumentException("skilllink.invalidation.retention must exceed the gap timeout");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        // Read-write so the tail always reads the primary, never a lagging replica.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.userRepository = userRepository;
+        this.events = events;
+        this.enabled = enabled;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId.trim();
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.retention = retention;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Appends an invalidation in the caller's transaction. A null {@code entityId} invalidates
+     * every cached entry of the kind.
+     */
+    public void publish(InvalidationKind kind, Long entityId) {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_SQL, nodeId, kind.name(), entityId, LocalDateTime.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || cursor >= 0) {
+            return;
+        }
+        try {
+            Long max = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class));
+            cursor = max != null ? max : 0L;
+        } catch (DataAccessException ex) {
+            log.warn("Could not read the invalidation log position, retrying on the next poll: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${skilllink.invalidation.poll-interval:PT1S}",
+            fixedDelayString = "${skilllink.invalidation.poll-interval:PT1S}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        if (cursor < 0) {
+            start();
+            return;
+        }
+        List<Row> rows;
+        try {
+            rows = transactionTemplate.execute(status -> readBatch());
+        } catch (DataAccessException ex) {
+            log.warn("Invalidation log poll failed: {}", ex.getMessage());
+            return;
+        }
+        Set<Target> remote = new LinkedHashSet<>();
+        for (Row row : rows) {
+            if (handledAhead.add(row.id()) && !nodeId.equals(row.origin())) {
+                remote.add(new Target(row.kind(), row.entityId()));
+            }
+        }
+        advanceCursor();
+        apply(remote);
+    }
+
+    @Scheduled(initialDelayString = "${skilllink.invalidation.purge-interval:PT10M}",
+            fixedDelayString = "${skilllink.invalidation.purge-interval:PT10M}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Integer purged = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(PURGE_SQL, LocalDateTime.now().minus(retention)));
+            if (purged != null && purged > 0) {
+                log.debug("Purged {} invalidation log row(s)", purged);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Invalidation log purge failed: {}", ex.getMessage());
+        }
+    }
+
+    private List<Row> readBatch() {
+        List<Row> rows = new ArrayList<>();
+        long highWater = handledAhead.isEmpty() ? cursor : handledAhead.last();
+        if (highWater > cursor) {
+            rows.addAll(jdbcTemplate.query(GAP_SQL, ROW_MAPPER, cursor, highWater));
+        }
+        rows.addAll(jdbcTemplate.query(BATCH_SQL, ROW_MAPPER, highWater, batchSize));
+        return rows;
+    }
+
+    private void advanceCursor() {
+        while (true) {
+            while (!handledAhead.isEmpty() && handledAhead.first() == cursor + 1) {
+                cursor = handledAhead.pollFirst();
+            }
+            if (handledAhead.isEmpty()) {
+                gapSince = 0L;
+                return;
+            }
+            long now = System.nanoTime();
+            if (gapSince == 0L) {
+                gapSince = now;
+                return;
+            }
+            if (now - gapSince < gapTimeoutNanos) {
+                return;
+            }
+            log.debug("Skipping invalidation ids {}..{} that never committed", cursor + 1, handledAhead.first() - 1);
+            cursor = handledAhead.first() - 1;
+            gapSince = now;
+        }
+    }
+
+    private void apply(Set<Target> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        Set<Catalog> catalogs = EnumSet.noneOf(Catalog.class);
+        List<Long> users = new ArrayList<>();
+        for (Target target : targets) {
+            Long id = target.entityId();
+            switch (target.kind()) {
+                case USER -> {
+                    evictEntity(cache, User.class, id);
+                    cache.evictQueryRegion(CacheRegions.USERS_BY_EMAIL);
+                    if (id != null) {
+                        users.add(id);
+                    }
+                }
+                case JOB -> {
+                    if (id != null) {
+                        cache.evictCollectionData(JOB_SKILLS_ROLE, id);
+                    } else {
+                        cache.evictCollectionData(JOB_SKILLS_ROLE);
+                    }
+                    cache.evictQueryRegion(CacheRegions.JOBS_BY_STATUS);
+                    catalogs.add(Catalog.JOBS);
+                }
+                case COURSE -> {
+                    evictEntity(cache, Course.class, id);
+                    cache.evictQueryRegion(CacheRegions.COURSES_BY_MENTOR);
+                    catalogs.add(Catalog.COURSES);
+                }
+            }
+        }
+        cache.evictDefaultQueryRegion();
+        catalogs.forEach(catalog -> events.publishEvent(new CatalogChangedEvent(catalog)));
+        if (!users.isEmpty()) {
+            refreshProfiles(users);
+        }
+    }
+
+    private void refreshProfiles(List<Long> ids) {
+        try {
+            List<User> changed = transactionTemplate.execute(status -> userRepository.findAllById(ids));
+            if (changed != null) {
+                changed.forEach(user -> events.publishEvent(UserProfileChangedEvent.of(user)));
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not reload {} changed profile(s): {}", ids.size(), ex.getMessage());
+        }
+    }
+
+    private static void evictEntity(Cache cache, Class<?> type, Long id) {
+        if (id != null) {
+            cache.evict(type, id);
+        } else {
+            cache.evictEntityData(type);
+        }
+    }
+
+    private record Row(long id, String origin, InvalidationKind kind, Long entityId) {
+    }
+
+    private record Target(InvalidationKind kind, Long entityId) {
+    }
+}
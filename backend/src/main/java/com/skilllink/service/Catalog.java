@@ -0,0 +1,6 @@
+package com.skilllink.service;
+
+public enum Catalog {
+    JOBS,
+    COURSES
+}
@@ -0,0 +1,4 @@
+package com.skilllink.service;
+
+public record CatalogChangedEvent(Catalog catalog) {
+}
@@ -0,0 +1,214 @@
+package com.skilllink.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the serialized JSON (and its gzip form) of public catalog pages so identical anonymous
+ * requests skip Jackson entirely. A committed {@link CatalogChangedEvent} or an age above
+ * {@code max-age} marks snapshots stale; stale snapshots keep being served while a single
+ * background thread rebuilds them (stale-while-revalidate). Only a key that has never been built
+ * is loaded on the request thread.
+ *
+ * <p>View and enrollment counters do not raise catalog events, so the counts inside a snapshot can
+ * lag the database by up to {@code max-age} plus one rebuild.
+ */
+@Component
+public class CatalogSnapshotCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotCache.class);
+
+    private final ObjectMapper objectMapper;
+    private final long maxAgeNanos;
+    private final int maxEntries;
+    // Least recently used keys are evicted once maxEntries is reached.
+    private final Map<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Catalog, AtomicLong> generations = new EnumMap<>(Catalog.class);
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CatalogSnapshotCache(ObjectMapper objectMapper,
+                                @Value("${skilllink.catalog.snapshot.max-age:PT30S}") Duration maxAge,
+                                @Value("${skilllink.catalog.snapshot.max-entries:256}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.maxEntries = maxEntries;
+        for (Catalog catalog : Catalog.values()) {
+            generations.put(catalog, new AtomicLong());
+        }
+    }
+
+    public Snapshot get(Catalog catalog, String key, Supplier<?> loader) {
+        return get(catalog, key, FieldSelection.ALL, loader);
+    }
+
+    public Snapshot get(Catalog catalog, String key, FieldSelection selection, Supplier<?> loader) {
+        CacheKey cacheKey = new CacheKey(catalog, key + "|" + selection.key());
+        Entry entry = entries.get(cacheKey);
+        if (entry == null) {
+            evictToMakeRoom();
+            entry = entries.computeIfAbsent(cacheKey, ignored -> new Entry(catalog, selection, loader));
+        }
+        entry.lastAccess = System.nanoTime();
+
+        Snapshot snapshot = entry.snapshot;
+        if (snapshot == null) {
+            synchronized (entry) {
+                snapshot = entry.snapshot;
+                if (snapshot == null) {
+                    try {
+                        snapshot = build(catalog, selection, loader);
+                    } catch (RuntimeException ex) {
+                        entries.remove(cacheKey, entry);
+                        throw ex;
+                    }
+                    entry.snapshot = snapshot;
+                }
+            }
+        } else if (isStale(catalog, snapshot)) {
+            refreshAsync(entry);
+        }
+        return snapshot;
+    }
+
+    public void invalidate(Catalog catalog) {
+        generations.get(catalog).incrementAndGet();
+        long idleCutoff = System.nanoTime() - maxAgeNanos * 10;
+        entries.forEach((key, entry) -> {
+            if (key.catalog() != catalog) {
+                return;
+            }
+            if (entry.lastAccess < idleCutoff) {
+                entries.remove(key, entry);
+            } else {
+                refreshAsync(entry);
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        invalidate(event.catalog());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    // Evicts least recently used entries until one more fits under maxEntries. Keeping the newest
+    // keys means a burst of one-off keys only displaces other cold ones.
+    private void evictToMakeRoom() {
+        while (entries.size() >= maxEntries) {
+            Map.Entry<CacheKey, Entry> oldest = null;
+            for (Map.Entry<CacheKey, Entry> candidate : entries.entrySet()) {
+                if (oldest == null || candidate.getValue().lastAccess < oldest.getValue().lastAccess) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private boolean isStale(Catalog catalog, Snapshot snapshot) {
+        return snapshot.generation() != generations.get(catalog).get()
+                || System.nanoTime() - snapshot.builtAt() > maxAgeNanos;
+    }
+
+    private void refreshAsync(Entry entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuilder.execute(() -> {
+                try {
+                    entry.snapshot = build(entry.catalog, entry.selection, entry.loader);
+                } catch (RuntimeException ex) {
+                    log.warn("Failed to rebuild {} snapshot, serving the previous one: {}", entry.catalog, ex.getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException ex) {
+            entry.refreshing.set(false);
+            throw ex;
+        }
+    }
+
+    private Snapshot build(Catalog catalog, FieldSelection selection, Supplier<?> loader) {
+        long generation = generations.get(catalog).get();
+        long builtAt = System.nanoTime();
+        byte[] json;
+        try {
+            Object value = loader.get();
+            json = selection.allFields()
+                    ? objectMapper.writeValueAsBytes(value)
+                    : objectMapper.writeValueAsBytes(selection.apply(objectMapper.valueToTree(value)));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize " + catalog + " snapshot", ex);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        String tag = Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(json.length);
+        return new Snapshot(json, gzip(json), "\"" + tag + "\"", "\"" + tag + "-gzip\"", generation, builtAt);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    // Each encoding is a different representation, so each gets its own entity tag.
+    public record Snapshot(byte[] json, byte[] gzip, String etag, String gzipEtag, long generation, long builtAt) {
+    }
+
+    private record CacheKey(Catalog catalog, String key) {
+    }
+
+    private static final class Entry {
+        private final Catalog catalog;
+        private final FieldSelection selection;
+        private final Supplier<?> loader;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile Snapshot snapshot;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(Catalog catalog, FieldSelection selection, Supplier<?> loader) {
+            this.catalog = catalog;
+            this.selection = selection;
+            this.loader = loader;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.skilllink.service;
+
+import com.skilllink.model.Course;
+import com.skilllink.model.Job;
+
+public enum CounterType {
+    JOB_VIEWS(Job.class, "jobs", "view_count"),
+    COURSE_VIEWS(Course.class, "courses", "view_count"),
+    COURSE_ENROLLMENTS(Course.class, "courses", "enrollment_count");
+
+    private final Class<?> entityType;
+    private final String table;
+    private final String column;
+
+    CounterType(Class<?> entityType, String table, String column) {
+        this.entityType = entityType;
+        this.table = table;
+        this.column = column;
+    }
+
+    Class<?> entityType() {
+        return entityType;
+    }
+
+    String incrementSql() {
+        return "UPDATE " + table + " SET " + column + " = " + column + " + ? WHERE id = ?";
+    }
+}
@@ -2,34 +2,73 @@ package com.skilllink.service;
 
 import com.skilllink.dto.CourseRequest;
 import com.skilllink.dto.CourseResponse;
+import com.skilllink.dto.CourseSummaryResponse;
+import com.skilllink.dto.CursorPage;
 import com.skilllink.dto.EnrollmentResponse;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.ForbiddenException;
+import com.skilllink.exception.InvalidStateException;
+import com.skilllink.exception.NotFoundException;
 import com.skilllink.model.Course;
 import com.skilllink.model.Enrollment;
+import com.skilllink.model.InvalidationKind;
 import com.skilllink.model.User;
 import com.skilllink.model.UserRole;
 import com.skilllink.repository.CourseRepository;
+import com.skilllink.repository.CourseSummaryRow;
 import com.skilllink.repository.EnrollmentRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CourseService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_TRENDING = 20;
+    private static final LocalDateTime LATEST_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final BigDecimal HIGHEST_PRICE = new BigDecimal("9999999999999.99");
+
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final EngagementCounters counters;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher events;
+    private final CacheInvalidationBus invalidations;
+    private final StatsRollups stats;
+    private final EnrollmentQueue enrollmentQueue;
 
-    public CourseService(CourseRepository courseRepository, EnrollmentRepository enrollmentRepository) {
+    public CourseService(CourseRepository courseRepository,
+                         EnrollmentRepository enrollmentRepository,
+                         EngagementCounters counters,
+                         TrendingService trendingService,
+                         ApplicationEventPublisher events,
+                         CacheInvalidationBus invalidations,
+                         StatsRollups stats,
+                         EnrollmentQueue enrollmentQueue) {
         this.courseRepository = courseRepository;
         this.enrollmentRepository = enrollmentRepository;
+        this.counters = counters;
+        this.trendingService = trendingService;
+        this.events = events;
+        this.invalidations = invalidations;
+        this.stats = stats;
+        this.enrollmentQueue = enrollmentQueue;
     }
 
     @Transactional
     public CourseResponse createCourse(CourseRequest request, User mentor) {
         if (mentor.getRole() != UserRole.FREELANCER) {
-            throw new SecurityException("Only mentors/freelancers can create courses");
+            throw new ForbiddenException(ErrorCode.COURSE_CREATION_FORBIDDEN);
         }
         Course course = new Course();
         course.setTitle(request.title());
@@ -38,35 +77,154 @@ public class CourseService {
         course.setPrice(request.price());
         course.setMentor(mentor);
         Course saved = courseRepository.save(course);
+        events.publishEvent(new CatalogChangedEvent(Catalog.COURSES));
+        invalidations.publish(InvalidationKind.COURSE, saved.getId());
         return DtoMapper.toCourseResponse(saved);
     }
 
-    public List<CourseResponse> getCourses() {
-        return courseRepository.findAll().stream()
-                .map(DtoMapper::toCourseResponse)
+    public static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CourseResponse> getCourses(CourseSort sort, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        List<Course> courses = switch (sort) {
+            case NEWEST -> courseRepository.findNewestAfter(
+                    after != null ? after.timestampKey() : LATEST_TIMESTAMP,
+                    after != null ? after.id() : Long.MAX_VALUE, window);
+            case PRICE_ASC -> courseRepository.findCheapestAfter(
+                    after != null ? after.decimalKey() : BigDecimal.valueOf(-1),
+                    after != null ? after.id() : 0L, window);
+            case PRICE_DESC -> courseRepository.findPriciestAfter(
+                    after != null ? after.decimalKey() : HIGHEST_PRICE,
+                    after != null ? after.id() : Long.MAX_VALUE, window);
+            case POPULAR -> courseRepository.findMostPopularAfter(
+                    after != null ? after.longKey() : Long.MAX_VALUE,
+                    after != null ? after.id() : Long.MAX_VALUE, window);
+        };
+
+        return toPage(courses, pageSize, course -> KeysetCursor.encode(
+                sortKey(sort, course.getCreatedAt(), course.getPrice(), course.getEnrollmentCount()), course.getId()),
+                this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CourseSummaryResponse> getCourseSummaries(CourseSort sort, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        List<CourseSummaryRow> rows = switch (sort) {
+            case NEWEST -> courseRepository.findNewestSummariesAfter(
+                    after != null ? after.timestampKey() : LATEST_TIMESTAMP,
+                    after != null ? after.id() : Long.MAX_VALUE, window);
+            case PRICE_ASC -> courseRepository.findCheapestSummariesAfter(
+                    after != null ? after.decimalKey() : BigDecimal.valueOf(-1),
+                    after != null ? after.id() : 0L, window);
+            case PRICE_DESC -> courseRepository.findPriciestSummariesAfter(
+                    after != null ? after.decimalKey() : HIGHEST_PRICE,
+                    after != null ? after.id() : Long.MAX_VALUE, window);
+            case POPULAR -> courseRepository.findMostPopularSummariesAfter(
+                    after != null ? after.longKey() : Long.MAX_VALUE,
+                    after != null ? after.id() : Long.MAX_VALUE, window);
+        };
+        return toPage(rows, pageSize, row -> KeysetCursor.encode(
+                sortKey(sort, row.createdAt(), row.price(), row.enrollmentCount()), row.id()),
+                this::toSummary);
+    }
+
+    private static <T, R> CursorPage<R> toPage(List<T> rows, int pageSize,
+                                               Function<T, String> cursorOf, Function<T, R> mapper) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = cursorOf.apply(rows.get(pageSize - 1));
+        }
+        return new CursorPage<>(rows.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+
+    private CourseResponse toResponse(Course course) {
+        return DtoMapper.toCourseResponse(course,
+                counters.current(CounterType.COURSE_VIEWS, course.getId(), course.getViewCount()),
+                counters.current(CounterType.COURSE_ENROLLMENTS, course.getId(), course.getEnrollmentCount()));
+    }
+
+    private CourseSummaryResponse toSummary(CourseSummaryRow row) {
+        return new CourseSummaryResponse(
+                row.id(),
+                row.title(),
+                row.price(),
+                row.createdAt(),
+                row.mentorId(),
+                row.mentorName(),
+                counters.current(CounterType.COURSE_VIEWS, row.id(), row.viewCount()),
+                counters.current(CounterType.COURSE_ENROLLMENTS, row.id(), row.enrollmentCount()));
+    }
+
+    private static Object sortKey(CourseSort sort, LocalDateTime createdAt, BigDecimal price, long enrollmentCount) {
+        return switch (sort) {
+            case NEWEST -> createdAt;
+            case PRICE_ASC, PRICE_DESC -> price.toPlainString();
+            case POPULAR -> enrollmentCount;
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public List<CourseResponse> getTrendingCourses(int limit) {
+        List<Long> ids = trendingService.trendingCourseIds(Math.max(1, Math.min(limit, MAX_TRENDING)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Course> byId = courseRepository.findWithMentorByIdIn(ids).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public CourseResponse getCourse(Long id) {
         Course course = courseRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Course not found"));
-        return DtoMapper.toCourseResponse(course);
+                .orElseThrow(() -> new NotFoundException(ErrorCode.COURSE_NOT_FOUND));
+        counters.increment(CounterType.COURSE_VIEWS, course.getId());
+        trendingService.recordCourseView(course.getId());
+        return toResponse(course);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EnrollmentResponse> getEnrollments(User learner) {
+        List<EnrollmentResponse> enrollments = enrollmentRepository.findByLearnerId(learner.getId()).stream()
+                .map(enrollment -> new EnrollmentResponse(
+                        enrollment.getId(),
+                        enrollment.getCourse().getId(),
+                        learner.getId(),
+                        enrollment.getEnrolledAt(),
+                        false))
+                .collect(Collectors.toList());
+        return enrollmentQueue.merge(learner.getId(), enrollments);
     }
 
     @Transactional
     public EnrollmentResponse enroll(Long courseId, User learner) {
         if (learner.getRole() != UserRole.LEARNER) {
-            throw new SecurityException("Only learners can enroll in courses");
+            throw new ForbiddenException(ErrorCode.ENROLLMENT_FORBIDDEN);
         }
         Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new NoSuchElementException("Course not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.COURSE_NOT_FOUND));
         if (enrollmentRepository.existsByCourseIdAndLearnerId(courseId, learner.getId())) {
-            throw new IllegalStateException("Already enrolled");
+            throw new InvalidStateException(ErrorCode.ALREADY_ENROLLED);
         }
         Enrollment enrollment = new Enrollment();
         enrollment.setCourse(course);
         enrollment.setLearner(learner);
         Enrollment saved = enrollmentRepository.save(enrollment);
-        return new EnrollmentResponse(saved.getId(), course.getId(), learner.getId(), saved.getEnrolledAt());
+        counters.increment(CounterType.COURSE_ENROLLMENTS, course.getId());
+        trendingService.recordEnrollment(course.getId());
+        stats.enrolled(saved);
+        return new EnrollmentResponse(saved.getId(), course.getId(), learner.getId(), saved.getEnrolledAt(), false);
     }
 }
@@ -0,0 +1,19 @@
+package com.skilllink.service;
+
+public enum CourseSort {
+    NEWEST,
+    PRICE_ASC,
+    PRICE_DESC,
+    POPULAR;
+
+    public static CourseSort fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        try {
+            return CourseSort.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported sort: " + value);
+        }
+    }
+}
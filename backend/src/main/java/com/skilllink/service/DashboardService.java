@@ -0,0 +1,133 @@
+package com.skilllink.service;
+
+import com.skilllink.dto.ApplicationResponse;
+import com.skilllink.dto.CourseResponse;
+import com.skilllink.dto.DashboardResponse;
+import com.skilllink.dto.EnrollmentResponse;
+import com.skilllink.dto.JobResponse;
+import com.skilllink.model.User;
+import com.skilllink.model.UserRole;
+import com.skilllink.tracing.Span;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Builds the role-specific dashboard in one call. Every section is loaded on its own virtual
+ * thread, so the response takes as long as the slowest section rather than the sum of all of
+ * them. Sections still running when the deadline passes are listed in {@code unavailable}
+ * instead of failing the whole dashboard. Their thread is interrupted and each section runs in a
+ * read-only transaction whose timeout is the deadline, so a slow query is cancelled by the driver
+ * rather than left holding its connection. List sections that are not the caller's own records
+ * (open jobs, the course catalog) are previews capped at a fixed size; the full lists are paged
+ * through their own endpoints.
+ */
+@Service
+public class DashboardService {
+
+    private static final int CATALOG_PREVIEW_SIZE = 6;
+    private static final int OPEN_JOBS_PREVIEW_SIZE = 20;
+
+    private final JobService jobService;
+    private final ApplicationService applicationService;
+    private final CourseService courseService;
+    private final UserService userService;
+    private final Duration deadline;
+    private final TransactionTemplate sectionTransaction;
+    private final ExecutorService executor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    public DashboardService(JobService jobService,
+                            ApplicationService applicationService,
+                            CourseService courseService,
+                            UserService userService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${skilllink.dashboard.deadline:PT2S}") Duration deadline) {
+        this.jobService = jobService;
+        this.applicationService = applicationService;
+        this.courseService = courseService;
+        this.userService = userService;
+        this.deadline = deadline;
+        this.sectionTransaction = new TransactionTemplate(transactionManager);
+        this.sectionTransaction.setReadOnly(true);
+        // Timeouts are whole seconds; round up so a section is never cut short of the deadline.
+        this.sectionTransaction.setTimeout((int) Math.max(1L, (deadline.toMillis() + 999L) / 1000L));
+    }
+
+    public DashboardResponse getDashboard(User user) {
+        UserRole role = user.getRole();
+        Section<List<JobResponse>> postedJobs = role == UserRole.CLIENT
+                ? start("postedJobs", () -> jobService.getJobsForClient(user)) : null;
+        Section<List<JobResponse>> openJobs = role == UserRole.FREELANCER
+                ? start("openJobs", () -> jobService.getRecentOpenJobs(OPEN_JOBS_PREVIEW_SIZE)) : null;
+        Section<List<JobResponse>> assignedJobs = role == UserRole.FREELANCER
+                ? start("assignedJobs", () -> jobService.getJobsForFreelancer(user)) : null;
+        Section<List<ApplicationResponse>> applications = role == UserRole.FREELANCER
+                ? start("applications", () -> applicationService.getForFreelancer(user)) : null;
+        Section<List<EnrollmentResponse>> enrollments = role == UserRole.LEARNER
+                ? start("enrollments", () -> courseService.getEnrollments(user)) : null;
+        Section<List<CourseResponse>> courses = start("courses",
+                () -> courseService.getCourses(CourseSort.POPULAR, null, CATALOG_PREVIEW_SIZE).items());
+
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        List<String> unavailable = new ArrayList<>();
+        return new DashboardResponse(
+                userService.getCurrentUser(user),
+                await(postedJobs, deadlineNanos, unavailable),
+                await(openJobs, deadlineNanos, unavailable),
+                await(assignedJobs, deadlineNanos, unavailable),
+                await(applications, deadlineNanos, unavailable),
+                await(enrollments, deadlineNanos, unavailable),
+                await(courses, deadlineNanos, unavailable),
+                List.copyOf(unavailable)
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Section<T> start(String name, Supplier<T> loader) {
+        Supplier<T> task = Span.propagate(() -> sectionTransaction.execute(status -> loader.get()));
+        return new Section<>(name, executor.submit(task::get));
+    }
+
+    private <T> T await(Section<T> section, long deadlineNanos, List<String> unavailable) {
+        if (section == null) {
+            return null;
+        }
+        try {
+            return section.future().get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            section.future().cancel(true);
+            unavailable.add(section.name());
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException("Dashboard loading was interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new CompletionException("Failed to load dashboard section " + section.name(), ex.getCause());
+        }
+    }
+
+    private record Section<T>(String name, Future<T> future) {
+    }
+}
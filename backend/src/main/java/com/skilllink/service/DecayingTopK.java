@@ -0,0 +1,162 @@
+package com.skilllink.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Exponentially time-decayed scores with an incrementally maintained top-K.
+ *
+ * <p>Scores use forward decay: an event of weight {@code w} at time {@code t} adds
+ * {@code w * e^(lambda * (t - landmark))}. Every score decays at the same rate, so relative order
+ * only changes when an item receives an event and the top-K set can be updated in O(log K) at that
+ * moment. The landmark is moved forward before the multiplier can overflow, which rescales all
+ * scores in one pass and drops the ones that have decayed to nothing.
+ *
+ * <p>At most {@code maxTracked} scores are kept. When a new id would exceed that, the lowest half
+ * of the scores outside the top-K are dropped; an id that was dropped and comes back starts again
+ * from its new events only.
+ */
+final class DecayingTopK {
+
+    private static final double MAX_EXPONENT = 500.0;
+    private static final double NEGLIGIBLE_SCORE = 1e-9;
+
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparingLong(Ranked::id);
+
+    private final int capacity;
+    private final int maxTracked;
+    private final double lambdaPerMilli;
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Ranked> top = new TreeSet<>(ORDER);
+    private long landmark;
+    private volatile List<Long> snapshot = List.of();
+
+    DecayingTopK(int capacity, int maxTracked, long halfLifeMillis, long startMillis) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        if (maxTracked < capacity * 2) {
+            throw new IllegalArgumentException("Tracked scores must be at least twice the capacity");
+        }
+        if (halfLifeMillis < 1) {
+            throw new IllegalArgumentException("Half-life must be positive");
+        }
+        this.capacity = capacity;
+        this.maxTracked = maxTracked;
+        this.lambdaPerMilli = Math.log(2) / halfLifeMillis;
+        this.landmark = startMillis;
+    }
+
+    synchronized void record(long id, double weight, long nowMillis) {
+        double exponent = lambdaPerMilli * (nowMillis - landmark);
+        if (exponent > MAX_EXPONENT) {
+            rebase(nowMillis);
+            exponent = 0.0;
+        }
+        if (scores.size() >= maxTracked && !scores.containsKey(id)) {
+            prune();
+        }
+        double previous = scores.getOrDefault(id, 0.0);
+        double updated = previous + weight * Math.exp(exponent);
+        scores.put(id, updated);
+
+        Ranked candidate = new Ranked(id, updated);
+        if (top.remove(new Ranked(id, previous))) {
+            top.add(candidate);
+        } else if (top.size() < capacity) {
+            top.add(candidate);
+        } else if (ORDER.compare(candidate, top.last()) < 0) {
+            top.pollLast();
+            top.add(candidate);
+        } else {
+            return;
+        }
+        snapshot = null;
+    }
+
+    List<Long> top(int limit) {
+        List<Long> current = snapshot;
+        if (current == null) {
+            current = rebuildSnapshot();
+        }
+        return current.size() <= limit ? current : current.subList(0, limit);
+    }
+
+    synchronized int tracked() {
+        return scores.size();
+    }
+
+    synchronized void remove(long id) {
+        Double previous = scores.remove(id);
+        if (previous != null && top.remove(new Ranked(id, previous))) {
+            snapshot = null;
+        }
+    }
+
+    private synchronized List<Long> rebuildSnapshot() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+        List<Long> ids = new ArrayList<>(top.size());
+        for (Ranked ranked : top) {
+            ids.add(ranked.id());
+        }
+        List<Long> rebuilt = List.copyOf(ids);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private void rebase(long nowMillis) {
+        double factor = Math.exp(-lambdaPerMilli * (nowMillis - landmark));
+        landmark = nowMillis;
+        Iterator<Map.Entry<Long, Double>> iterator = scores.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Double> entry = iterator.next();
+            double rescaled = entry.getValue() * factor;
+            if (rescaled < NEGLIGIBLE_SCORE) {
+                iterator.remove();
+            } else {
+                entry.setValue(rescaled);
+            }
+        }
+        List<Ranked> rescaledTop = new ArrayList<>(top.size());
+        for (Ranked ranked : top) {
+            Double score = scores.get(ranked.id());
+            if (score != null) {
+                rescaledTop.add(new Ranked(ranked.id(), score));
+            }
+        }
+        top.clear();
+        top.addAll(rescaledTop);
+        snapshot = null;
+    }
+
+    private void prune() {
+        Set<Long> ranked = new HashSet<>();
+        for (Ranked entry : top) {
+            ranked.add(entry.id());
+        }
+        List<Map.Entry<Long, Double>> others = new ArrayList<>(scores.size());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (!ranked.contains(entry.getKey())) {
+                others.add(entry);
+            }
+        }
+        others.sort(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : others.subList(0, others.size() - others.size() / 2)) {
+            scores.remove(entry.getKey());
+        }
+    }
+
+    private record Ranked(long id, double score) {
+    }
+}
@@ -5,9 +5,11 @@ import com.skilllink.dto.CourseResponse;
 import com.skilllink.dto.JobResponse;
 import com.skilllink.dto.UserResponse;
 import com.skilllink.model.Application;
+import com.skilllink.model.ApplicationStatus;
 import com.skilllink.model.Course;
 import com.skilllink.model.Job;
 import com.skilllink.model.User;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,6 +34,14 @@ public final class DtoMapper {
     }
 
     public static JobResponse toJobResponse(Job job) {
+        return job == null ? null : toJobResponse(job, job.getViewCount());
+    }
+
+    public static JobResponse toJobResponse(Job job, long viewCount) {
+        return toJobResponse(job, viewCount, null);
+    }
+
+    public static JobResponse toJobResponse(Job job, long viewCount, Map<ApplicationStatus, Long> applicationCounts) {
         if (job == null) {
             return null;
         }
@@ -46,7 +56,9 @@ public final class DtoMapper {
                 Optional.ofNullable(job.getClient()).map(User::getId).orElse(null),
                 Optional.ofNullable(job.getClient()).map(User::getName).orElse(null),
                 Optional.ofNullable(job.getFreelancer()).map(User::getId).orElse(null),
-                Optional.ofNullable(job.getFreelancer()).map(User::getName).orElse(null)
+                Optional.ofNullable(job.getFreelancer()).map(User::getName).orElse(null),
+                viewCount,
+                applicationCounts
         );
     }
 
@@ -71,6 +83,11 @@ public final class DtoMapper {
     }
 
     public static CourseResponse toCourseResponse(Course course) {
+        return course == null ? null
+                : toCourseResponse(course, course.getViewCount(), course.getEnrollmentCount());
+    }
+
+    public static CourseResponse toCourseResponse(Course course, long viewCount, long enrollmentCount) {
         if (course == null) {
             return null;
         }
@@ -83,7 +100,9 @@ public final class DtoMapper {
                 course.getPrice(),
                 course.getCreatedAt(),
                 mentor != null ? mentor.getId() : null,
-                mentor != null ? mentor.getName() : null
+                mentor != null ? mentor.getName() : null,
+                viewCount,
+                enrollmentCount
         );
     }
 }
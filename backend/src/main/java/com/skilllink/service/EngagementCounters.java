@@ -0,0 +1,150 @@
+package com.skilllink.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind counters for views and enrollments. Increments land in striped {@link LongAdder}
+ * cells and are flushed as batched {@code UPDATE ... SET n = n + ?} statements on a fixed delay
+ * and on shutdown. Readers combine the persisted column with the unflushed delta.
+ *
+ * <p>A delta is only subtracted from its cell after the batch that persisted it commits, so a
+ * failed flush is retried on the next run. A crash (not a graceful shutdown) loses at most the
+ * increments accumulated since the last successful flush, i.e. one flush interval. Between a
+ * commit and the subtraction a reader that already sees the new column value may briefly count
+ * that delta twice.
+ *
+ * <p>The batches bypass Hibernate, so after each commit the touched rows are evicted from the
+ * second-level cache. Query regions are left alone: a count change never changes which rows a
+ * cached query returns, so clearing them on every flush would only cost misses, and the counters
+ * inside a cached result may lag by up to {@code skilllink.cache.time-to-live}.
+ */
+@Component
+public class EngagementCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(EngagementCounters.class);
+
+    private final Map<CounterType, ConcurrentHashMap<Long, LongAdder>> cells = new EnumMap<>(CounterType.class);
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EngagementCounters(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        for (CounterType type : CounterType.values()) {
+            cells.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increment(CounterType type, Long id) {
+        if (id == null) {
+            return;
+        }
+        ConcurrentHashMap<Long, LongAdder> byId = cells.get(type);
+        LongAdder cell = byId.computeIfAbsent(id, key -> new LongAdder());
+        cell.increment();
+        // A flush may have retired the cell between the lookup and the increment; count it again
+        // in the live one.
+        while (byId.get(id) != cell) {
+            cell = byId.computeIfAbsent(id, key -> new LongAdder());
+            cell.increment();
+        }
+    }
+
+    public long pending(CounterType type, Long id) {
+        if (id == null) {
+            return 0L;
+        }
+        LongAdder cell = cells.get(type).get(id);
+        return cell != null ? cell.sum() : 0L;
+    }
+
+    public long current(CounterType type, Long id, long persisted) {
+        return persisted + pending(type, id);
+    }
+
+    int tracked(CounterType type) {
+        return cells.get(type).size();
+    }
+
+    @Scheduled(fixedDelayString = "${skilllink.counters.flush-interval:PT5S}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            Map<CounterType, List<Delta>> batches = collectDeltas();
+            if (batches.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> batches.forEach(this::writeBatch));
+            batches.values().forEach(deltas -> deltas.forEach(delta -> delta.cell().add(-delta.amount())));
+            evictCached(batches);
+            retireDrained(batches);
+        } catch (DataAccessException ex) {
+            log.warn("Counter flush failed, deltas kept for the next attempt: {}", ex.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<CounterType, List<Delta>> collectDeltas() {
+        Map<CounterType, List<Delta>> batches = new EnumMap<>(CounterType.class);
+        cells.forEach((type, byId) -> byId.forEach((id, cell) -> {
+            long amount = cell.sum();
+            if (amount != 0L) {
+                batches.computeIfAbsent(type, key -> new ArrayList<>()).add(new Delta(id, cell, amount));
+            }
+        }));
+        return batches;
+    }
+
+    // Cells that drained to zero are removed so the maps only hold ids with pending increments.
+    private void retireDrained(Map<CounterType, List<Delta>> batches) {
+        batches.forEach((type, deltas) -> deltas.forEach(delta ->
+                cells.get(type).computeIfPresent(delta.id(), (id, cell) -> cell.sum() == 0L ? null : cell)));
+    }
+
+    private void writeBatch(CounterType type, List<Delta> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (Delta delta : deltas) {
+            args.add(new Object[]{delta.amount(), delta.id()});
+        }
+        jdbcTemplate.batchUpdate(type.incrementSql(), args);
+    }
+
+    private void evictCached(Map<CounterType, List<Delta>> batches) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        batches.forEach((type, deltas) -> deltas.forEach(delta -> cache.evict(type.entityType(), delta.id())));
+    }
+
+    private record Delta(Long id, LongAdder cell, long amount) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.skilllink.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only on-disk journal of accepted enrollments. Appends are group-committed: one writer
+ * thread drains every waiting entry, writes them and forces the file once, then completes all
+ * of their futures, so concurrent callers share a single {@code fsync}. Entries go to numbered
+ * segment files; {@link #seal()} closes the active segment and returns every closed one, oldest
+ * first, for the caller to apply and delete. Segments left behind by a previous run
+ * are returned by the first {@code seal()}.
+ */
+final class EnrollmentJournal implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentJournal.class);
+    private static final Pattern SEGMENT = Pattern.compile("enrollments-(\\d{20})\\.log");
+    private static final String OPEN_SUFFIX = ".open";
+    private static final int MAX_GROUP = 1024;
+
+    private final Path directory;
+    private final BlockingQueue<Append> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final Object lock = new Object();
+    // Guarded by lock.
+    private long nextSequence;
+    private FileChannel active;
+    private Path activePath;
+    private volatile boolean running = true;
+
+    EnrollmentJournal(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot create enrollment journal directory " + directory, ex);
+        }
+        recoverOpenSegments(directory);
+        List<Path> existing = segments(directory);
+        this.nextSequence = existing.isEmpty() ? 1L : sequence(existing.get(existing.size() - 1)) + 1L;
+        this.writer = new Thread(this::writeLoop, "enrollment-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues an entry; the future completes once it is forced to disk, or exceptionally if the
+     * write failed or the journal is closed. Cancelling the future withdraws the entry unless the
+     * writer has already taken it, in which case {@code cancel} returns {@code false} and the entry
+     * is written as usual.
+     */
+    CompletableFuture<Void> append(Entry entry) {
+        Durable durable = new Durable();
+        if (!running) {
+            durable.completeExceptionally(new IllegalStateException("Enrollment journal is closed"));
+            return durable;
+        }
+        queue.add(new Append(entry, durable));
+        return durable;
+    }
+
+    List<Path> seal() {
+        synchronized (lock) {
+            closeActive();
+            return segments(directory);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        List<Append> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(append -> append.durable().completeExceptionally(
+                new IllegalStateException("Enrollment journal is closed")));
+        synchronized (lock) {
+            closeActive();
+        }
+    }
+
+    /** Closed segments in {@code directory}, oldest first. */
+    static List<Path> segments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> SEGMENT.matcher(file.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /** Reads a segment; a torn last line from a crash mid-write was never acknowledged and is skipped. */
+    static List<Entry> read(Path segment) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+            String[] fields = line.split(",");
+            if (fields.length != 3) {
+                continue;
+            }
+            try {
+                entries.add(new Entry(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                        LocalDateTime.parse(fields[2])));
+            } catch (RuntimeException ex) {
+                log.warn("Skipping unreadable enrollment journal line in {}", segment.getFileName());
+            }
+        }
+        return entries;
+    }
+
+    private void writeLoop() {
+        List<Append> group = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Append first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(group, MAX_GROUP - group.size());
+            group.removeIf(append -> !append.durable().take());
+            if (!group.isEmpty()) {
+                writeGroup(group);
+            }
+            group.clear();
+        }
+    }
+
+    private void writeGroup(List<Append> group) {
+        StringBuilder lines = new StringBuilder(group.size() * 48);
+        for (Append append : group) {
+            Entry entry = append.entry();
+            lines.append(entry.courseId()).append(',').append(entry.learnerId()).append(',')
+                    .append(entry.enrolledAt()).append('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            synchronized (lock) {
+                FileChannel channel = activeChannel();
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(false);
+            }
+            group.forEach(append -> append.durable().complete(null));
+        } catch (IOException ex) {
+            log.error("Enrollment journal write failed: {}", ex.getMessage());
+            group.forEach(append -> append.durable().completeExceptionally(ex));
+            synchronized (lock) {
+                closeActive();
+            }
+        }
+    }
+
+    // Segments are written under a temporary name and renamed when closed, so seal() never hands
+    // out a file that is still being appended to.
+    private FileChannel activeChannel() throws IOException {
+        if (active == null) {
+            activePath = directory.resolve(String.format("enrollments-%020d.log", nextSequence) + OPEN_SUFFIX);
+            active = FileChannel.open(activePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return active;
+    }
+
+    private void closeActive() {
+        if (active == null) {
+            return;
+        }
+        try {
+            active.close();
+            Files.move(activePath, sealedPath(activePath));
+        } catch (IOException ex) {
+            log.error("Could not close enrollment journal segment {}: {}", activePath, ex.getMessage());
+        } finally {
+            active = null;
+            activePath = null;
+            nextSequence++;
+        }
+    }
+
+    // A segment still open when the process died holds acknowledged entries.
+    private static void recoverOpenSegments(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path open : files.filter(file -> file.getFileName().toString().endsWith(OPEN_SUFFIX)).toList()) {
+                Files.move(open, sealedPath(open));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot recover enrollment journal segments in " + directory, ex);
+        }
+    }
+
+    private static Path sealedPath(Path open) {
+        String name = open.getFileName().toString();
+        return open.resolveSibling(name.substring(0, name.length() - OPEN_SUFFIX.length()));
+    }
+
+    private static long sequence(Path segment) {
+        Matcher matcher = SEGMENT.matcher(segment.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a journal segment: " + segment);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    record Entry(long courseId, long learnerId, LocalDateTime enrolledAt) {
+    }
+
+    private record Append(Entry entry, Durable durable) {
+    }
+
+    // Taken once, by either the writer or a cancel, so a cancelled entry is never written.
+    private static final class Durable extends CompletableFuture<Void> {
+
+        private final AtomicBoolean taken = new AtomicBoolean();
+
+        boolean take() {
+            return taken.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return take() && super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package com.skilllink.service;
+
+import com.skilllink.dto.EnrollmentResponse;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.ForbiddenException;
+import com.skilllink.exception.InvalidStateException;
+import com.skilllink.exception.NotFoundException;
+import com.skilllink.model.User;
+import com.skilllink.model.UserRole;
+import com.skilllink.repository.CourseRepository;
+import com.skilllink.repository.EnrollmentRepository;
+import com.skilllink.repository.EnrollmentRollupRow;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * High-throughput enrollment mode for course launches, off unless
+ * {@code skilllink.enrollments.write-behind.enabled} is set. An enrollment is checked against an
+ * in-memory membership set for its course (loaded from the database the first time the course is
+ * touched), appended to a local {@link EnrollmentJournal} and acknowledged as pending once the
+ * journal has forced it to disk. A scheduled writer replays sealed journal segments into
+ * {@code enrollments} as one JDBC batch per segment and deletes each segment only after its batch
+ * commits, so an acknowledged enrollment survives a crash and is applied on the next start.
+ *
+ * <p>Learners see their pending enrollments through {@link #merge}; entries stay visible for the
+ * replica sticky window after they are written so a lagging replica cannot hide them. Membership
+ * sets are per instance: with several instances behind a load balancer a duplicate accepted by
+ * two of them is dropped when it is written, and the learner keeps a single enrollment.
+ */
+@Component
+public class EnrollmentQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentQueue.class);
+    private static final String INSERT_SQL =
+            "INSERT INTO enrollments (course_id, learner_id, enrolled_at) VALUES (?, ?, ?)";
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EngagementCounters counters;
+    private final TrendingService trendingService;
+    private final StatsRollups stats;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path journalDirectory;
+    private final int batchSize;
+    private final Duration ackTimeout;
+    private final Duration visibleFor;
+    private final EnrollmentJournal journal;
+
+    private final Map<Long, Set<Long>> members = new ConcurrentHashMap<>();
+    // Learner id to the enrollments this instance accepted for them, keyed by course id.
+    private final Map<Long, Map<Long, Accepted>> accepted = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public EnrollmentQueue(CourseRepository courseRepository,
+                           EnrollmentRepository enrollmentRepository,
+                           EngagementCounters counters,
+                           TrendingService trendingService,
+                           StatsRollups stats,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${skilllink.enrollments.write-behind.enabled:false}") boolean enabled,
+                           @Value("${skilllink.enrollments.write-behind.journal-dir:enrollment-journal}") Path journalDirectory,
+                           @Value("${skilllink.enrollments.write-behind.batch-size:500}") int batchSize,
+                           @Value("${skilllink.enrollments.write-behind.ack-timeout:PT5S}") Duration ackTimeout,
+                           @Value("${skilllink.datasource.replica.sticky-window:PT5S}") Duration visibleFor) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("skilllink.enrollments.write-behind.batch-size must be at least 1");
+        }
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.counters = counters;
+        this.trendingService = trendingService;
+        this.stats = stats;
+        this.jdbcTemplate = jdbcTemplate;
+        // Read-write so membership loads and pre-checks read the primary, never a lagging replica.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.journalDirectory = journalDirectory;
+        this.batchSize = batchSize;
+        this.ackTimeout = ackTimeout;
+        this.visibleFor = visibleFor;
+        this.journal = enabled ? new EnrollmentJournal(journalDirectory) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public EnrollmentResponse enroll(Long courseId, User learner) {
+        if (!enabled) {
+            throw new IllegalStateException("Write-behind enrollments are disabled");
+        }
+        if (learner.getRole() != UserRole.LEARNER) {
+            throw new ForbiddenException(ErrorCode.ENROLLMENT_FORBIDDEN);
+        }
+        Set<Long> courseMembers = members(courseId);
+        if (!courseMembers.add(learner.getId())) {
+            throw new InvalidStateException(ErrorCode.ALREADY_ENROLLED);
+        }
+        LocalDateTime enrolledAt = LocalDateTime.now();
+        Accepted entry = new Accepted(courseId, enrolledAt);
+        accepted.computeIfAbsent(learner.getId(), id -> new ConcurrentHashMap<>()).put(courseId, entry);
+
+        CompletableFuture<Void> durable = journal.append(
+                new EnrollmentJournal.Entry(courseId, learner.getId(), enrolledAt));
+        // Also covers a write that fails after the caller stopped waiting for it.
+        durable.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                courseMembers.remove(learner.getId());
+                forget(learner.getId(), courseId, entry);
+            }
+        });
+        try {
+            durable.get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            throw recordingFailed(ex.getCause());
+        } catch (TimeoutException ex) {
+            // Withdrawn entries roll back membership through the failure callback, so a retry can
+            // enroll again. One the writer already took is waited for until its force settles it.
+            if (durable.cancel(false)) {
+                throw new UncheckedIOException("Enrollment was not confirmed in time", new IOException(ex));
+            }
+            awaitTaken(durable);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (durable.cancel(false)) {
+                throw new IllegalStateException("Interrupted while recording enrollment", ex);
+            }
+            awaitTaken(durable);
+        }
+        trendingService.recordEnrollment(courseId);
+        return new EnrollmentResponse(null, courseId, learner.getId(), enrolledAt, true);
+    }
+
+    // The writer owns the entry and completes it once its force returns, so the wait is bounded by
+    // that force. join() also waits out an interrupt, which stays set for the caller.
+    private static void awaitTaken(CompletableFuture<Void> durable) {
+        try {
+            durable.join();
+        } catch (CompletionException ex) {
+            throw recordingFailed(ex.getCause());
+        }
+    }
+
+    private static UncheckedIOException recordingFailed(Throwable cause) {
+        return new UncheckedIOException("Enrollment could not be recorded",
+                cause instanceof IOException io ? io : new IOException(cause));
+    }
+
+    /**
+     * Adds the enrollments this instance accepted for {@code learnerId} that {@code persisted}
+     * does not include yet, flagged pending until the writer has stored them.
+     */
+    public List<EnrollmentResponse> merge(Long learnerId, List<EnrollmentResponse> persisted) {
+        Map<Long, Accepted> own = accepted.get(learnerId);
+        if (own == null || own.isEmpty()) {
+            return persisted;
+        }
+        Set<Long> courses = new HashSet<>();
+        persisted.forEach(enrollment -> courses.add(enrollment.courseId()));
+        List<EnrollmentResponse> merged = new ArrayList<>(persisted);
+        LocalDateTime now = LocalDateTime.now();
+        own.values().stream()
+                .filter(entry -> !courses.contains(entry.courseId()) && entry.visibleAt(now))
+                .sorted(Comparator.comparing(Accepted::enrolledAt))
+                .forEach(entry -> merged.add(new EnrollmentResponse(null, entry.courseId(), learnerId,
+                        entry.enrolledAt(), !entry.written())));
+        return merged;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        List<Path> leftovers = EnrollmentJournal.segments(journalDirectory);
+        if (!leftovers.isEmpty()) {
+            log.info("Replaying {} enrollment journal segment(s) left by the previous run", leftovers.size());
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${skilllink.enrollments.write-behind.flush-interval:PT0.5S}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            // A disabled instance still drains segments left by a run that had it enabled.
+            List<Path> segments = journal != null ? journal.seal() : EnrollmentJournal.segments(journalDirectory);
+            for (Path segment : segments) {
+                if (!apply(segment)) {
+                    return;
+                }
+            }
+            expireWritten();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (journal != null) {
+            journal.close();
+        }
+        flush();
+    }
+
+    private Set<Long> members(Long courseId) {
+        Set<Long> loaded = members.get(courseId);
+        if (loaded != null) {
+            return loaded;
+        }
+        // Missing courses are not cached; they fail here on every attempt.
+        return members.computeIfAbsent(courseId, id -> transactionTemplate.execute(status -> {
+            if (!courseRepository.existsById(id)) {
+                throw new NotFoundException(ErrorCode.COURSE_NOT_FOUND);
+            }
+            Set<Long> learners = ConcurrentHashMap.newKeySet();
+            learners.addAll(enrollmentRepository.findLearnerIdsByCourseId(id));
+            return learners;
+        }));
+    }
+
+    // Writes one segment and deletes it; false leaves it (and every later one) for the next run.
+    private boolean apply(Path segment) {
+        List<EnrollmentJournal.Entry> entries;
+        try {
+            entries = EnrollmentJournal.read(segment);
+        } catch (IOException ex) {
+            log.warn("Could not read enrollment journal segment {}, retrying: {}", segment.getFileName(),
+                    ex.getMessage());
+            return false;
+        }
+        Map<Long, Map<Long, EnrollmentJournal.Entry>> byCourse = new LinkedHashMap<>();
+        for (EnrollmentJournal.Entry entry : entries) {
+            byCourse.computeIfAbsent(entry.courseId(), id -> new LinkedHashMap<>())
+                    .putIfAbsent(entry.learnerId(), entry);
+        }
+        try {
+            int written = write(byCourse.values().stream().flatMap(byLearner -> byLearner.values().stream()).toList());
+            log.debug("Wrote {} of {} journaled enrollment(s) from {}", written, entries.size(), segment.getFileName());
+        } catch (DataIntegrityViolationException ex) {
+            // A course deleted since, or a pair another instance wrote meanwhile: find the offending
+            // entries one by one instead of retrying the segment forever.
+            entries.forEach(this::writeOrDrop);
+        } catch (DataAccessException ex) {
+            log.warn("Enrollment write-behind failed for {}, retrying: {}", segment.getFileName(), ex.getMessage());
+            return false;
+        }
+        discard(segment);
+        return true;
+    }
+
+    private void writeOrDrop(EnrollmentJournal.Entry entry) {
+        try {
+            write(List.of(entry));
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Dropping journaled enrollment of learner {} in course {}: {}", entry.learnerId(),
+                    entry.courseId(), ex.getMessage());
+            Set<Long> courseMembers = members.get(entry.courseId());
+            if (courseMembers != null) {
+                courseMembers.remove(entry.learnerId());
+            }
+            Map<Long, Accepted> own = accepted.get(entry.learnerId());
+            if (own != null) {
+                own.remove(entry.courseId());
+            }
+        }
+    }
+
+    // One transaction for all of the entries; returns how many were new.
+    private int write(List<EnrollmentJournal.Entry> entries) {
+        Map<Long, Map<Long, EnrollmentJournal.Entry>> byCourse = new LinkedHashMap<>();
+        for (EnrollmentJournal.Entry entry : entries) {
+            byCourse.computeIfAbsent(entry.courseId(), id -> new LinkedHashMap<>()).put(entry.learnerId(), entry);
+        }
+        Integer written = transactionTemplate.execute(status -> {
+            List<EnrollmentJournal.Entry> inserted = new ArrayList<>();
+            byCourse.forEach((courseId, byLearner) -> inserted.addAll(insert(courseId, byLearner)));
+            registerAfterCommit(entries, inserted);
+            return inserted.size();
+        });
+        return written != null ? written : 0;
+    }
+
+    private List<EnrollmentJournal.Entry> insert(Long courseId, Map<Long, EnrollmentJournal.Entry> byLearner) {
+        Set<Long> existing = new HashSet<>();
+        List<Long> learnerIds = new ArrayList<>(byLearner.keySet());
+        for (int from = 0; from < learnerIds.size(); from += batchSize) {
+            List<Long> chunk = learnerIds.subList(from, Math.min(from + batchSize, learnerIds.size()));
+            existing.addAll(enrollmentRepository.findLearnerIdsByCourseIdAndLearnerIdIn(courseId, chunk));
+        }
+        List<EnrollmentJournal.Entry> fresh = byLearner.values().stream()
+                .filter(entry -> !existing.contains(entry.learnerId()))
+                .toList();
+        if (fresh.isEmpty()) {
+            return fresh;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, fresh, batchSize, (statement, entry) -> {
+            statement.setLong(1, entry.courseId());
+            statement.setLong(2, entry.learnerId());
+            statement.setTimestamp(3, Timestamp.valueOf(entry.enrolledAt()));
+        });
+        List<EnrollmentRollupRow> rows = new ArrayList<>(fresh.size());
+        List<Long> freshIds = fresh.stream().map(EnrollmentJournal.Entry::learnerId).toList();
+        for (int from = 0; from < freshIds.size(); from += batchSize) {
+            rows.addAll(enrollmentRepository.findRollupRowsByCourseIdAndLearnerIdIn(courseId,
+                    freshIds.subList(from, Math.min(from + batchSize, freshIds.size()))));
+        }
+        stats.enrollmentsCreated(rows);
+        return fresh;
+    }
+
+    // Skipped duplicates are stored too, by an earlier write, so they age out like inserted ones.
+    private void registerAfterCommit(List<EnrollmentJournal.Entry> entries, List<EnrollmentJournal.Entry> inserted) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inserted.forEach(entry -> counters.increment(CounterType.COURSE_ENROLLMENTS, entry.courseId()));
+                LocalDateTime visibleUntil = LocalDateTime.now().plus(visibleFor);
+                for (EnrollmentJournal.Entry entry : entries) {
+                    Map<Long, Accepted> own = accepted.get(entry.learnerId());
+                    Accepted pending = own != null ? own.get(entry.courseId()) : null;
+                    if (pending != null) {
+                        pending.written(visibleUntil);
+                    }
+                }
+            }
+        });
+    }
+
+    private void discard(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException ex) {
+            // Replaying it later is harmless: every entry is now found by the pre-check.
+            log.warn("Could not delete applied enrollment journal segment {}: {}", segment.getFileName(),
+                    ex.getMessage());
+        }
+    }
+
+    private void expireWritten() {
+        LocalDateTime now = LocalDateTime.now();
+        accepted.forEach((learnerId, own) -> {
+            own.values().removeIf(entry -> entry.expired(now));
+            if (own.isEmpty()) {
+                accepted.remove(learnerId, own);
+            }
+        });
+    }
+
+    private void forget(Long learnerId, Long courseId, Accepted entry) {
+        Map<Long, Accepted> own = accepted.get(learnerId);
+        if (own != null) {
+            own.remove(courseId, entry);
+        }
+    }
+
+    private static final class Accepted {
+
+        private final Long courseId;
+        private final LocalDateTime enrolledAt;
+        private volatile LocalDateTime visibleUntil;
+
+        Accepted(Long courseId, LocalDateTime enrolledAt) {
+            this.courseId = courseId;
+            this.enrolledAt = enrolledAt;
+        }
+
+        Long courseId() {
+            return courseId;
+        }
+
+        LocalDateTime enrolledAt() {
+            return enrolledAt;
+        }
+
+        boolean written() {
+            return visibleUntil != null;
+        }
+
+        void written(LocalDateTime until) {
+            this.visibleUntil = until;
+        }
+
+        boolean visibleAt(LocalDateTime now) {
+            return visibleUntil == null || now.isBefore(visibleUntil);
+        }
+
+        boolean expired(LocalDateTime now) {
+            return visibleUntil != null && !now.isBefore(visibleUntil);
+        }
+    }
+}
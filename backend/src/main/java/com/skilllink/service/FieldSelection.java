@@ -0,0 +1,108 @@
+package com.skilllink.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code view} and {@code fields} parameters of a list endpoint. A summary view, or a field
+ * list that only names summary fields, selects the narrow SQL projection; a field list also
+ * trims the serialized items down to those fields (plus {@code id}). The field list is validated,
+ * de-duplicated and sorted, so every spelling of the same selection has the same {@link #key()}.
+ */
+public final class FieldSelection {
+
+    public static final FieldSelection ALL = new FieldSelection(false, Set.of());
+
+    private static final ClassValue<Set<String>> COMPONENTS = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            return Arrays.stream(type.getRecordComponents())
+                    .map(RecordComponent::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    };
+
+    private final boolean summary;
+    private final Set<String> fields;
+
+    private FieldSelection(boolean summary, Set<String> fields) {
+        this.summary = summary;
+        this.fields = fields;
+    }
+
+    public static FieldSelection of(String view, String fields,
+                                    Class<? extends Record> fullType, Class<? extends Record> summaryType) {
+        boolean summaryView = parseView(view);
+        Set<String> summaryFields = COMPONENTS.get(summaryType);
+        Set<String> available = summaryView ? summaryFields : COMPONENTS.get(fullType);
+        Set<String> requested = new TreeSet<>();
+        if (fields != null) {
+            for (String field : fields.split(",")) {
+                String name = field.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (!available.contains(name)) {
+                    throw new IllegalArgumentException(summaryView
+                            ? "Field not available in summary view: " + name
+                            : "Unknown field: " + name);
+                }
+                requested.add(name);
+            }
+        }
+        if (requested.isEmpty()) {
+            return new FieldSelection(summaryView, Set.of());
+        }
+        requested.add("id");
+        boolean summary = summaryView || summaryFields.containsAll(requested);
+        // Naming every field of the projection is the same request, and the same cache key, as naming none.
+        if (requested.containsAll(summary ? summaryFields : COMPONENTS.get(fullType))) {
+            return new FieldSelection(summary, Set.of());
+        }
+        return new FieldSelection(summary, Collections.unmodifiableSet(requested));
+    }
+
+    public boolean summary() {
+        return summary;
+    }
+
+    public boolean allFields() {
+        return fields.isEmpty();
+    }
+
+    public String key() {
+        return (summary ? "summary" : "full") + (fields.isEmpty() ? "" : ":" + String.join(",", fields));
+    }
+
+    public JsonNode apply(JsonNode node) {
+        if (fields.isEmpty() || node == null) {
+            return node;
+        }
+        if (node.isArray()) {
+            node.forEach(item -> {
+                if (item instanceof ObjectNode object) {
+                    object.retain(fields);
+                }
+            });
+        } else if (node.has("items")) {
+            apply(node.get("items"));
+        }
+        return node;
+    }
+
+    private static boolean parseView(String view) {
+        if (view == null || view.isBlank() || view.trim().equalsIgnoreCase("full")) {
+            return false;
+        }
+        if (view.trim().equalsIgnoreCase("summary")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unsupported view: " + view);
+    }
+}
@@ -0,0 +1,403 @@
+package com.skilllink.service;
+
+import com.skilllink.dto.CursorPage;
+import com.skilllink.dto.FreelancerProfileResponse;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.InvalidRequestException;
+import com.skilllink.model.User;
+import com.skilllink.model.UserRole;
+import com.skilllink.repository.UserProfileRow;
+import com.skilllink.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory freelancer directory: an inverted index from normalized skill to user ids and a BM25
+ * index over bios. Registration and profile updates patch the index after their transaction
+ * commits; a periodic full rebuild picks up writes made by other instances, and replays the
+ * events that arrived while it was reading so none of them is lost in the swap. The rebuild reads
+ * only the indexed columns of freelancers, in id-ordered chunks of {@value #REBUILD_CHUNK_SIZE}.
+ *
+ * <p>Without a text query results come back in id order straight off the posting lists, so a
+ * page costs a constant amount of work per returned profile. With a text query the ranked id list
+ * is computed once, kept for later pages of the same query, and each page resumes from the cursor
+ * by binary search.
+ */
+@Component
+public class FreelancerSearchIndex {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(FreelancerSearchIndex.class);
+    private static final Pattern SKILL_SEPARATOR = Pattern.compile("[,;]");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "for", "i", "in", "is",
+            "of", "on", "or", "the", "to", "with");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int RANKED_CACHE_SIZE = 64;
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Long, Profile> profiles = new TreeMap<>();
+    private final Map<String, TreeSet<Long>> bySkill = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> byTerm = new HashMap<>();
+    private final Map<String, Ranking> rankings = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Ranking> eldest) {
+            return size() > RANKED_CACHE_SIZE;
+        }
+    };
+    private long totalBioTerms;
+    private long version;
+    // Profile events applied while a rebuild is reading the database; null when no rebuild runs.
+    private List<UserProfileChangedEvent> pendingDuringRebuild;
+
+    public FreelancerSearchIndex(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${skilllink.search.rebuild-interval:PT10M}",
+            fixedDelayString = "${skilllink.search.rebuild-interval:PT10M}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<UserProfileChangedEvent> all = null;
+        try {
+            all = readFreelancers();
+        } catch (DataAccessException ex) {
+            log.warn("Search index rebuild failed, keeping the previous index: {}", ex.getMessage());
+        } finally {
+            swap(all);
+        }
+    }
+
+    private List<UserProfileChangedEvent> readFreelancers() {
+        List<UserProfileChangedEvent> all = new ArrayList<>();
+        long cursor = 0L;
+        while (true) {
+            long after = cursor;
+            List<UserProfileRow> chunk = readTransaction.execute(status -> userRepository.findProfilesByRoleAfter(
+                    UserRole.FREELANCER, after, PageRequest.of(0, REBUILD_CHUNK_SIZE)));
+            if (chunk == null || chunk.isEmpty()) {
+                return all;
+            }
+            chunk.forEach(row -> all.add(UserProfileChangedEvent.of(row)));
+            if (chunk.size() < REBUILD_CHUNK_SIZE) {
+                return all;
+            }
+            cursor = chunk.get(chunk.size() - 1).id();
+        }
+    }
+
+    private void swap(List<UserProfileChangedEvent> all) {
+        lock.writeLock().lock();
+        try {
+            if (all != null) {
+                profiles.clear();
+                bySkill.clear();
+                byTerm.clear();
+                totalBioTerms = 0;
+                all.forEach(this::add);
+                // The read may predate these; replaying them keeps their changes in the new index.
+                for (UserProfileChangedEvent event : pendingDuringRebuild) {
+                    remove(event.id());
+                    add(event);
+                }
+                changed();
+            }
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.id());
+            add(event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+            changed();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public CursorPage<FreelancerProfileResponse> search(UserRole role, Boolean mentor, Collection<String> skills,
+                                                        String text, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Set<String> wantedSkills = normalizeSkills(skills);
+        List<String> terms = tokenize(text);
+        lock.readLock().lock();
+        try {
+            return terms.isEmpty()
+                    ? byId(role, mentor, wantedSkills, after, pageSize)
+                    : byRelevance(role, mentor, wantedSkills, terms, after, pageSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private CursorPage<FreelancerProfileResponse> byId(UserRole role, Boolean mentor, Set<String> skills,
+                                                       KeysetCursor after, int pageSize) {
+        NavigableSet<Long> driver = smallestPostingList(skills);
+        if (driver == null) {
+            return new CursorPage<>(List.of(), null);
+        }
+        if (after != null) {
+            driver = driver.tailSet(after.id(), false);
+        }
+        List<FreelancerProfileResponse> items = new ArrayList<>(pageSize);
+        Long lastId = null;
+        for (Long id : driver) {
+            Profile profile = profiles.get(id);
+            if (!matches(profile, role, mentor, skills)) {
+                continue;
+            }
+            if (items.size() == pageSize) {
+                return new CursorPage<>(items, KeysetCursor.encode("", lastId));
+            }
+            items.add(profile.toResponse(null));
+            lastId = id;
+        }
+        return new CursorPage<>(items, null);
+    }
+
+    private CursorPage<FreelancerProfileResponse> byRelevance(UserRole role, Boolean mentor, Set<String> skills,
+                                                              List<String> terms, KeysetCursor after, int pageSize) {
+        String key = role + "|" + mentor + "|" + skills + "|" + terms;
+        Ranking ranking;
+        synchronized (rankings) {
+            ranking = rankings.get(key);
+        }
+        if (ranking == null || ranking.version() != version) {
+            ranking = rank(role, mentor, skills, terms);
+            synchronized (rankings) {
+                rankings.put(key, ranking);
+            }
+        }
+
+        int start = 0;
+        if (after != null) {
+            double score = parseScore(after.key());
+            start = ranking.positionAfter(score, after.id());
+        }
+        int end = Math.min(start + pageSize, ranking.ids().length);
+        List<FreelancerProfileResponse> items = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            items.add(profiles.get(ranking.ids()[i]).toResponse(ranking.scores()[i]));
+        }
+        String nextCursor = end < ranking.ids().length
+                ? KeysetCursor.encode(ranking.scores()[end - 1], ranking.ids()[end - 1])
+                : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private Ranking rank(UserRole role, Boolean mentor, Set<String> skills, List<String> terms) {
+        Map<Long, Double> scores = new HashMap<>();
+        double averageLength = profiles.isEmpty() ? 1.0 : Math.max(1.0, (double) totalBioTerms / profiles.size());
+        for (String term : new LinkedHashSet<>(terms)) {
+            Map<Long, Integer> postings = byTerm.get(term);
+            if (postings == null) {
+                continue;
+            }
+            double idf = Math.log(1.0 + (profiles.size() - postings.size() + 0.5) / (postings.size() + 0.5));
+            postings.forEach((id, frequency) -> {
+                Profile profile = profiles.get(id);
+                if (!matches(profile, role, mentor, skills)) {
+                    return;
+                }
+                double norm = K1 * (1 - B + B * profile.bioLength() / averageLength);
+                scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+            });
+        }
+        List<Map.Entry<Long, Double>> ordered = new ArrayList<>(scores.entrySet());
+        ordered.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        long[] ids = new long[ordered.size()];
+        double[] rankedScores = new double[ordered.size()];
+        for (int i = 0; i < ordered.size(); i++) {
+            ids[i] = ordered.get(i).getKey();
+            rankedScores[i] = ordered.get(i).getValue();
+        }
+        return new Ranking(version, ids, rankedScores);
+    }
+
+    private NavigableSet<Long> smallestPostingList(Set<String> skills) {
+        if (skills.isEmpty()) {
+            return profiles.navigableKeySet();
+        }
+        NavigableSet<Long> smallest = null;
+        for (String skill : skills) {
+            TreeSet<Long> postings = bySkill.get(skill);
+            if (postings == null) {
+                return null;
+            }
+            if (smallest == null || postings.size() < smallest.size()) {
+                smallest = postings;
+            }
+        }
+        return smallest;
+    }
+
+    private static boolean matches(Profile profile, UserRole role, Boolean mentor, Set<String> skills) {
+        return profile != null
+                && (role == null || profile.role() == role)
+                && (mentor == null || profile.mentor() == mentor)
+                && profile.skills().containsAll(skills);
+    }
+
+    // Other roles are not listed; an event for one only clears any entry it left behind.
+    private void add(UserProfileChangedEvent event) {
+        if (event.role() != UserRole.FREELANCER) {
+            return;
+        }
+        Set<String> skills = normalizeSkills(splitSkills(event.skills()));
+        List<String> bioTerms = tokenize(event.bio());
+        Profile profile = new Profile(event.id(), event.name(), event.role(), event.mentor(),
+                splitSkills(event.skills()), skills, event.bio(), bioTerms.size());
+        profiles.put(event.id(), profile);
+        skills.forEach(skill -> bySkill.computeIfAbsent(skill, key -> new TreeSet<>()).add(event.id()));
+        for (String term : bioTerms) {
+            byTerm.computeIfAbsent(term, key -> new HashMap<>()).merge(event.id(), 1, Integer::sum);
+        }
+        totalBioTerms += bioTerms.size();
+    }
+
+    private void remove(Long id) {
+        Profile previous = profiles.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String skill : previous.skills()) {
+            TreeSet<Long> postings = bySkill.get(skill);
+            if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                bySkill.remove(skill);
+            }
+        }
+        for (String term : new LinkedHashSet<>(tokenize(previous.bio()))) {
+            Map<Long, Integer> postings = byTerm.get(term);
+            if (postings != null && postings.remove(id) != null && postings.isEmpty()) {
+                byTerm.remove(term);
+            }
+        }
+        totalBioTerms -= previous.bioLength();
+    }
+
+    private void changed() {
+        version++;
+        synchronized (rankings) {
+            rankings.clear();
+        }
+    }
+
+    private static List<String> splitSkills(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SKILL_SEPARATOR.split(skills))
+                .map(String::trim)
+                .filter(skill -> !skill.isEmpty())
+                .toList();
+    }
+
+    private static Set<String> normalizeSkills(Collection<String> skills) {
+        Set<String> normalized = new TreeSet<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                String value = skill == null ? "" : skill.trim().toLowerCase(Locale.ROOT);
+                if (!value.isEmpty()) {
+                    normalized.add(value);
+                }
+            }
+        }
+        return normalized;
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static double parseScore(String key) {
+        try {
+            return Double.parseDouble(key);
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR, ex);
+        }
+    }
+
+    private record Profile(Long id, String name, UserRole role, boolean mentor, List<String> displaySkills,
+                           Set<String> skills, String bio, int bioLength) {
+
+        FreelancerProfileResponse toResponse(Double score) {
+            return new FreelancerProfileResponse(id, name, role, mentor, displaySkills, bio, score);
+        }
+    }
+
+    private record Ranking(long version, long[] ids, double[] scores) {
+
+        int positionAfter(double score, long id) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                boolean before = scores[mid] > score || (scores[mid] == score && ids[mid] <= id);
+                if (before) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -1,109 +1,254 @@
 package com.skilllink.service;
 
+import com.skilllink.dto.ApplicationResponse;
 import com.skilllink.dto.AssignFreelancerRequest;
+import com.skilllink.dto.CursorPage;
 import com.skilllink.dto.JobDetailResponse;
 import com.skilllink.dto.JobRequest;
 import com.skilllink.dto.JobResponse;
+import com.skilllink.dto.JobSummaryResponse;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.ForbiddenException;
+import com.skilllink.exception.InvalidRequestException;
+import com.skilllink.exception.NotFoundException;
+import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.InvalidationKind;
 import com.skilllink.model.Job;
 import com.skilllink.model.JobStatus;
+import com.skilllink.model.Skill;
 import com.skilllink.model.User;
 import com.skilllink.model.UserRole;
 import com.skilllink.repository.JobRepository;
+import com.skilllink.repository.JobSkillRow;
+import com.skilllink.repository.JobSummaryRow;
 import com.skilllink.repository.UserRepository;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class JobService {
 
+    private static final int MAX_TRENDING = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DETAIL_APPLICATIONS = 20;
+
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
+    private final EngagementCounters counters;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher events;
+    private final ApplicationService applicationService;
+    private final CacheInvalidationBus invalidations;
+    private final SkillDictionary skillDictionary;
+    private final StatsRollups stats;
 
-    public JobService(JobRepository jobRepository, UserRepository userRepository) {
+    public JobService(JobRepository jobRepository,
+                      UserRepository userRepository,
+                      EngagementCounters counters,
+                      TrendingService trendingService,
+                      ApplicationEventPublisher events,
+                      ApplicationService applicationService,
+                      CacheInvalidationBus invalidations,
+                      SkillDictionary skillDictionary,
+                      StatsRollups stats) {
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
+        this.counters = counters;
+        this.trendingService = trendingService;
+        this.events = events;
+        this.applicationService = applicationService;
+        this.invalidations = invalidations;
+        this.skillDictionary = skillDictionary;
+        this.stats = stats;
     }
 
     @Transactional
     public JobResponse createJob(JobRequest request, User client) {
         if (client.getRole() != UserRole.CLIENT) {
-            throw new SecurityException("Only clients can post jobs");
+            throw new ForbiddenException(ErrorCode.JOB_POSTING_FORBIDDEN);
         }
         Job job = new Job();
         job.setTitle(request.title());
         job.setDescription(request.description());
         job.setBudget(request.budget());
         if (request.skills() != null) {
-            job.setRequiredSkills(new HashSet<>(request.skills()));
+            List<Skill> skills = skillDictionary.resolve(request.skills());
+            job.setCanonicalSkills(new LinkedHashSet<>(skills));
+            job.setRequiredSkills(skills.stream().map(Skill::getName).collect(Collectors.toCollection(HashSet::new)));
         }
         job.setClient(client);
         job.setStatus(JobStatus.OPEN);
         Job saved = jobRepository.save(job);
-        return DtoMapper.toJobResponse(saved);
+        events.publishEvent(new CatalogChangedEvent(Catalog.JOBS));
+        invalidations.publish(InvalidationKind.JOB, saved.getId());
+        stats.jobPosted(saved);
+        return toResponse(saved);
     }
 
-    public List<JobResponse> getJobs() {
-        return jobRepository.findAll().stream()
-                .map(DtoMapper::toJobResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> getJobs(String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Job> jobs = jobRepository.findPageAfter(after != null ? after.id() : 0L, PageRequest.of(0, pageSize + 1));
+        String nextCursor = null;
+        if (jobs.size() > pageSize) {
+            jobs = jobs.subList(0, pageSize);
+            nextCursor = KeysetCursor.encode("", jobs.get(pageSize - 1).getId());
+        }
+        return new CursorPage<>(jobs.stream().map(this::toResponse).toList(), nextCursor);
+    }
+
+    public static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    // One page of narrow rows, then the skills of just those jobs; no TEXT descriptions are read.
+    @Transactional(readOnly = true)
+    public CursorPage<JobSummaryResponse> getJobSummaries(String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<JobSummaryRow> rows = jobRepository.findSummariesAfter(after != null ? after.id() : 0L,
+                PageRequest.of(0, pageSize + 1));
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = KeysetCursor.encode("", rows.get(pageSize - 1).id());
+        }
+        Map<Long, Set<String>> skillsByJob = new HashMap<>();
+        if (!rows.isEmpty()) {
+            for (JobSkillRow row : jobRepository.findSkillsByJobIdIn(rows.stream().map(JobSummaryRow::id).toList())) {
+                skillsByJob.computeIfAbsent(row.jobId(), id -> new HashSet<>()).add(row.skill());
+            }
+        }
+        List<JobSummaryResponse> summaries = new ArrayList<>(rows.size());
+        for (JobSummaryRow row : rows) {
+            summaries.add(new JobSummaryResponse(
+                    row.id(),
+                    row.title(),
+                    row.budget(),
+                    row.status(),
+                    row.createdAt(),
+                    Set.copyOf(skillsByJob.getOrDefault(row.id(), Set.of())),
+                    row.clientId(),
+                    row.clientName(),
+                    row.freelancerId(),
+                    row.freelancerName(),
+                    counters.current(CounterType.JOB_VIEWS, row.id(), row.viewCount())));
+        }
+        return new CursorPage<>(summaries, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobResponse> getTrendingJobs(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_TRENDING));
+        List<Long> ids = trendingService.trendingJobIds(Integer.MAX_VALUE);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Job> byId = jobRepository.findWithPartiesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<JobResponse> trending = new ArrayList<>(size);
+        for (Long id : ids) {
+            Job job = byId.get(id);
+            if (job != null && job.getStatus() == JobStatus.OPEN) {
+                trending.add(toResponse(job));
+                if (trending.size() == size) {
+                    break;
+                }
+            }
+        }
+        return trending;
     }
 
+    @Transactional(readOnly = true)
     public JobResponse getJob(Long id) {
         Job job = jobRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Job not found"));
-        return DtoMapper.toJobResponse(job);
+                .orElseThrow(() -> new NotFoundException(ErrorCode.JOB_NOT_FOUND));
+        counters.increment(CounterType.JOB_VIEWS, job.getId());
+        trendingService.recordJobView(job.getId());
+        return toResponse(job);
     }
 
     @Transactional
     public JobResponse assignFreelancer(Long jobId, AssignFreelancerRequest request, User client) {
         Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new NoSuchElementException("Job not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.JOB_NOT_FOUND));
         if (!job.getClient().getId().equals(client.getId())) {
-            throw new SecurityException("Cannot assign freelancer to someone else's job");
+            throw new ForbiddenException(ErrorCode.JOB_ASSIGNMENT_FORBIDDEN);
         }
         User freelancer = userRepository.findById(request.freelancerId())
-                .orElseThrow(() -> new NoSuchElementException("Freelancer not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.FREELANCER_NOT_FOUND));
         if (freelancer.getRole() != UserRole.FREELANCER) {
-            throw new IllegalArgumentException("Selected user is not a freelancer");
+            throw new InvalidRequestException(ErrorCode.NOT_A_FREELANCER);
         }
+        JobStatus previous = job.getStatus();
         job.setFreelancer(freelancer);
         job.setStatus(JobStatus.IN_PROGRESS);
-        return DtoMapper.toJobResponse(job);
+        events.publishEvent(new CatalogChangedEvent(Catalog.JOBS));
+        invalidations.publish(InvalidationKind.JOB, job.getId());
+        stats.jobStatusChanged(job, previous);
+        trendingService.forgetJob(job.getId());
+        return toResponse(job);
     }
 
+    @Transactional(readOnly = true)
     public List<JobResponse> getJobsForClient(User client) {
-        return jobRepository.findByClientId(client.getId()).stream()
-                .map(DtoMapper::toJobResponse)
+        List<Job> jobs = jobRepository.findByClientId(client.getId());
+        Map<Long, Map<ApplicationStatus, Long>> counts =
+                applicationService.countByStatus(jobs.stream().map(Job::getId).toList());
+        return jobs.stream()
+                .map(job -> DtoMapper.toJobResponse(job,
+                        counters.current(CounterType.JOB_VIEWS, job.getId(), job.getViewCount()), counts.get(job.getId())))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<JobResponse> getRecentOpenJobs(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return jobRepository.findRecentByStatus(JobStatus.OPEN, PageRequest.of(0, size)).stream()
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<JobResponse> getJobsForFreelancer(User freelancer) {
         return jobRepository.findByFreelancerId(freelancer.getId()).stream()
-                .map(DtoMapper::toJobResponse)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public JobDetailResponse getJobWithApplications(Long jobId, User requester) {
-        Job job = jobRepository.findWithApplicationsById(jobId)
-                .orElseThrow(() -> new NoSuchElementException("Job not found"));
+        Job job = jobRepository.findWithPartiesById(jobId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.JOB_NOT_FOUND));
 
         if (job.getClient() == null || !job.getClient().getId().equals(requester.getId())) {
-            throw new SecurityException("Cannot view details for this job");
+            throw new ForbiddenException(ErrorCode.JOB_DETAILS_FORBIDDEN);
         }
 
-        List<com.skilllink.model.Application> applications = job.getApplications().stream()
-                .sorted(Comparator.comparing(com.skilllink.model.Application::getAppliedAt))
-                .collect(Collectors.toList());
-
+        CursorPage<ApplicationResponse> firstPage = applicationService.getPage(jobId, null, null, DETAIL_APPLICATIONS);
+        Map<ApplicationStatus, Long> counts = applicationService.countByStatus(jobId);
         return new JobDetailResponse(
-                DtoMapper.toJobResponse(job),
-                applications.stream().map(DtoMapper::toApplicationResponse).collect(Collectors.toList())
+                toResponse(job),
+                firstPage.items(),
+                firstPage.nextCursor(),
+                counts,
+                counts.values().stream().mapToLong(Long::longValue).sum()
         );
     }
+
+    private JobResponse toResponse(Job job) {
+        return DtoMapper.toJobResponse(job, counters.current(CounterType.JOB_VIEWS, job.getId(), job.getViewCount()));
+    }
 }
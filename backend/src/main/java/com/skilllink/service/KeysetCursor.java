@@ -0,0 +1,62 @@
+package com.skilllink.service;
+
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.InvalidRequestException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position: the sort key of the last row served plus its id as tie-breaker.
+ */
+public record KeysetCursor(String key, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split < 0) {
+                throw new InvalidRequestException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(raw.substring(0, split), Long.parseLong(raw.substring(split + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR, ex);
+        }
+    }
+
+    public LocalDateTime timestampKey() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR, ex);
+        }
+    }
+
+    public BigDecimal decimalKey() {
+        try {
+            return new BigDecimal(key);
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR, ex);
+        }
+    }
+
+    public long longKey() {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestException(ErrorCode.INVALID_CURSOR, ex);
+        }
+    }
+
+    public static String encode(Object key, Long id) {
+        String raw = (key == null ? "" : key.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+package com.skilllink.service;
+
+import com.skilllink.exception.InvalidStateException;
+import com.skilllink.model.Job;
+import com.skilllink.model.User;
+import com.skilllink.repository.JobRepository;
+import com.skilllink.repository.UserRepository;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Migrates skills written before the dictionary existed: jobs and users whose free-form skills
+ * have no normalized links yet get them, walked by id in chunks that each commit on their own.
+ * Runs on startup before the autocomplete trie is first built and is a no-op once every row is
+ * linked. The free-form columns are left as they are.
+ */
+@Component
+public class SkillBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillBackfill.class);
+
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final SkillDictionary skillDictionary;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public SkillBackfill(JobRepository jobRepository,
+                         UserRepository userRepository,
+                         SkillDictionary skillDictionary,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${skilllink.skills.backfill.enabled:true}") boolean enabled,
+                         @Value("${skilllink.skills.backfill.chunk-size:200}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("skilllink.skills.backfill.chunk-size must be at least 1");
+        }
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.skillDictionary = skillDictionary;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int jobs = backfillJobs();
+            int users = backfillUsers();
+            if (jobs + users > 0) {
+                log.info("Linked skills for {} job(s) and {} user(s) to the skill dictionary", jobs, users);
+            }
+        } catch (DataAccessException | InvalidStateException ex) {
+            log.warn("Skill backfill failed, retrying on the next start: {}", ex.getMessage());
+        }
+    }
+
+    public int backfillJobs() {
+        return backfill(jobRepository::findIdsWithoutCanonicalSkills, ids ->
+                jobRepository.findAllById(ids).forEach(this::link));
+    }
+
+    public int backfillUsers() {
+        return backfill(userRepository::findIdsWithoutCanonicalSkills, ids ->
+                userRepository.findAllById(ids).forEach(this::link));
+    }
+
+    private int backfill(BiFunction<Long, Pageable, List<Long>> nextIds, Consumer<List<Long>> linkChunk) {
+        long cursor = 0L;
+        int linked = 0;
+        while (true) {
+            long after = cursor;
+            List<Long> ids = transactionTemplate.execute(status -> nextIds.apply(after, PageRequest.of(0, chunkSize)));
+            if (ids == null || ids.isEmpty()) {
+                return linked;
+            }
+            transactionTemplate.executeWithoutResult(status -> linkChunk.accept(ids));
+            linked += ids.size();
+            cursor = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                return linked;
+            }
+        }
+    }
+
+    private void link(Job job) {
+        job.setCanonicalSkills(new LinkedHashSet<>(skillDictionary.resolve(capped(job.getRequiredSkills()))));
+    }
+
+    private void link(User user) {
+        List<String> names = capped(SkillDictionary.split(user.getSkills()));
+        user.setCanonicalSkills(new LinkedHashSet<>(skillDictionary.resolve(names)));
+    }
+
+    // Rows saved before the request limits existed are linked as far as the limits allow.
+    private static List<String> capped(Collection<String> names) {
+        return names.stream()
+                .filter(name -> name.trim().length() <= SkillDictionary.MAX_NAME_LENGTH)
+                .limit(SkillDictionary.MAX_SKILLS)
+                .toList();
+    }
+}
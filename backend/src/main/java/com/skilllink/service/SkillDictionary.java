@@ -0,0 +1,207 @@
+package com.skilllink.service;
+
+import com.skilllink.dto.SkillSuggestion;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.InvalidRequestException;
+import com.skilllink.exception.InvalidStateException;
+import com.skilllink.model.Skill;
+import com.skilllink.repository.SkillKeyRow;
+import com.skilllink.repository.SkillRepository;
+import com.skilllink.repository.SkillUsageRow;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Canonical skill dictionary. Free-form skill names are normalized (case, whitespace, {@code -}
+ * and {@code _}) and resolved through slugs and aliases to one interned id per skill; unknown
+ * names become new dictionary entries. Autocomplete is served from a {@link SkillTrie} ranked by
+ * how many jobs and profiles use each skill, rebuilt on startup and on a fixed delay, so skills
+ * added since the last rebuild (on any instance) appear after the next one. Skills no job or
+ * profile uses are left out of autocomplete.
+ */
+@Service
+public class SkillDictionary {
+
+    public static final int MAX_SUGGESTIONS = 20;
+    public static final int MAX_SKILLS = 30;
+    public static final int MAX_NAME_LENGTH = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(SkillDictionary.class);
+    private static final Pattern SEPARATOR = Pattern.compile("[,;]");
+    private static final Pattern GAPS = Pattern.compile("[\\s_-]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SkillRepository skillRepository;
+    private final TransactionTemplate readTransaction;
+    // Normalized slug or alias to skill id. Entries never change meaning, so they are never evicted.
+    private final Map<String, Long> interned = new ConcurrentHashMap<>();
+    private volatile SkillTrie trie = SkillTrie.EMPTY;
+
+    public SkillDictionary(SkillRepository skillRepository, PlatformTransactionManager transactionManager) {
+        this.skillRepository = skillRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        return GAPS.matcher(name.trim().toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    public static List<String> split(String names) {
+        if (names == null || names.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(SEPARATOR.split(names)).map(String::trim).filter(name -> !name.isEmpty()).toList();
+    }
+
+    public static String join(Collection<Skill> skills) {
+        return skills.stream().map(Skill::getName).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Resolves names to dictionary entries in input order, one entry per distinct skill, creating
+     * entries for names never seen before. Must run inside the caller's transaction, which new
+     * entries are part of: they are only interned once it commits, and a concurrent insert of the
+     * same skill fails the caller with a retryable conflict.
+     */
+    public List<Skill> resolve(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+        Map<String, String> displayByKey = new LinkedHashMap<>();
+        for (String name : names) {
+            String key = normalize(name);
+            if (key.isEmpty()) {
+                continue;
+            }
+            String display = WHITESPACE.matcher(name.trim()).replaceAll(" ");
+            if (display.length() > MAX_NAME_LENGTH) {
+                throw new InvalidRequestException(ErrorCode.SKILL_NAME_TOO_LONG);
+            }
+            displayByKey.putIfAbsent(key, display);
+            if (displayByKey.size() > MAX_SKILLS) {
+                throw new InvalidRequestException(ErrorCode.TOO_MANY_SKILLS);
+            }
+        }
+        if (displayByKey.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> created = new HashMap<>();
+        List<String> unknown = displayByKey.keySet().stream().filter(key -> !interned.containsKey(key)).toList();
+        if (!unknown.isEmpty()) {
+            lookup(unknown);
+            unknown.stream().filter(key -> !interned.containsKey(key))
+                    .forEach(key -> created.put(key, create(key, displayByKey.get(key))));
+            internAfterCommit(created);
+        }
+
+        Set<Long> ids = new LinkedHashSet<>();
+        displayByKey.keySet().forEach(key -> ids.add(interned.getOrDefault(key, created.get(key))));
+        Map<Long, Skill> byId = skillRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Skill::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    public List<SkillSuggestion> suggest(String prefix, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return trie.complete(normalize(prefix), size).stream()
+                .map(entry -> new SkillSuggestion(entry.skillId(), entry.name(), entry.usage()))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${skilllink.skills.autocomplete.rebuild-interval:PT5M}",
+            fixedDelayString = "${skilllink.skills.autocomplete.rebuild-interval:PT5M}")
+    public void rebuild() {
+        try {
+            SkillTrie rebuilt = readTransaction.execute(status -> load());
+            if (rebuilt != null) {
+                trie = rebuilt;
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Skill autocomplete rebuild failed, keeping the previous trie: {}", ex.getMessage());
+        }
+    }
+
+    private SkillTrie load() {
+        Map<Long, Long> usage = new HashMap<>();
+        List<SkillUsageRow> rows = new ArrayList<>(skillRepository.countJobUsage());
+        rows.addAll(skillRepository.countUserUsage());
+        rows.forEach(row -> usage.merge(row.skillId(), row.usage(), Long::sum));
+
+        Map<Long, SkillTrie.Entry> entries = new HashMap<>();
+        Map<String, Long> keys = new HashMap<>();
+        for (Skill skill : skillRepository.findAll()) {
+            long used = usage.getOrDefault(skill.getId(), 0L);
+            if (used > 0) {
+                entries.put(skill.getId(), new SkillTrie.Entry(skill.getId(), skill.getName(), used));
+            }
+            keys.put(skill.getSlug(), skill.getId());
+        }
+        for (SkillKeyRow alias : skillRepository.findAllAliases()) {
+            keys.put(alias.key(), alias.skillId());
+        }
+        interned.putAll(keys);
+        return SkillTrie.build(keys, entries, MAX_SUGGESTIONS);
+    }
+
+    private void lookup(Collection<String> keys) {
+        skillRepository.findBySlugIn(keys).forEach(skill -> interned.put(skill.getSlug(), skill.getId()));
+        skillRepository.findAliasesIn(keys).forEach(alias -> interned.put(alias.key(), alias.skillId()));
+    }
+
+    private Long create(String key, String name) {
+        try {
+            return skillRepository.save(new Skill(key, name)).getId();
+        } catch (DataIntegrityViolationException ex) {
+            // Another request or instance created it first; the caller's transaction is spoiled.
+            throw new InvalidStateException(ErrorCode.SKILL_CREATE_CONFLICT, ex);
+        }
+    }
+
+    // Entries from a transaction that rolls back must never be interned.
+    private void internAfterCommit(Map<String, Long> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            interned.putAll(created);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                interned.putAll(created);
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.skilllink.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable compressed prefix trie (radix tree) over normalized skill keys, slugs and aliases
+ * alike. Every node stores the best-ranked distinct skills below it, computed once at build time,
+ * so a completion costs one walk down the prefix and no subtree traversal.
+ */
+final class SkillTrie {
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong(Entry::usage).reversed()
+            .thenComparing(Entry::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparingLong(Entry::skillId);
+
+    static final SkillTrie EMPTY = build(Map.of(), Map.of(), 1);
+
+    private final Node root;
+
+    private SkillTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * @param keys     normalized key to skill id
+     * @param skills   skill id to its display entry
+     * @param capacity completions kept per node, the largest limit {@link #complete} will serve
+     */
+    static SkillTrie build(Map<String, Long> keys, Map<Long, Entry> skills, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        List<String> sorted = keys.keySet().stream()
+                .filter(key -> !key.isEmpty() && skills.containsKey(keys.get(key)))
+                .sorted()
+                .toList();
+        return new SkillTrie(buildNode(sorted, 0, sorted.size(), 0, "", keys, skills, capacity));
+    }
+
+    List<Entry> complete(String prefix, int limit) {
+        Node node = root;
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            Node child = node.child(rest.charAt(0));
+            if (child == null) {
+                return List.of();
+            }
+            if (rest.length() <= child.label.length()) {
+                return child.label.startsWith(rest) ? child.top(limit) : List.of();
+            }
+            if (!rest.startsWith(child.label)) {
+                return List.of();
+            }
+            rest = rest.substring(child.label.length());
+            node = child;
+        }
+        return node.top(limit);
+    }
+
+    // Keys in [from, to) are sorted and share their first `depth` characters.
+    private static Node buildNode(List<String> sorted, int from, int to, int depth, String label,
+                                  Map<String, Long> keys, Map<Long, Entry> skills, int capacity) {
+        List<Entry> candidates = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+        int i = from;
+        while (i < to && sorted.get(i).length() == depth) {
+            candidates.add(skills.get(keys.get(sorted.get(i))));
+            i++;
+        }
+        while (i < to) {
+            char first = sorted.get(i).charAt(depth);
+            int end = i + 1;
+            while (end < to && sorted.get(end).charAt(depth) == first) {
+                end++;
+            }
+            int split = commonPrefixEnd(sorted.get(i), sorted.get(end - 1), depth);
+            Node child = buildNode(sorted, i, end, split, sorted.get(i).substring(depth, split), keys, skills,
+                    capacity);
+            children.add(child);
+            candidates.addAll(Arrays.asList(child.top));
+            i = end;
+        }
+        return new Node(label, children, rank(candidates, capacity));
+    }
+
+    // In a sorted run the first and last keys bound the prefix shared by all of them.
+    private static int commonPrefixEnd(String first, String last, int depth) {
+        int max = Math.min(first.length(), last.length());
+        int end = depth + 1;
+        while (end < max && first.charAt(end) == last.charAt(end)) {
+            end++;
+        }
+        return end;
+    }
+
+    private static Entry[] rank(List<Entry> candidates, int capacity) {
+        Map<Long, Entry> distinct = new LinkedHashMap<>();
+        for (Entry entry : candidates) {
+            distinct.putIfAbsent(entry.skillId(), entry);
+        }
+        return distinct.values().stream().sorted(RANKING).limit(capacity).toArray(Entry[]::new);
+    }
+
+    record Entry(long skillId, String name, long usage) {
+    }
+
+    private static final class Node {
+
+        private final String label;
+        private final char[] firsts;
+        private final Node[] children;
+        private final Entry[] top;
+
+        Node(String label, List<Node> children, Entry[] top) {
+            this.label = label;
+            this.children = children.toArray(Node[]::new);
+            this.firsts = new char[this.children.length];
+            for (int i = 0; i < this.children.length; i++) {
+                firsts[i] = this.children[i].label.charAt(0);
+            }
+            this.top = top;
+        }
+
+        Node child(char first) {
+            int index = Arrays.binarySearch(firsts, first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        List<Entry> top(int limit) {
+            return List.of(top).subList(0, Math.min(limit, top.length));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.skilllink.service;
+
+import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.InvalidationKind;
+import com.skilllink.model.JobStatus;
+import com.skilllink.repository.ApplicationRepository;
+import com.skilllink.repository.ApplicationRollupRow;
+import com.skilllink.repository.JobRepository;
+import com.skilllink.repository.JobRollupRow;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Closes OPEN jobs that have seen no new applications for the configured number of days and
+ * rejects their pending applications. Jobs are walked by id in bounded chunks and every chunk
+ * commits in its own short transaction, so a sweep never holds locks across the whole table.
+ */
+@Component
+public class StaleJobSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(StaleJobSweeper.class);
+
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher events;
+    private final CacheInvalidationBus invalidations;
+    private final StatsRollups stats;
+    private final TrendingService trending;
+    private final boolean enabled;
+    private final int maxIdleDays;
+    private final int chunkSize;
+    private final Duration chunkPause;
+
+    public StaleJobSweeper(JobRepository jobRepository,
+                           ApplicationRepository applicationRepository,
+                           PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher events,
+                           CacheInvalidationBus invalidations,
+                           StatsRollups stats,
+                           TrendingService trending,
+                           @Value("${skilllink.jobs.expiry.enabled:true}") boolean enabled,
+                           @Value("${skilllink.jobs.expiry.max-idle-days:30}") int maxIdleDays,
+                           @Value("${skilllink.jobs.expiry.chunk-size:200}") int chunkSize,
+                           @Value("${skilllink.jobs.expiry.chunk-pause:PT0.2S}") Duration chunkPause) {
+        if (maxIdleDays < 1) {
+            throw new IllegalArgumentException("skilllink.jobs.expiry.max-idle-days must be at least 1");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("skilllink.jobs.expiry.chunk-size must be at least 1");
+        }
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.events = events;
+        this.invalidations = invalidations;
+        this.stats = stats;
+        this.trending = trending;
+        this.enabled = enabled;
+        this.maxIdleDays = maxIdleDays;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+    }
+
+    @Scheduled(initialDelayString = "${skilllink.jobs.expiry.initial-delay:PT5M}",
+            fixedDelayString = "${skilllink.jobs.expiry.interval:PT1H}")
+    public void sweepOnSchedule() {
+        if (!enabled) {
+            return;
+        }
+        int closed = sweep(LocalDateTime.now().minusDays(maxIdleDays));
+        if (closed > 0) {
+            log.info("Closed {} job(s) idle for more than {} days", closed, maxIdleDays);
+        }
+    }
+
+    public int sweep(LocalDateTime cutoff) {
+        long cursor = 0L;
+        int closed = 0;
+        while (true) {
+            List<Long> ids = jobRepository.findIdleJobIds(JobStatus.OPEN, cursor, cutoff, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                return closed;
+            }
+            Integer closedInChunk = transactionTemplate.execute(status -> closeChunk(ids, cutoff));
+            closed += closedInChunk != null ? closedInChunk : 0;
+            cursor = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                return closed;
+            }
+            if (!pauseBetweenChunks()) {
+                return closed;
+            }
+        }
+    }
+
+    // Only the rows locked here are closed and counted; a job another sweep or request changed
+    // first is no longer returned, so its rollup deltas are never recorded twice.
+    private int closeChunk(List<Long> ids, LocalDateTime cutoff) {
+        List<JobRollupRow> idle = jobRepository.lockIdleRollupRows(ids, JobStatus.OPEN, cutoff);
+        if (idle.isEmpty()) {
+            return 0;
+        }
+        List<Long> idleIds = idle.stream().map(JobRollupRow::id).toList();
+        List<ApplicationRollupRow> rejected =
+                applicationRepository.findRollupRowsByJobIdInAndStatus(idleIds, ApplicationStatus.APPLIED);
+        int closed = jobRepository.closeIdleJobs(idleIds, JobStatus.OPEN, JobStatus.CLOSED, cutoff);
+        applicationRepository.updateStatusForJobs(idleIds, JobStatus.CLOSED,
+                ApplicationStatus.APPLIED, ApplicationStatus.REJECTED);
+        stats.jobsStatusChanged(idle.stream()
+                .map(job -> new JobRollupRow(job.id(), job.createdAt(), JobStatus.CLOSED, job.budget()))
+                .toList(), JobStatus.OPEN);
+        stats.applicationsStatusChanged(rejected, ApplicationStatus.REJECTED);
+        idleIds.forEach(trending::forgetJob);
+        events.publishEvent(new CatalogChangedEvent(Catalog.JOBS));
+        invalidations.publish(InvalidationKind.JOB, null);
+        return closed;
+    }
+
+    private boolean pauseBetweenChunks() {
+        if (chunkPause.isZero() || chunkPause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
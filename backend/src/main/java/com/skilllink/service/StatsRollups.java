@@ -0,0 +1,371 @@
+package com.skilllink.service;
+
+import com.skilllink.model.Application;
+import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.Enrollment;
+import com.skilllink.model.Job;
+import com.skilllink.model.JobStatus;
+import com.skilllink.model.RollupMetric;
+import com.skilllink.repository.ApplicationRepository;
+import com.skilllink.repository.ApplicationRollupRow;
+import com.skilllink.repository.EnrollmentRepository;
+import com.skilllink.repository.EnrollmentRollupRow;
+import com.skilllink.repository.JobRepository;
+import com.skilllink.repository.JobRollupRow;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the admin metric rollups in {@code stat_rollups} up to date without aggregating the
+ * source tables. Write paths report what they changed; once their transaction commits the
+ * change becomes a signed delta (a status change is {@code -1} on the old cell, {@code +1} on the
+ * new one) buffered in memory and flushed as {@code UPDATE ... SET total = total + ?} on a fixed
+ * delay and on shutdown, so hot daily rows are written once per flush rather than once per
+ * request. A crash loses at most one flush interval of deltas; {@link #rebuild()} repairs that.
+ *
+ * <p>{@link #rebuild()} recomputes every cell from the jobs, applications and enrollments tables,
+ * walked by id range in chunks, and swaps the result in with one transaction. It runs on startup
+ * when the table is empty. While it runs, deltas for rows the scan has not reached are dropped
+ * (the scan reads their committed state) and deltas for scanned rows are kept and flushed on top
+ * of the new cells. A change that commits while the scan reads its own chunk can be counted
+ * twice, and changes handled by other instances to rows already scanned are lost, so rebuild in a
+ * quiet period.
+ */
+@Component
+public class StatsRollups {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsRollups.class);
+    private static final long NO_SUBJECT = 0L;
+    private static final String ENROLLED = "ENROLLED";
+    private static final String UPDATE_SQL = "UPDATE stat_rollups SET total = total + ?, amount = amount + ? "
+            + "WHERE metric = ? AND stat_date = ? AND subject_id = ? AND status = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO stat_rollups (metric, stat_date, subject_id, status, total, amount) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM stat_rollups";
+    private static final String DELETE_SQL = "DELETE FROM stat_rollups";
+
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillEnabled;
+    private final int chunkSize;
+
+    private final Map<RollupKey, Totals> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Recorders hold the read lock; a rebuild takes the write lock to start and to finish.
+    private final ReentrantReadWriteLock gate = new ReentrantReadWriteLock();
+    private final Map<RollupMetric, AtomicLong> scannedThrough = new EnumMap<>(RollupMetric.class);
+    private volatile boolean rebuilding;
+
+    public StatsRollups(JobRepository jobRepository,
+                        ApplicationRepository applicationRepository,
+                        EnrollmentRepository enrollmentRepository,
+                        JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${skilllink.stats.backfill.enabled:true}") boolean backfillEnabled,
+                        @Value("${skilllink.stats.backfill.chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("skilllink.stats.backfill.chunk-size must be at least 1");
+        }
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // Read-write so rebuilds read the primary, never a lagging replica.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillEnabled = backfillEnabled;
+        this.chunkSize = chunkSize;
+        for (RollupMetric metric : RollupMetric.values()) {
+            scannedThrough.put(metric, new AtomicLong());
+        }
+    }
+
+    public void jobPosted(Job job) {
+        record(RollupMetric.JOBS, job.getId(), jobChanges(job.getCreatedAt(), job.getBudget(), null, job.getStatus()));
+    }
+
+    public void jobStatusChanged(Job job, JobStatus from) {
+        record(RollupMetric.JOBS, job.getId(), jobChanges(job.getCreatedAt(), job.getBudget(), from, job.getStatus()));
+    }
+
+    public void jobsStatusChanged(Collection<JobRollupRow> jobs, JobStatus from) {
+        jobs.forEach(job -> record(RollupMetric.JOBS, job.id(),
+                jobChanges(job.createdAt(), job.budget(), from, job.status())));
+    }
+
+    public void applicationSubmitted(Application application) {
+        record(RollupMetric.APPLICATIONS, application.getId(), applicationChanges(application.getJob().getId(),
+                application.getAppliedAt(), null, application.getStatus()));
+    }
+
+    public void applicationStatusChanged(Application application, ApplicationStatus from) {
+        record(RollupMetric.APPLICATIONS, application.getId(), applicationChanges(application.getJob().getId(),
+                application.getAppliedAt(), from, application.getStatus()));
+    }
+
+    public void applicationsStatusChanged(Collection<ApplicationRollupRow> applications, ApplicationStatus to) {
+        applications.forEach(application -> record(RollupMetric.APPLICATIONS, application.id(),
+                applicationChanges(application.jobId(), application.appliedAt(), application.status(), to)));
+    }
+
+    public void enrolled(Enrollment enrollment) {
+        record(RollupMetric.ENROLLMENTS, enrollment.getId(),
+                enrollmentChanges(enrollment.getCourse().getId(), enrollment.getEnrolledAt()));
+    }
+
+    public void enrollmentsCreated(Collection<EnrollmentRollupRow> enrollments) {
+        enrollments.forEach(enrollment -> record(RollupMetric.ENROLLMENTS, enrollment.id(),
+                enrollmentChanges(enrollment.courseId(), enrollment.enrolledAt())));
+    }
+
+    @Scheduled(fixedDelayString = "${skilllink.stats.flush-interval:PT10S}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillEnabled) {
+            return;
+        }
+        try {
+            Long rows = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(COUNT_SQL, Long.class));
+            if (rows != null && rows == 0L) {
+                int written = rebuild();
+                if (written > 0) {
+                    log.info("Built {} stats rollup row(s) from history", written);
+                }
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Stats rollup backfill failed, retrying on the next start: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Recomputes every rollup from the source tables and replaces the stored ones.
+     *
+     * @return the number of rollup rows written
+     */
+    public int rebuild() {
+        flushLock.lock();
+        try {
+            startRebuild();
+            Map<RollupKey, Totals> rebuilt = new HashMap<>();
+            try {
+                scan(RollupMetric.JOBS, jobRepository::findMaxId, jobRepository::findRollupRows,
+                        row -> jobChanges(row.createdAt(), row.budget(), null, row.status()), rebuilt);
+                scan(RollupMetric.APPLICATIONS, applicationRepository::findMaxId, applicationRepository::findRollupRows,
+                        row -> applicationChanges(row.jobId(), row.appliedAt(), null, row.status()), rebuilt);
+                scan(RollupMetric.ENROLLMENTS, enrollmentRepository::findMaxId, enrollmentRepository::findRollupRows,
+                        row -> enrollmentChanges(row.courseId(), row.enrolledAt()), rebuilt);
+                transactionTemplate.executeWithoutResult(status -> replaceAll(rebuilt));
+            } finally {
+                endRebuild();
+            }
+            flushPending();
+            return rebuilt.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void record(RollupMetric metric, long entityId, Map<RollupKey, Totals> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer(metric, entityId, changes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buffer(metric, entityId, changes);
+            }
+        });
+    }
+
+    private void buffer(RollupMetric metric, long entityId, Map<RollupKey, Totals> changes) {
+        gate.readLock().lock();
+        try {
+            if (rebuilding && entityId > scannedThrough.get(metric).get()) {
+                return;
+            }
+            changes.forEach((key, delta) -> pending.merge(key, delta, Totals::combine));
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    private void flushPending() {
+        Map<RollupKey, Totals> batch = new HashMap<>(pending);
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::write));
+            batch.forEach((key, delta) -> pending.merge(key, delta.negate(), Totals::combine));
+        } catch (DataAccessException ex) {
+            log.warn("Stats rollup flush failed, deltas kept for the next attempt: {}", ex.getMessage());
+        }
+    }
+
+    private void write(RollupKey key, Totals delta) {
+        int updated = jdbcTemplate.update(UPDATE_SQL, delta.count(), delta.amount(),
+                key.metric().name(), key.day(), key.subjectId(), key.status());
+        if (updated == 0) {
+            jdbcTemplate.update(INSERT_SQL, key.metric().name(), key.day(), key.subjectId(), key.status(),
+                    delta.count(), delta.amount());
+        }
+    }
+
+    private void startRebuild() {
+        gate.writeLock().lock();
+        try {
+            // Everything buffered so far belongs to committed rows the scan is about to read.
+            pending.clear();
+            scannedThrough.values().forEach(scanned -> scanned.set(0L));
+            rebuilding = true;
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+
+    private void endRebuild() {
+        gate.writeLock().lock();
+        try {
+            rebuilding = false;
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+
+    // The scanned bound moves before each chunk is read, so a delta is only dropped when its row
+    // committed before the read that counts it.
+    private <T> void scan(RollupMetric metric, LongSupplier maxId, BiFunction<Long, Long, List<T>> chunk,
+                          Function<T, Map<RollupKey, Totals>> changes, Map<RollupKey, Totals> into) {
+        AtomicLong scanned = scannedThrough.get(metric);
+        long cursor = 0L;
+        while (true) {
+            Long max = transactionTemplate.execute(status -> maxId.getAsLong());
+            long through = max != null && cursor < max ? cursor + chunkSize : Long.MAX_VALUE;
+            scanned.set(through);
+            long after = cursor;
+            List<T> rows = transactionTemplate.execute(status -> chunk.apply(after, through));
+            if (rows != null) {
+                rows.forEach(row -> changes.apply(row).forEach((key, delta) -> into.merge(key, delta, Totals::combine)));
+            }
+            if (through == Long.MAX_VALUE) {
+                return;
+            }
+            cursor = through;
+        }
+    }
+
+    private void replaceAll(Map<RollupKey, Totals> rollups) {
+        jdbcTemplate.update(DELETE_SQL);
+        List<Object[]> rows = new ArrayList<>(rollups.size());
+        rollups.forEach((key, totals) -> rows.add(new Object[]{key.metric().name(), key.day(), key.subjectId(),
+                key.status(), totals.count(), totals.amount()}));
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows.subList(from, Math.min(from + chunkSize, rows.size())));
+        }
+    }
+
+    private static Map<RollupKey, Totals> jobChanges(LocalDateTime createdAt, BigDecimal budget,
+                                                     JobStatus from, JobStatus to) {
+        long cents = budget != null ? budget.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+        return moves(RollupMetric.JOBS, createdAt, NO_SUBJECT, from != null ? from.name() : null,
+                to != null ? to.name() : null, cents);
+    }
+
+    private static Map<RollupKey, Totals> applicationChanges(Long jobId, LocalDateTime appliedAt,
+                                                             ApplicationStatus from, ApplicationStatus to) {
+        return moves(RollupMetric.APPLICATIONS, appliedAt, jobId, from != null ? from.name() : null,
+                to != null ? to.name() : null, 0L);
+    }
+
+    private static Map<RollupKey, Totals> enrollmentChanges(Long courseId, LocalDateTime enrolledAt) {
+        return moves(RollupMetric.ENROLLMENTS, enrolledAt, courseId, null, ENROLLED, 0L);
+    }
+
+    private static Map<RollupKey, Totals> moves(RollupMetric metric, LocalDateTime at, long subjectId,
+                                                String from, String to, long cents) {
+        Map<RollupKey, Totals> changes = new LinkedHashMap<>();
+        if (from != null && from.equals(to)) {
+            return changes;
+        }
+        LocalDate day = at != null ? at.toLocalDate() : LocalDate.now();
+        if (from != null) {
+            changes.put(new RollupKey(metric, day, subjectId, from), new Totals(-1L, -cents));
+        }
+        if (to != null) {
+            changes.put(new RollupKey(metric, day, subjectId, to), new Totals(1L, cents));
+        }
+        return changes;
+    }
+
+    private record RollupKey(RollupMetric metric, LocalDate day, long subjectId, String status) {
+    }
+
+    private record Totals(long count, long cents) {
+
+        // Merge function that drops a cell once its deltas cancel out.
+        static Totals combine(Totals left, Totals right) {
+            Totals sum = new Totals(left.count + right.count, left.cents + right.cents);
+            return sum.count == 0L && sum.cents == 0L ? null : sum;
+        }
+
+        Totals negate() {
+            return new Totals(-count, -cents);
+        }
+
+        BigDecimal amount() {
+            return BigDecimal.valueOf(cents, 2);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.skilllink.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class TrendingService {
+
+    static final double VIEW_WEIGHT = 1.0;
+    static final double APPLICATION_WEIGHT = 5.0;
+    static final double ENROLLMENT_WEIGHT = 5.0;
+
+    private final Clock clock;
+    private final DecayingTopK courses;
+    private final DecayingTopK jobs;
+
+    @Autowired
+    public TrendingService(@Value("${skilllink.trending.half-life:PT6H}") Duration halfLife,
+                           @Value("${skilllink.trending.capacity:50}") int capacity,
+                           @Value("${skilllink.trending.max-tracked:10000}") int maxTracked) {
+        this(halfLife, capacity, maxTracked, Clock.systemUTC());
+    }
+
+    TrendingService(Duration halfLife, int capacity, int maxTracked, Clock clock) {
+        this.clock = clock;
+        this.courses = new DecayingTopK(capacity, maxTracked, halfLife.toMillis(), clock.millis());
+        this.jobs = new DecayingTopK(capacity, maxTracked, halfLife.toMillis(), clock.millis());
+    }
+
+    public void recordCourseView(Long courseId) {
+        record(courses, courseId, VIEW_WEIGHT);
+    }
+
+    public void recordEnrollment(Long courseId) {
+        afterCommit(() -> record(courses, courseId, ENROLLMENT_WEIGHT));
+    }
+
+    public void recordJobView(Long jobId) {
+        record(jobs, jobId, VIEW_WEIGHT);
+    }
+
+    public void recordApplication(Long jobId) {
+        afterCommit(() -> record(jobs, jobId, APPLICATION_WEIGHT));
+    }
+
+    // Called where a job stops being OPEN, so the ranking reads never have to prune it themselves.
+    public void forgetJob(Long jobId) {
+        if (jobId != null) {
+            afterCommit(() -> jobs.remove(jobId));
+        }
+    }
+
+    public List<Long> trendingCourseIds(int limit) {
+        return courses.top(limit);
+    }
+
+    public List<Long> trendingJobIds(int limit) {
+        return jobs.top(limit);
+    }
+
+    // Writes only count once they commit; a rolled-back application or enrollment never ranks.
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void record(DecayingTopK ranking, Long id, double weight) {
+        if (id != null) {
+            ranking.record(id, weight, clock.millis());
+        }
+    }
+}
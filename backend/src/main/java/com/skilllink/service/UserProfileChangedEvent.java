@@ -0,0 +1,24 @@
+package com.skilllink.service;
+
+import com.skilllink.model.User;
+import com.skilllink.model.UserRole;
+import com.skilllink.repository.UserProfileRow;
+
+public record UserProfileChangedEvent(
+        Long id,
+        String name,
+        UserRole role,
+        boolean mentor,
+        String skills,
+        String bio
+) {
+
+    public static UserProfileChangedEvent of(User user) {
+        return new UserProfileChangedEvent(user.getId(), user.getName(), user.getRole(), user.isMentor(),
+                user.getSkills(), user.getBio());
+    }
+
+    public static UserProfileChangedEvent of(UserProfileRow row) {
+        return new UserProfileChangedEvent(row.id(), row.name(), row.role(), row.mentor(), row.skills(), row.bio());
+    }
+}
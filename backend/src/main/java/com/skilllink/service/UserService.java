@@ -2,9 +2,16 @@ package com.skilllink.service;
 
 import com.skilllink.dto.UpdateUserRequest;
 import com.skilllink.dto.UserResponse;
+import com.skilllink.exception.ErrorCode;
+import com.skilllink.exception.ForbiddenException;
+import com.skilllink.exception.NotFoundException;
+import com.skilllink.model.InvalidationKind;
+import com.skilllink.model.Skill;
 import com.skilllink.model.User;
 import com.skilllink.repository.UserRepository;
-import java.util.NoSuchElementException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,16 +19,25 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher events;
+    private final CacheInvalidationBus invalidations;
+    private final SkillDictionary skillDictionary;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ApplicationEventPublisher events,
+                       CacheInvalidationBus invalidations, SkillDictionary skillDictionary) {
         this.userRepository = userRepository;
+        this.events = events;
+        this.invalidations = invalidations;
+        this.skillDictionary = skillDictionary;
     }
 
+    @Transactional(readOnly = true)
     public User getById(Long id) {
         return userRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("User not found"));
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
     }
 
+    @Transactional(readOnly = true)
     public UserResponse getUserResponse(Long id) {
         return DtoMapper.toUserResponse(getById(id));
     }
@@ -33,7 +49,7 @@ public class UserService {
     @Transactional
     public UserResponse updateUser(Long id, UpdateUserRequest request, User requester) {
         if (!requester.getId().equals(id)) {
-            throw new SecurityException("Cannot update another user's profile");
+            throw new ForbiddenException(ErrorCode.PROFILE_UPDATE_FORBIDDEN);
         }
         User user = getById(id);
         if (request.name() != null) {
@@ -43,11 +59,15 @@ public class UserService {
             user.setBio(request.bio());
         }
         if (request.skills() != null) {
-            user.setSkills(request.skills());
+            List<Skill> skills = skillDictionary.resolve(SkillDictionary.split(request.skills()));
+            user.setCanonicalSkills(new LinkedHashSet<>(skills));
+            user.setSkills(SkillDictionary.join(skills));
         }
         if (request.isMentor() != null) {
             user.setMentor(request.isMentor());
         }
+        events.publishEvent(UserProfileChangedEvent.of(user));
+        invalidations.publish(InvalidationKind.USER, user.getId());
         return DtoMapper.toUserResponse(user);
     }
 }
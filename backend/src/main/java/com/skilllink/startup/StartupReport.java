@@ -0,0 +1,99 @@
+package com.skilllink.startup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs where startup time went once the application is ready: JVM launch up to {@code main}, the
+ * Boot phases, context refresh and the slowest singletons (Hibernate, pools, SQL init). Only
+ * reports when {@code main} installed a {@link BufferingApplicationStartup}; the buffer is
+ * drained afterwards so it does not keep growing.
+ */
+@Component
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    public static final int BUFFERED_STEPS = 4096;
+
+    private static final Logger log = LoggerFactory.getLogger(StartupReport.class);
+    private static final int SLOWEST_BEANS = 5;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            log.info(describe(startup.drainBufferedTimeline(), ProcessHandle.current().info().startInstant(),
+                    Instant.now()));
+        }
+    }
+
+    static String describe(StartupTimeline timeline, Optional<Instant> jvmStart, Instant ready) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        StringBuilder report = new StringBuilder("Startup: ready in ")
+                .append(millis(Duration.between(timeline.getStartTime(), ready))).append(" ms after main");
+        jvmStart.ifPresent(start -> report.append(", ")
+                .append(millis(Duration.between(start, timeline.getStartTime()))).append(" ms JVM launch before main"));
+        report.append(" (AOT ").append(AotDetector.useGeneratedArtifacts() ? "on" : "off").append(')');
+
+        appendStep(report, events, "spring.boot.application.environment-prepared", "environment");
+        appendStep(report, events, "spring.context.refresh", "context refresh");
+        appendStep(report, events, "spring.context.beans.post-process", "bean definitions");
+
+        Map<Long, Duration> childTime = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childTime.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+        List<Map.Entry<String, Duration>> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            if (event.getStartupStep().getName().equals("spring.beans.instantiate")) {
+                Duration self = event.getDuration()
+                        .minus(childTime.getOrDefault(event.getStartupStep().getId(), Duration.ZERO));
+                beans.add(Map.entry(tag(event.getStartupStep(), "beanName"), self));
+            }
+        }
+        beans.sort(Map.Entry.<String, Duration>comparingByValue().reversed());
+        if (!beans.isEmpty()) {
+            report.append("; slowest beans (excluding their dependencies):");
+            beans.stream().limit(SLOWEST_BEANS).forEach(bean -> report.append(' ')
+                    .append(bean.getKey()).append('=').append(millis(bean.getValue())).append("ms"));
+        }
+        return report.toString();
+    }
+
+    private static void appendStep(StringBuilder report, List<StartupTimeline.TimelineEvent> events, String step,
+                                   String label) {
+        events.stream()
+                .filter(event -> event.getStartupStep().getName().equals(step))
+                .findFirst()
+                .ifPresent(event -> report.append("; ").append(label).append(' ')
+                        .append(millis(event.getDuration())).append(" ms"));
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (tag.getKey().equals(key)) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    private static long millis(Duration duration) {
+        return duration.toMillis();
+    }
+}
@@ -0,0 +1,55 @@
+package com.skilllink.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the spans of the most recent {@code maxTraces} traces on the heap for the local trace
+ * viewer and for tests. Older traces are evicted whole.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int maxTraces;
+    private final Map<String, List<SpanData>> traces;
+
+    public InMemorySpanExporter(int maxTraces) {
+        this.maxTraces = maxTraces;
+        this.traces = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<SpanData>> eldest) {
+                return size() > InMemorySpanExporter.this.maxTraces;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void export(SpanData span) {
+        traces.computeIfAbsent(span.traceId(), id -> new ArrayList<>()).add(span);
+    }
+
+    public synchronized List<SpanData> trace(String traceId) {
+        List<SpanData> spans = traces.get(traceId);
+        if (spans == null) {
+            return List.of();
+        }
+        List<SpanData> ordered = new ArrayList<>(spans);
+        ordered.sort(Comparator.comparing(SpanData::start));
+        return ordered;
+    }
+
+    public synchronized List<TraceSummary> recent(int limit) {
+        List<TraceSummary> summaries = new ArrayList<>();
+        List<String> ids = new ArrayList<>(traces.keySet());
+        for (int i = ids.size() - 1; i >= 0 && summaries.size() < limit; i--) {
+            summaries.add(TraceSummary.of(ids.get(i), traces.get(ids.get(i))));
+        }
+        return summaries;
+    }
+
+    public synchronized void clear() {
+        traces.clear();
+    }
+}
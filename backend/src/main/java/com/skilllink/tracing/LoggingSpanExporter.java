@@ -0,0 +1,22 @@
+package com.skilllink.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes one line per finished span on the {@code skilllink.tracing} logger, for shipping with
+ * the rest of the application logs.
+ */
+public class LoggingSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger("skilllink.tracing");
+
+    @Override
+    public void export(SpanData span) {
+        if (log.isInfoEnabled()) {
+            log.info("trace={} span={} parent={} kind={} name=\"{}\" durationMicros={} error={} attributes={}",
+                    span.traceId(), span.spanId(), span.parentSpanId(), span.kind(), span.name(),
+                    span.durationMicros(), span.error(), span.attributes());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.skilllink.tracing;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A timed operation within a trace. Opening a span makes it current on the calling thread and
+ * closing it restores the previous one, so spans must be closed on the thread that opened them
+ * (try-with-resources). {@link #NOOP} is handed out when there is no sampled trace to join.
+ */
+public final class Span implements AutoCloseable {
+
+    public static final Span NOOP = new Span(null, null, null, null, null, null);
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private final Tracer tracer;
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final SpanKind kind;
+    private final Span previous;
+    private final Instant start;
+    private final long startNanos;
+    private final Map<String, String> attributes;
+    private String name;
+    private boolean error;
+
+    private Span(Tracer tracer, String traceId, String spanId, String parentSpanId, String name, SpanKind kind) {
+        this.tracer = tracer;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.previous = tracer != null ? CURRENT.get() : null;
+        this.start = tracer != null ? Instant.now() : null;
+        this.startNanos = tracer != null ? System.nanoTime() : 0L;
+        this.attributes = tracer != null ? new LinkedHashMap<>() : Map.of();
+    }
+
+    static Span open(Tracer tracer, String traceId, String parentSpanId, String name, SpanKind kind) {
+        Span span = new Span(tracer, traceId, TraceIds.spanId(), parentSpanId, name, kind);
+        CURRENT.set(span);
+        return span;
+    }
+
+    static Span current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Lets work handed to another thread join the caller's trace.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Span parent = CURRENT.get();
+        if (parent == null) {
+            return task;
+        }
+        return () -> {
+            Span saved = CURRENT.get();
+            CURRENT.set(parent);
+            try {
+                return task.get();
+            } finally {
+                restore(saved);
+            }
+        };
+    }
+
+    public boolean isRecording() {
+        return tracer != null;
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    public String spanId() {
+        return spanId;
+    }
+
+    public String traceparent() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    public Span name(String name) {
+        if (tracer != null) {
+            this.name = name;
+        }
+        return this;
+    }
+
+    public Span attribute(String key, Object value) {
+        if (tracer != null && value != null) {
+            attributes.put(key, value.toString());
+        }
+        return this;
+    }
+
+    public Span error(Throwable failure) {
+        if (tracer != null) {
+            error = true;
+            attributes.put("exception", failure.getClass().getName());
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (tracer == null) {
+            return;
+        }
+        long durationMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        restore(previous);
+        tracer.export(new SpanData(traceId, spanId, parentSpanId, name, kind, start, durationMicros,
+                Map.copyOf(attributes), error));
+    }
+
+    private static void restore(Span span) {
+        if (span == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(span);
+        }
+    }
+}
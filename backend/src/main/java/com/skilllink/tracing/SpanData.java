@@ -0,0 +1,17 @@
+package com.skilllink.tracing;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record SpanData(
+        String traceId,
+        String spanId,
+        String parentSpanId,
+        String name,
+        SpanKind kind,
+        Instant start,
+        long durationMicros,
+        Map<String, String> attributes,
+        boolean error
+) {
+}
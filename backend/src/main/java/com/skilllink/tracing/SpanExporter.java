@@ -0,0 +1,10 @@
+package com.skilllink.tracing;
+
+/**
+ * Receives every finished span of a sampled trace. Called on the thread that ended the span, so
+ * implementations must be thread-safe and should hand slow I/O off to another thread.
+ */
+public interface SpanExporter {
+
+    void export(SpanData span);
+}
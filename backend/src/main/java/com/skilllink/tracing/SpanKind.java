@@ -0,0 +1,7 @@
+package com.skilllink.tracing;
+
+public enum SpanKind {
+    SERVER,
+    INTERNAL,
+    CLIENT
+}
@@ -0,0 +1,59 @@
+package com.skilllink.tracing;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context identifiers: 16-byte trace ids and 8-byte span ids as lower-case hex.
+ */
+final class TraceIds {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+    private static final String INVALID_SPAN_ID = "0".repeat(16);
+
+    private TraceIds() {
+    }
+
+    static String traceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(random.nextLong() | 1L);
+    }
+
+    static String spanId() {
+        return HEX.toHexDigits(ThreadLocalRandom.current().nextLong() | 1L);
+    }
+
+    /**
+     * Parses a {@code traceparent} header, or returns {@code null} when it is absent or malformed so
+     * the caller starts a fresh trace.
+     */
+    static Remote parse(String traceparent) {
+        if (traceparent == null) {
+            return null;
+        }
+        String[] parts = traceparent.trim().split("-");
+        if (parts.length < 4 || !isHex(parts[0], 2) || parts[0].equals("ff")
+                || !isHex(parts[1], 32) || !isHex(parts[2], 16) || !isHex(parts[3], 2)
+                || parts[1].equals(INVALID_TRACE_ID) || parts[2].equals(INVALID_SPAN_ID)) {
+            return null;
+        }
+        return new Remote(parts[1], parts[2], (HexFormat.fromHexDigits(parts[3]) & 1) == 1);
+    }
+
+    record Remote(String traceId, String parentSpanId, boolean sampled) {
+    }
+
+    private static boolean isHex(String value, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
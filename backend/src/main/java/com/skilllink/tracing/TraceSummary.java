@@ -0,0 +1,17 @@
+package com.skilllink.tracing;
+
+import java.time.Instant;
+import java.util.List;
+
+public record TraceSummary(String traceId, String rootName, Instant start, long durationMicros, int spanCount,
+                           boolean error) {
+
+    static TraceSummary of(String traceId, List<SpanData> spans) {
+        SpanData root = spans.stream()
+                .filter(span -> span.kind() == SpanKind.SERVER)
+                .findFirst()
+                .orElse(spans.get(0));
+        boolean error = spans.stream().anyMatch(SpanData::error);
+        return new TraceSummary(traceId, root.name(), root.start(), root.durationMicros(), spans.size(), error);
+    }
+}
@@ -0,0 +1,66 @@
+package com.skilllink.tracing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Starts spans and hands finished ones to the configured exporters. Only the server span of a
+ * request decides whether a trace is recorded (an incoming sampled {@code traceparent} always is,
+ * otherwise {@code sampleRate}); every other span joins the current one or is a no-op, so
+ * instrumented code outside a sampled request pays for a thread-local read and nothing else.
+ */
+public class Tracer {
+
+    private static final Logger log = LoggerFactory.getLogger(Tracer.class);
+
+    private final List<SpanExporter> exporters;
+    private final double sampleRate;
+
+    public Tracer(List<SpanExporter> exporters, double sampleRate) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("Trace sample rate must be between 0 and 1: " + sampleRate);
+        }
+        this.exporters = List.copyOf(exporters);
+        this.sampleRate = sampleRate;
+    }
+
+    public Span startServerSpan(String name, String traceparent) {
+        TraceIds.Remote remote = TraceIds.parse(traceparent);
+        if (exporters.isEmpty()) {
+            return Span.NOOP;
+        }
+        if (remote != null) {
+            return remote.sampled()
+                    ? Span.open(this, remote.traceId(), remote.parentSpanId(), name, SpanKind.SERVER)
+                    : Span.NOOP;
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return Span.NOOP;
+        }
+        return Span.open(this, TraceIds.traceId(), null, name, SpanKind.SERVER);
+    }
+
+    public Span startSpan(String name, SpanKind kind) {
+        Span parent = Span.current();
+        if (parent == null) {
+            return Span.NOOP;
+        }
+        return Span.open(this, parent.traceId(), parent.spanId(), name, kind);
+    }
+
+    public boolean isTracing() {
+        return Span.current() != null;
+    }
+
+    void export(SpanData span) {
+        for (SpanExporter exporter : exporters) {
+            try {
+                exporter.export(span);
+            } catch (RuntimeException ex) {
+                log.debug("Span exporter {} failed: {}", exporter.getClass().getSimpleName(), ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.skilllink.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * One span per controller and service call; repository spans come from
+ * {@link com.skilllink.instrumentation.RepositoryCallSite}. Ordered ahead of the transaction
+ * advice so a service span includes its commit.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("within(com.skilllink.controller..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller", SpanKind.INTERNAL);
+    }
+
+    @Around("within(com.skilllink.service..*) && @within(org.springframework.stereotype.Service)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service", SpanKind.INTERNAL);
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer, SpanKind kind) throws Throwable {
+        if (!tracer.isTracing()) {
+            return joinPoint.proceed();
+        }
+        String name = ownerName(joinPoint) + "." + joinPoint.getSignature().getName();
+        try (Span span = tracer.startSpan(name, kind).attribute("layer", layer)) {
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable ex) {
+                span.error(ex);
+                throw ex;
+            }
+        }
+    }
+
+    private static String ownerName(ProceedingJoinPoint joinPoint) {
+        Object proxy = joinPoint.getThis();
+        if (proxy != null && AopUtils.isJdkDynamicProxy(proxy)) {
+            Class<?>[] interfaces = proxy.getClass().getInterfaces();
+            if (interfaces.length > 0) {
+                return interfaces[0].getSimpleName();
+            }
+        }
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+}
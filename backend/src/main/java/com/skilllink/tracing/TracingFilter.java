@@ -0,0 +1,52 @@
+package com.skilllink.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens the server span for each request, joining the caller's trace when a W3C
+ * {@code traceparent} header is present, and echoes the span's own {@code traceparent} on the
+ * response so a client can look the trace up.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACEPARENT = "traceparent";
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        try (Span span = tracer.startServerSpan(request.getMethod() + " " + request.getRequestURI(),
+                request.getHeader(TRACEPARENT))) {
+            if (span.isRecording()) {
+                response.setHeader(TRACEPARENT, span.traceparent());
+            }
+            try {
+                filterChain.doFilter(request, response);
+            } catch (IOException | ServletException | RuntimeException ex) {
+                span.error(ex);
+                throw ex;
+            } finally {
+                Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (route != null) {
+                    span.name(request.getMethod() + " " + route).attribute("http.route", route);
+                }
+                span.attribute("http.method", request.getMethod())
+                        .attribute("http.target", request.getRequestURI())
+                        .attribute("http.status_code", response.getStatus());
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.skilllink.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Jackson converter that records response serialization as its own span, which otherwise hides
+ * inside the server span after the controller returns.
+ */
+public class TracingJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Tracer tracer;
+
+    public TracingJacksonHttpMessageConverter(ObjectMapper objectMapper, Tracer tracer) {
+        super(objectMapper);
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!tracer.isTracing()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        try (Span span = tracer.startSpan("http.serialize", SpanKind.INTERNAL)) {
+            span.attribute("type", object != null ? object.getClass().getSimpleName() : null);
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.skilllink.tracing;
+
+import com.skilllink.instrumentation.StatementExecution;
+import com.skilllink.instrumentation.StatementInterceptor;
+
+/**
+ * Opens a client span around every statement execution while a trace is being recorded, carrying
+ * the SQL text.
+ */
+public class TracingStatementInterceptor implements StatementInterceptor {
+
+    private final Tracer tracer;
+
+    public TracingStatementInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Object intercept(StatementExecution execution) throws Throwable {
+        if (!tracer.isTracing()) {
+            return execution.proceed();
+        }
+        try (Span span = tracer.startSpan("jdbc." + execution.operation(), SpanKind.CLIENT)
+                .attribute("db.statement", execution.sql())) {
+            try {
+                return execution.proceed();
+            } catch (Throwable ex) {
+                span.error(ex);
+                throw ex;
+            }
+        }
+    }
+}
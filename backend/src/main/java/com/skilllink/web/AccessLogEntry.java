@@ -0,0 +1,15 @@
+package com.skilllink.web;
+
+import java.time.Instant;
+
+public record AccessLogEntry(
+        Instant timestamp,
+        String method,
+        String route,
+        int status,
+        long latencyMicros,
+        Long userId,
+        int sqlCount,
+        long bytesOut
+) {
+}
@@ -0,0 +1,123 @@
+package com.skilllink.web;
+
+import com.skilllink.model.User;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Outermost filter: times the whole exchange and publishes one {@link AccessLogEntry} per sampled
+ * request. Sampling is per route template; server errors are always logged. The security context
+ * is cleared before control returns here, so {@link #principalCapture()} runs inside the security
+ * chain to record the caller.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final String USER_ID_ATTRIBUTE = AccessLogFilter.class.getName() + ".userId";
+
+    private final AsyncAccessLogWriter writer;
+    private final boolean enabled;
+    private final double defaultSampleRate;
+    private final Map<String, Double> routeSampleRates;
+
+    public AccessLogFilter(AsyncAccessLogWriter writer, boolean enabled, double defaultSampleRate,
+                           String routeSampleRates) {
+        this.writer = writer;
+        this.enabled = enabled;
+        this.defaultSampleRate = checkRate(defaultSampleRate);
+        this.routeSampleRates = parseRates(routeSampleRates);
+    }
+
+    public Filter principalCapture() {
+        return (request, response, chain) -> {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof User user) {
+                request.setAttribute(USER_ID_ATTRIBUTE, user.getId());
+            }
+            chain.doFilter(request, response);
+        };
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        CountingResponseWrapper counting = new CountingResponseWrapper(response);
+        SqlStatementCounter.start();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, counting);
+            completed = true;
+        } finally {
+            int sqlCount = SqlStatementCounter.stop();
+            String route = route(request);
+            // An exception escaping the chain becomes a 500 from the container, whatever status was set so far.
+            int status = completed ? counting.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            if (status >= 500 || sampled(route)) {
+                writer.publish(new AccessLogEntry(
+                        Instant.now(),
+                        request.getMethod(),
+                        route,
+                        status,
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                        (Long) request.getAttribute(USER_ID_ATTRIBUTE),
+                        sqlCount,
+                        counting.bytesWritten()));
+            }
+        }
+    }
+
+    private boolean sampled(String route) {
+        double rate = routeSampleRates.getOrDefault(route, defaultSampleRate);
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    static Map<String, Double> parseRates(String spec) {
+        Map<String, Double> rates = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return rates;
+        }
+        for (String entry : spec.split(",")) {
+            int split = entry.lastIndexOf('=');
+            if (split <= 0) {
+                throw new IllegalArgumentException("Invalid access log sample rate: " + entry.trim());
+            }
+            try {
+                rates.put(entry.substring(0, split).trim(), checkRate(Double.parseDouble(entry.substring(split + 1).trim())));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid access log sample rate: " + entry.trim(), ex);
+            }
+        }
+        return rates;
+    }
+
+    private static double checkRate(double rate) {
+        if (rate < 0.0 || rate > 1.0) {
+            throw new IllegalArgumentException("Access log sample rate must be between 0 and 1: " + rate);
+        }
+        return rate;
+    }
+}
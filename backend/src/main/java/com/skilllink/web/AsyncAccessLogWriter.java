@@ -0,0 +1,97 @@
+package com.skilllink.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands access-log entries from request threads to a single writer thread. Publishing is one
+ * CAS on the ring; when the writer falls behind, entries are counted and dropped rather than
+ * making requests wait. JSON serialization and appender I/O happen only on the writer thread,
+ * which parks while the ring is empty and is unparked by the next publish.
+ */
+public class AsyncAccessLogWriter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("skilllink.access");
+    private static final Logger log = LoggerFactory.getLogger(AsyncAccessLogWriter.class);
+
+    private final AccessLogRing<AccessLogEntry> ring;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "access-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+    private volatile boolean idle;
+    private volatile Thread drainThread;
+
+    public AsyncAccessLogWriter(ObjectMapper objectMapper, int bufferSize) {
+        this.objectMapper = objectMapper;
+        this.ring = new AccessLogRing<>(bufferSize);
+        writer.execute(this::drainLoop);
+    }
+
+    public void publish(AccessLogEntry entry) {
+        if (!ring.offer(entry)) {
+            dropped.incrementAndGet();
+        } else if (idle) {
+            LockSupport.unpark(drainThread);
+        }
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+
+    private void drainLoop() {
+        drainThread = Thread.currentThread();
+        while (running) {
+            drain();
+            // Announce the park before the last emptiness check, so a publish either sees idle or is seen here.
+            idle = true;
+            if (running && ring.isEmpty()) {
+                LockSupport.park(this);
+            }
+            idle = false;
+        }
+        drain();
+    }
+
+    private int drain() {
+        int written = 0;
+        AccessLogEntry entry;
+        while ((entry = ring.poll()) != null) {
+            try {
+                accessLog.info(objectMapper.writeValueAsString(entry));
+            } catch (JsonProcessingException | RuntimeException ex) {
+                log.debug("Could not write access log entry: {}", ex.getMessage());
+            }
+            written++;
+        }
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            log.warn("Access log buffer full, dropped {} entries", lost);
+        }
+        return written;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        Thread thread = drainThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+        writer.shutdown();
+        writer.awaitTermination(1, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,32 @@
+package com.skilllink.web;
+
+import com.skilllink.instrumentation.StatementExecution;
+import com.skilllink.instrumentation.StatementInterceptor;
+
+/**
+ * Counts the SQL statements executed on the current request thread while
+ * {@link AccessLogFilter} has a count open. Work handed to other threads is not included.
+ */
+public class SqlStatementCounter implements StatementInterceptor {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public Object intercept(StatementExecution execution) throws Throwable {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return execution.proceed();
+    }
+}
@@ -1,3 +1,8 @@
+DELETE FROM stat_rollups;
+DELETE FROM user_skills;
+DELETE FROM job_required_skills;
+DELETE FROM skill_aliases;
+DELETE FROM skills;
 DELETE FROM job_skills;
 DELETE FROM applications;
 DELETE FROM enrollments;
@@ -5,6 +10,34 @@ DELETE FROM courses;
 DELETE FROM jobs;
 DELETE FROM users;
 
+INSERT INTO skills (id, slug, name)
+VALUES
+    (1, 'react', 'React'),
+    (2, 'tailwindcss', 'TailwindCSS'),
+    (3, 'seo', 'SEO'),
+    (4, 'spring boot', 'Spring Boot'),
+    (5, 'security', 'Security'),
+    (6, 'mysql', 'MySQL'),
+    (7, 'spring', 'Spring'),
+    (8, 'javascript', 'JavaScript'),
+    (9, 'ui/ux', 'UI/UX'),
+    (10, 'project management', 'Project Management'),
+    (11, 'communication', 'Communication'),
+    (12, 'teaching', 'Teaching');
+
+ALTER TABLE skills ALTER COLUMN id RESTART WITH 13;
+
+INSERT INTO skill_aliases (alias, skill_id)
+VALUES
+    ('reactjs', 1),
+    ('react.js', 1),
+    ('tailwind', 2),
+    ('springboot', 4),
+    ('js', 8),
+    ('ecmascript', 8),
+    ('ux', 9),
+    ('ui', 9);
+
 INSERT INTO users (id, name, email, password, role, skills, bio, is_mentor)
 VALUES
     (1, 'Acme Corp', 'client@skilllink.com', '$2a$10$E1nvnUbMJ1ZkWVeG2YnwsOS0/90q/n/Li/YoRTydM9xWBMlFI4vb2', 'CLIENT', 'project management,communication', 'Trusted client with recurring gigs.', false),
@@ -41,8 +74,10 @@ VALUES
 
 ALTER TABLE enrollments ALTER COLUMN id RESTART WITH 2;
 
-INSERT INTO applications (id, job_id, freelancer_id, status, applied_at)
+UPDATE courses SET enrollment_count = (SELECT COUNT(*) FROM enrollments e WHERE e.course_id = courses.id);
+
+INSERT INTO applications (id, job_id, freelancer_id, client_id, status, applied_at)
 VALUES
-    (1, 1, 2, 'APPLIED', CURRENT_TIMESTAMP);
+    (1, 1, 2, 1, 'APPLIED', CURRENT_TIMESTAMP);
 
 ALTER TABLE applications ALTER COLUMN id RESTART WITH 2;
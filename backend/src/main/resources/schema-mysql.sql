@@ -1,6 +1,12 @@
 SET NAMES utf8mb4;
 SET FOREIGN_KEY_CHECKS = 0;
 
+DROP TABLE IF EXISTS stat_rollups;
+DROP TABLE IF EXISTS cache_invalidations;
+DROP TABLE IF EXISTS user_skills;
+DROP TABLE IF EXISTS job_required_skills;
+DROP TABLE IF EXISTS skill_aliases;
+DROP TABLE IF EXISTS skills;
 DROP TABLE IF EXISTS job_skills;
 DROP TABLE IF EXISTS applications;
 DROP TABLE IF EXISTS enrollments;
@@ -30,6 +36,7 @@ CREATE TABLE jobs (
     freelancer_id BIGINT,
     status VARCHAR(50) NOT NULL,
     created_at DATETIME(6) NOT NULL,
+    view_count BIGINT NOT NULL DEFAULT 0,
     CONSTRAINT fk_jobs_client FOREIGN KEY (client_id) REFERENCES users (id) ON DELETE RESTRICT ON UPDATE CASCADE,
     CONSTRAINT fk_jobs_freelancer FOREIGN KEY (freelancer_id) REFERENCES users (id) ON DELETE SET NULL ON UPDATE CASCADE
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -45,6 +52,8 @@ CREATE TABLE job_skills (
     CONSTRAINT fk_job_skills_job FOREIGN KEY (job_id) REFERENCES jobs (id) ON DELETE CASCADE ON UPDATE CASCADE
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
 
+CREATE INDEX idx_job_skills_skill ON job_skills (skill);
+
 CREATE TABLE courses (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     mentor_id BIGINT NOT NULL,
@@ -53,10 +62,15 @@ CREATE TABLE courses (
     video_url VARCHAR(512),
     price DECIMAL(15, 2) NOT NULL,
     created_at DATETIME(6) NOT NULL,
+    view_count BIGINT NOT NULL DEFAULT 0,
+    enrollment_count BIGINT NOT NULL DEFAULT 0,
     CONSTRAINT fk_courses_mentor FOREIGN KEY (mentor_id) REFERENCES users (id) ON DELETE RESTRICT ON UPDATE CASCADE
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
 
 CREATE INDEX idx_courses_mentor ON courses (mentor_id);
+CREATE INDEX idx_courses_created ON courses (created_at, id);
+CREATE INDEX idx_courses_price ON courses (price, id);
+CREATE INDEX idx_courses_enrollment_count ON courses (enrollment_count, id);
 
 CREATE TABLE enrollments (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -75,13 +89,76 @@ CREATE TABLE applications (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     job_id BIGINT NOT NULL,
     freelancer_id BIGINT NOT NULL,
+    client_id BIGINT NOT NULL,
     status VARCHAR(50) NOT NULL,
     applied_at DATETIME(6) NOT NULL,
     CONSTRAINT fk_applications_job FOREIGN KEY (job_id) REFERENCES jobs (id) ON DELETE CASCADE ON UPDATE CASCADE,
     CONSTRAINT fk_applications_freelancer FOREIGN KEY (freelancer_id) REFERENCES users (id) ON DELETE RESTRICT ON UPDATE CASCADE,
+    CONSTRAINT fk_applications_client FOREIGN KEY (client_id) REFERENCES users (id) ON DELETE RESTRICT ON UPDATE CASCADE,
     CONSTRAINT uq_applications UNIQUE (job_id, freelancer_id)
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
 
 CREATE INDEX idx_applications_status ON applications (status);
-CREATE INDEX idx_applications_job ON applications (job_id);
+CREATE INDEX idx_applications_job_applied ON applications (job_id, applied_at, id);
+CREATE INDEX idx_applications_job_status_applied ON applications (job_id, status, applied_at, id);
 CREATE INDEX idx_applications_freelancer ON applications (freelancer_id);
+CREATE INDEX idx_applications_client_applied ON applications (client_id, applied_at, id);
+CREATE INDEX idx_applications_client_status_applied ON applications (client_id, status, applied_at, id);
+
+CREATE TABLE skills (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    slug VARCHAR(100) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    CONSTRAINT uq_skills_slug UNIQUE (slug)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE skill_aliases (
+    alias VARCHAR(100) PRIMARY KEY,
+    skill_id BIGINT NOT NULL,
+    CONSTRAINT fk_skill_aliases_skill FOREIGN KEY (skill_id) REFERENCES skills (id) ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE INDEX idx_skill_aliases_skill ON skill_aliases (skill_id);
+
+CREATE TABLE job_required_skills (
+    job_id BIGINT NOT NULL,
+    skill_id BIGINT NOT NULL,
+    PRIMARY KEY (job_id, skill_id),
+    CONSTRAINT fk_job_required_skills_job FOREIGN KEY (job_id) REFERENCES jobs (id) ON DELETE CASCADE ON UPDATE CASCADE,
+    CONSTRAINT fk_job_required_skills_skill FOREIGN KEY (skill_id) REFERENCES skills (id) ON DELETE RESTRICT ON UPDATE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE INDEX idx_job_required_skills_skill ON job_required_skills (skill_id);
+
+CREATE TABLE user_skills (
+    user_id BIGINT NOT NULL,
+    skill_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, skill_id),
+    CONSTRAINT fk_user_skills_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE ON UPDATE CASCADE,
+    CONSTRAINT fk_user_skills_skill FOREIGN KEY (skill_id) REFERENCES skills (id) ON DELETE RESTRICT ON UPDATE CASCADE
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE INDEX idx_user_skills_skill ON user_skills (skill_id);
+
+CREATE TABLE cache_invalidations (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    origin VARCHAR(64) NOT NULL,
+    kind VARCHAR(32) NOT NULL,
+    entity_id BIGINT,
+    created_at DATETIME(6) NOT NULL
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE INDEX idx_cache_invalidations_created ON cache_invalidations (created_at);
+
+CREATE TABLE stat_rollups (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    metric VARCHAR(32) NOT NULL,
+    stat_date DATE NOT NULL,
+    subject_id BIGINT NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    total BIGINT NOT NULL,
+    amount DECIMAL(15, 2) NOT NULL,
+    CONSTRAINT uq_stat_rollups UNIQUE (metric, stat_date, subject_id, status)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE INDEX idx_stat_rollups_subject ON stat_rollups (metric, subject_id);
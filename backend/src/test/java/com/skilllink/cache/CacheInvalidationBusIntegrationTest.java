@@ -0,0 +1,127 @@
+package com.skilllink.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skilllink.SkillLinkApplication;
+import com.skilllink.dto.CourseRequest;
+import com.skilllink.dto.UpdateUserRequest;
+import com.skilllink.model.User;
+import com.skilllink.repository.CourseRepository;
+import com.skilllink.repository.UserRepository;
+import com.skilllink.service.CacheInvalidationBus;
+import com.skilllink.service.CourseService;
+import com.skilllink.service.UserService;
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a second application instance against the test context's database: node A is the test
+ * context, node B is started by hand. Polling is driven by the test, not the scheduler.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + CacheInvalidationBusIntegrationTest.DATABASE_URL,
+        "skilllink.invalidation.node-id=node-a",
+        "skilllink.invalidation.poll-interval=PT1H"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CacheInvalidationBusIntegrationTest {
+
+    static final String DATABASE_URL = "jdbc:h2:mem:skilllink-invalidation;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheInvalidationBus bus;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    void startSecondNode() {
+        nodeB = new SpringApplicationBuilder(SkillLinkApplication.class).run(
+                "--spring.datasource.url=" + DATABASE_URL,
+                "--spring.sql.init.mode=never",
+                "--server.port=0",
+                "--skilllink.invalidation.node-id=node-b",
+                "--skilllink.invalidation.poll-interval=PT1H");
+    }
+
+    @AfterAll
+    void stopSecondNode() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    void profileUpdateOnOneNodeEvictsTheOtherNodesCachedUser() {
+        UserRepository users = nodeB.getBean(UserRepository.class);
+        User leo = userRepository.findById(3L).orElseThrow();
+        String originalName = leo.getName();
+        assertThat(onNodeB(() -> users.findById(3L).orElseThrow().getName())).isEqualTo(originalName);
+        assertThat(onNodeB(() -> users.findByEmail(leo.getEmail()).orElseThrow().getName())).isEqualTo(originalName);
+
+        userService.updateUser(3L, new UpdateUserRequest("Leo Elsewhere", null, null, null), leo);
+        try {
+            assertThat(onNodeB(() -> users.findById(3L).orElseThrow().getName())).isEqualTo(originalName);
+
+            nodeB.getBean(CacheInvalidationBus.class).poll();
+
+            assertThat(onNodeB(() -> users.findById(3L).orElseThrow().getName())).isEqualTo("Leo Elsewhere");
+            assertThat(onNodeB(() -> users.findByEmail(leo.getEmail()).orElseThrow().getName()))
+                    .isEqualTo("Leo Elsewhere");
+        } finally {
+            userService.updateUser(3L, new UpdateUserRequest(originalName, null, null, null), leo);
+        }
+    }
+
+    @Test
+    void newCourseOnOneNodeClearsTheOtherNodesCachedQuery() {
+        CourseRepository courses = nodeB.getBean(CourseRepository.class);
+        int before = onNodeB(() -> courses.findByMentorId(2L).size());
+
+        courseService.createCourse(new CourseRequest("Cluster caching", "Keeping nodes in step", null,
+                BigDecimal.TEN), userRepository.findById(2L).orElseThrow());
+        assertThat(onNodeB(() -> courses.findByMentorId(2L).size())).isEqualTo(before);
+
+        nodeB.getBean(CacheInvalidationBus.class).poll();
+
+        assertThat(onNodeB(() -> courses.findByMentorId(2L).size())).isEqualTo(before + 1);
+    }
+
+    @Test
+    void writesAreTaggedWithTheOriginNode() {
+        User leo = userRepository.findById(3L).orElseThrow();
+        userService.updateUser(3L, new UpdateUserRequest(leo.getName(), null, null, null), leo);
+
+        String origin = jdbcTemplate.queryForObject(
+                "select origin from cache_invalidations order by id desc limit 1", String.class);
+        assertThat(origin).isEqualTo(bus.nodeId()).isEqualTo("node-a");
+    }
+
+    private <T> T onNodeB(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(nodeB.getBean(PlatformTransactionManager.class));
+        template.setReadOnly(true);
+        return template.execute(status -> work.get());
+    }
+}
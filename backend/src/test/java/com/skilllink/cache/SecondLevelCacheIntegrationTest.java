@@ -0,0 +1,165 @@
+package com.skilllink.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skilllink.dto.UpdateUserRequest;
+import com.skilllink.model.CacheRegions;
+import com.skilllink.model.Course;
+import com.skilllink.model.Job;
+import com.skilllink.model.User;
+import com.skilllink.repository.CourseRepository;
+import com.skilllink.repository.JobRepository;
+import com.skilllink.repository.UserRepository;
+import com.skilllink.service.CounterType;
+import com.skilllink.service.EngagementCounters;
+import com.skilllink.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class SecondLevelCacheIntegrationTest {
+
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EngagementCounters counters;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void repeatedReadsAreServedFromTheCache() {
+        for (int i = 0; i < ROUNDS; i++) {
+            inReadOnlyTransaction(() -> userRepository.findById(2L).orElseThrow().getName());
+            inReadOnlyTransaction(() -> courseRepository.findByMentorId(2L).size());
+            inReadOnlyTransaction(() -> jobRepository.findById(1L).orElseThrow().getRequiredSkills().size());
+        }
+
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.USERS).getHitCount())
+                .isGreaterThanOrEqualTo(ROUNDS - 1);
+        assertThat(statistics.getQueryRegionStatistics(CacheRegions.COURSES_BY_MENTOR).getHitCount())
+                .isEqualTo(ROUNDS - 1);
+        assertThat(statistics.getDomainDataRegionStatistics(CacheRegions.JOB_SKILLS).getHitCount())
+                .isEqualTo(ROUNDS - 1);
+
+        long hits = statistics.getSecondLevelCacheHitCount() + statistics.getQueryCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount() + statistics.getQueryCacheMissCount();
+        assertThat((double) hits / (hits + misses)).isGreaterThanOrEqualTo(0.75);
+    }
+
+    @Test
+    void updatesThroughHibernateRefreshTheCachedUser() {
+        User leo = inReadOnlyTransaction(() -> userRepository.findById(3L).orElseThrow());
+        String originalName = leo.getName();
+
+        userService.updateUser(3L, new UpdateUserRequest("Leo Cached", null, null, null), leo);
+        try {
+            assertThat(inReadOnlyTransaction(() -> userRepository.findById(3L).orElseThrow().getName()))
+                    .isEqualTo("Leo Cached");
+            assertThat(inReadOnlyTransaction(() -> userRepository.findByEmail(leo.getEmail()).orElseThrow().getName()))
+                    .isEqualTo("Leo Cached");
+        } finally {
+            userService.updateUser(3L, new UpdateUserRequest(originalName, null, null, null), leo);
+        }
+    }
+
+    @Test
+    void counterFlushesEvictTheRowsTheyTouchButKeepCachedQueries() {
+        counters.flush();
+        long before = inReadOnlyTransaction(() -> courseRepository.findById(2L).orElseThrow().getViewCount());
+        inReadOnlyTransaction(() -> courseRepository.findByMentorId(2L).size());
+
+        counters.increment(CounterType.COURSE_VIEWS, 2L);
+        counters.flush();
+
+        assertThat(inReadOnlyTransaction(() -> courseRepository.findById(2L).orElseThrow().getViewCount()))
+                .isEqualTo(before + 1);
+        long queryHits = statistics.getQueryRegionStatistics(CacheRegions.COURSES_BY_MENTOR).getHitCount();
+        assertThat(inReadOnlyTransaction(() -> courseRepository.findByMentorId(2L).stream()
+                .map(Course::getId)
+                .toList()))
+                .contains(2L);
+        assertThat(statistics.getQueryRegionStatistics(CacheRegions.COURSES_BY_MENTOR).getHitCount())
+                .isEqualTo(queryHits + 1);
+    }
+
+    @Test
+    void entityUpdatesLeaveFlushedCountersAlone() {
+        counters.flush();
+        Course course = inReadOnlyTransaction(() -> courseRepository.findById(2L).orElseThrow());
+        Job job = inReadOnlyTransaction(() -> jobRepository.findById(1L).orElseThrow());
+        String courseTitle = course.getTitle();
+        String jobTitle = job.getTitle();
+
+        counters.increment(CounterType.COURSE_VIEWS, 2L);
+        counters.increment(CounterType.JOB_VIEWS, 1L);
+        counters.flush();
+
+        course.setTitle(courseTitle + " (updated)");
+        job.setTitle(jobTitle + " (updated)");
+        try {
+            inTransaction(() -> courseRepository.save(course));
+            inTransaction(() -> jobRepository.save(job));
+
+            assertThat(inReadOnlyTransaction(() -> courseRepository.findById(2L).orElseThrow().getViewCount()))
+                    .isEqualTo(course.getViewCount() + 1);
+            assertThat(inReadOnlyTransaction(() -> jobRepository.findById(1L).orElseThrow().getViewCount()))
+                    .isEqualTo(job.getViewCount() + 1);
+        } finally {
+            course.setTitle(courseTitle);
+            job.setTitle(jobTitle);
+            inTransaction(() -> courseRepository.save(course));
+            inTransaction(() -> jobRepository.save(job));
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> work.get());
+    }
+}
@@ -0,0 +1,126 @@
+package com.skilllink.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CourseCatalogIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void priceAscendingPagesFollowTheCursor() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/courses").param("sort", "price_asc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("React UI Essentials"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode page = objectMapper.readTree(firstPage);
+        mockMvc.perform(get("/api/courses").param("sort", "price_asc").param("limit", "1")
+                        .param("cursor", page.get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Full-Stack Freelancing Masterclass"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void popularSortUsesMaintainedEnrollmentCounter() throws Exception {
+        mockMvc.perform(get("/api/courses").param("sort", "popular"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].enrollmentCount").value(1))
+                .andExpect(jsonPath("$.items[1].enrollmentCount").value(0));
+    }
+
+    @Test
+    void summaryViewOmitsTextColumnsAndStillPages() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/courses").param("sort", "price_desc").param("limit", "1")
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Full-Stack Freelancing Masterclass"))
+                .andExpect(jsonPath("$.items[0].mentorName").isNotEmpty())
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.items[0].videoUrl").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/courses").param("sort", "price_desc").param("limit", "1").param("view", "summary")
+                        .param("cursor", objectMapper.readTree(firstPage).get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("React UI Essentials"));
+    }
+
+    @Test
+    void fieldsParameterTrimsEachItem() throws Exception {
+        String body = mockMvc.perform(get("/api/courses").param("fields", "title,price"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode item = objectMapper.readTree(body).get("items").get(0);
+        assertThat(item.properties()).extracting(Map.Entry::getKey)
+                .containsExactlyInAnyOrder("id", "title", "price");
+    }
+
+    @Test
+    void rejectsFieldsOutsideTheView() throws Exception {
+        mockMvc.perform(get("/api/courses").param("view", "summary").param("fields", "description"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/courses").param("fields", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/courses").param("sort", "newest").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void equivalentRequestsShareASnapshotAndEachEncodingIsTaggedSeparately() throws Exception {
+        MockHttpServletResponse capped = mockMvc.perform(
+                        get("/api/courses").param("sort", "newest").param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse();
+        String etag = capped.getHeader(HttpHeaders.ETAG);
+        MockHttpServletResponse gzipped = mockMvc.perform(get("/api/courses").param("limit", "100")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse();
+        String gzipEtag = gzipped.getHeader(HttpHeaders.ETAG);
+
+        assertThat(gzipEtag).isNotEqualTo(etag);
+        mockMvc.perform(get("/api/courses").param("limit", "100")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/courses").param("limit", "100")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/courses").param("limit", "100")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified());
+    }
+}
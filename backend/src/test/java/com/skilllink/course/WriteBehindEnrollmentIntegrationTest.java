@@ -0,0 +1,122 @@
+package com.skilllink.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.model.User;
+import com.skilllink.model.UserRole;
+import com.skilllink.repository.EnrollmentRepository;
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import com.skilllink.service.EnrollmentQueue;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-write-behind;DB_CLOSE_DELAY=-1",
+        "skilllink.enrollments.write-behind.enabled=true",
+        "skilllink.enrollments.write-behind.flush-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class WriteBehindEnrollmentIntegrationTest {
+
+    private static final Path JOURNAL = createJournalDirectory();
+
+    @DynamicPropertySource
+    static void journal(DynamicPropertyRegistry registry) {
+        registry.add("skilllink.enrollments.write-behind.journal-dir", JOURNAL::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private EnrollmentQueue enrollmentQueue;
+
+    @Test
+    void enrollmentIsAcceptedPendingThenWrittenByTheBatchWriter() throws Exception {
+        String leo = bearer("leo@skilllink.com");
+
+        mockMvc.perform(post("/api/courses/2/enroll").header("Authorization", leo))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.courseId").value(2))
+                .andExpect(jsonPath("$.pending").value(true))
+                .andExpect(jsonPath("$.id").doesNotExist());
+        mockMvc.perform(post("/api/courses/2/enroll").header("Authorization", leo))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Already enrolled"));
+        assertThat(enrollmentRepository.existsByCourseIdAndLearnerId(2L, 3L)).isFalse();
+        mockMvc.perform(get("/api/users/me/dashboard").header("Authorization", leo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrollments[?(@.courseId == 2)].pending").value(true));
+
+        enrollmentQueue.flush();
+
+        assertThat(enrollmentRepository.existsByCourseIdAndLearnerId(2L, 3L)).isTrue();
+        mockMvc.perform(get("/api/users/me/dashboard").header("Authorization", leo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrollments.length()").value(2))
+                .andExpect(jsonPath("$.enrollments[?(@.courseId == 2)].pending").value(false));
+        assertThat(Files.list(JOURNAL)).isEmpty();
+    }
+
+    @Test
+    void onlyLearnersEnrollInExistingCourses() throws Exception {
+        mockMvc.perform(post("/api/courses/2/enroll").header("Authorization", bearer("maya@skilllink.com")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/courses/999/enroll").header("Authorization", bearer("leo@skilllink.com")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void segmentsLeftByAPreviousRunAreReplayedWithoutDuplicates() throws Exception {
+        User learner = userRepository.save(new User(null, "Nia Learner", "nia@skilllink.com", "secret",
+                UserRole.LEARNER, "", "", false));
+        LocalDateTime at = LocalDateTime.now().withNano(0);
+        Files.writeString(JOURNAL.resolve("enrollments-00000000000000000900.log"),
+                "1," + learner.getId() + "," + at + "\n"
+                        + "1,3," + at + "\n"
+                        + "1," + learner.getId() + "," + at + "\n",
+                StandardCharsets.UTF_8);
+
+        enrollmentQueue.flush();
+
+        assertThat(enrollmentRepository.existsByCourseIdAndLearnerId(1L, learner.getId())).isTrue();
+        assertThat(enrollmentRepository.findByLearnerId(learner.getId())).hasSize(1);
+        assertThat(Files.exists(JOURNAL.resolve("enrollments-00000000000000000900.log"))).isFalse();
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userRepository.findByEmail(email).orElseThrow());
+    }
+
+    private static Path createJournalDirectory() {
+        try {
+            return Files.createTempDirectory("enrollment-journal");
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.skilllink.dashboard;
+
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DashboardIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void freelancerDashboardAggregatesJobsApplicationsAndCourses() throws Exception {
+        mockMvc.perform(get("/api/users/me/dashboard").header("Authorization", bearer("maya@skilllink.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.email").value("maya@skilllink.com"))
+                .andExpect(jsonPath("$.openJobs.length()").value(lessThanOrEqualTo(20)))
+                .andExpect(jsonPath("$.openJobs[*].status").value(everyItem(is("OPEN"))))
+                .andExpect(jsonPath("$.openJobs[0].requiredSkills").isArray())
+                .andExpect(jsonPath("$.assignedJobs[0].id").value(2))
+                .andExpect(jsonPath("$.applications[0].jobId").value(1))
+                .andExpect(jsonPath("$.courses.length()").value(2))
+                .andExpect(jsonPath("$.postedJobs").doesNotExist())
+                .andExpect(jsonPath("$.unavailable").isEmpty());
+    }
+
+    @Test
+    void learnerDashboardIncludesEnrollments() throws Exception {
+        mockMvc.perform(get("/api/users/me/dashboard").header("Authorization", bearer("leo@skilllink.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrollments[0].courseId").value(1))
+                .andExpect(jsonPath("$.openJobs").doesNotExist());
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userRepository.findByEmail(email).orElseThrow());
+    }
+}
@@ -0,0 +1,86 @@
+package com.skilllink.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import java.time.Duration;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-slow-query;DB_CLOSE_DELAY=-1",
+        "skilllink.slow-query.threshold=PT0S",
+        "skilllink.slow-query.capacity=500",
+        "skilllink.slow-query.explain=true",
+        "skilllink.admin.emails=client@skilllink.com"
+})
+@AutoConfigureMockMvc
+class SlowQueryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Test
+    void capturesStatementsWithRedactedParametersAndCallSite() throws Exception {
+        slowQueryLog.clear();
+
+        mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Slow Sam\",\"email\":\"sam@skilllink.com\","
+                                + "\"password\":\"Password@123\",\"role\":\"LEARNER\"}"))
+                .andExpect(status().isOk());
+
+        SlowQuery lookup = Awaitility.await().atMost(Duration.ofSeconds(5)).until(
+                () -> slowQueryLog.recent().stream()
+                        .filter(capture -> "UserRepository.existsByEmail".equals(capture.repositoryMethod()))
+                        .filter(capture -> capture.plan() != null)
+                        .findFirst()
+                        .orElse(null),
+                capture -> capture != null);
+        assertThat(lookup.sql()).contains("users");
+        assertThat(lookup.parameters()).first().isEqualTo("***");
+        assertThat(lookup.rows()).isZero();
+        assertThat(lookup.callStack()).anyMatch(frame -> frame.startsWith("AuthService.register:"));
+        assertThat(lookup.plan()).isNotBlank().doesNotContain("EXPLAIN failed");
+
+        SlowQuery insert = slowQueryLog.recent().stream()
+                .filter(capture -> capture.sql().startsWith("insert into users"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(insert.rows()).isEqualTo(1);
+        assertThat(insert.parameters()).contains("Slow Sam", "LEARNER")
+                .doesNotContain("sam@skilllink.com", "Password@123");
+
+        String client = bearer("client@skilllink.com");
+        mockMvc.perform(get("/api/admin/slow-queries").header("Authorization", client))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sql").exists());
+        mockMvc.perform(get("/api/admin/slow-queries").header("Authorization", bearer("leo@skilllink.com")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/admin/slow-queries").header("Authorization", client))
+                .andExpect(status().isNoContent());
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userRepository.findByEmail(email).orElseThrow());
+    }
+}
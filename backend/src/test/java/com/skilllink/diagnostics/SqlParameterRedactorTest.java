@@ -0,0 +1,47 @@
+package com.skilllink.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SqlParameterRedactorTest {
+
+    private final SqlParameterRedactor redactor = new SqlParameterRedactor("users", Set.of("email", "password"));
+
+    @Test
+    void masksValuesBoundToProtectedUserColumns() {
+        assertThat(redactor.redact("select u1_0.id,u1_0.email from users u1_0 where u1_0.email=? and u1_0.role=?",
+                List.of("maya@skilllink.com", "FREELANCER")))
+                .containsExactly(SqlParameterRedactor.REDACTED, "FREELANCER");
+        assertThat(redactor.redact("update users set bio=?,email=?,name=?,password=? where id=?",
+                List.of("bio", "a@b.c", "Maya", "hash", "2")))
+                .containsExactly("bio", "***", "Maya", "***", "2");
+        assertThat(redactor.redact("select u.id from users u where u.id in (?, ?) and lower(u.email) like ?",
+                List.of("1", "2", "%maya%")))
+                .containsExactly("1", "2", "***");
+    }
+
+    @Test
+    void mapsInsertValuesToTheirColumns() {
+        assertThat(redactor.redact(
+                "insert into users (bio,created_at,email,is_mentor,name,password,role,skills,id) "
+                        + "values (?,?,?,?,?,?,?,?,default)",
+                List.of("bio", "2024-01-01", "a@b.c", "false", "Ann", "hash", "LEARNER", "java")))
+                .containsExactly("bio", "2024-01-01", "***", "false", "Ann", "***", "LEARNER", "java");
+    }
+
+    @Test
+    void keepsRowLimitsAndMasksUnattributedUserParameters() {
+        assertThat(redactor.redact("select j.id from jobs j where j.title=? fetch first ? rows only",
+                List.of("Landing page", "20")))
+                .containsExactly("Landing page", "20");
+        assertThat(redactor.redact("select u.id from users u where u.email=? fetch first ? rows only",
+                List.of("a@b.c", "1")))
+                .containsExactly("***", "1");
+        assertThat(redactor.redact("select u.id from users u where coalesce(u.bio, ?) = ?",
+                List.of("none", "bio")))
+                .containsExactly("***", "***");
+    }
+}
@@ -0,0 +1,66 @@
+package com.skilllink.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+class ProblemResponsesTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 3, 1, 9, 30, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void bodyIsAProblemDocumentThatKeepsTheLegacyFields() throws Exception {
+        JsonNode body = objectMapper.readTree(ProblemResponses.body(ErrorCode.COURSE_NOT_FOUND, "Course not found", AT));
+
+        assertThat(body.get("type").asText()).isEqualTo("urn:skilllink:problem:course-not-found");
+        assertThat(body.get("title").asText()).isEqualTo("Not Found");
+        assertThat(body.get("status").asInt()).isEqualTo(404);
+        assertThat(body.get("code").asText()).isEqualTo("COURSE_NOT_FOUND");
+        assertThat(body.get("detail").asText()).isEqualTo("Course not found");
+        assertThat(body.get("message").asText()).isEqualTo("Course not found");
+        assertThat(body.get("timestamp").asText()).isEqualTo("2024-03-01T09:30:00");
+    }
+
+    @Test
+    void otherMessagesAreEscapedAndBlankOnesLeftOut() throws Exception {
+        JsonNode custom = objectMapper.readTree(
+                ProblemResponses.body(ErrorCode.BAD_REQUEST, "Unsupported sort: \"x\"\n<y>", AT));
+        JsonNode blank = objectMapper.readTree(ProblemResponses.body(ErrorCode.INTERNAL_ERROR, null, AT));
+
+        assertThat(custom.get("message").asText()).isEqualTo("Unsupported sort: \"x\"\n<y>");
+        assertThat(blank.has("message")).isFalse();
+        assertThat(blank.get("status").asInt()).isEqualTo(500);
+    }
+
+    @Test
+    void domainExceptionsAreStacklessAndKeepTheirJdkType() {
+        NotFoundException ex = new NotFoundException(ErrorCode.JOB_NOT_FOUND);
+
+        assertThat(ex).isInstanceOf(NoSuchElementException.class).hasMessage("Job not found");
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(new ForbiddenException(ErrorCode.ADMIN_REQUIRED)).isInstanceOf(SecurityException.class);
+        assertThat(new InvalidStateException(ErrorCode.ALREADY_ENROLLED)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void handlerUsesTheDomainCodeAndFallsBackForPlainExceptions() throws Exception {
+        ResponseEntity<byte[]> domain = handler.handleForbidden(new ForbiddenException(ErrorCode.ADMIN_REQUIRED));
+        ResponseEntity<byte[]> plain = handler.handleNotFound(new NoSuchElementException("Gone"));
+
+        assertThat(domain.getStatusCode().value()).isEqualTo(403);
+        assertThat(domain.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+        assertThat(objectMapper.readTree(domain.getBody()).get("code").asText()).isEqualTo("ADMIN_REQUIRED");
+        JsonNode fallback = objectMapper.readTree(plain.getBody());
+        assertThat(fallback.get("code").asText()).isEqualTo("NOT_FOUND");
+        assertThat(fallback.get("message").asText()).isEqualTo("Gone");
+    }
+}
@@ -0,0 +1,58 @@
+package com.skilllink.instrumentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedDataSourceTest {
+
+    @Test
+    void everyInterceptorSeesEachExecutionOnceInOrder() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:instrumented;DB_CLOSE_DELAY=-1");
+        List<String> seen = new ArrayList<>();
+        List<Object> bound = new ArrayList<>();
+        List<String> closed = new ArrayList<>();
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(h2, List.of(
+                execution -> {
+                    seen.add("outer " + execution.operation());
+                    execution.onStatementClose(() -> closed.add(execution.sql()));
+                    return execution.proceed();
+                },
+                execution -> {
+                    seen.add("inner " + execution.operation());
+                    bound.addAll(execution.boundValues());
+                    return execution.proceed();
+                }));
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select ? + 1")) {
+            statement.setInt(1, 41);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+                assertThat(resultSet.getInt(1)).isEqualTo(42);
+            }
+        }
+
+        assertThat(seen).containsExactly("outer executeQuery", "inner executeQuery");
+        assertThat(bound).containsExactly(41);
+        assertThat(closed).containsExactly("select ? + 1");
+    }
+
+    @Test
+    void withoutInterceptorsConnectionsAreNotWrapped() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:uninstrumented;DB_CLOSE_DELAY=-1");
+
+        try (Connection connection = new InstrumentedDataSource(h2, List.of()).getConnection()) {
+            assertThat(connection).isInstanceOf(JdbcConnection.class);
+        }
+    }
+}
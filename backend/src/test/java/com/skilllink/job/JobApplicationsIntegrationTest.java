@@ -0,0 +1,70 @@
+package com.skilllink.job;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JobApplicationsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void detailsCarryFirstPageAndStatusTotals() throws Exception {
+        mockMvc.perform(get("/api/jobs/1/details").header("Authorization", clientToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.job.id").value(1))
+                .andExpect(jsonPath("$.applications[0].freelancerId").value(2))
+                .andExpect(jsonPath("$.applicationCounts.APPLIED").value(1))
+                .andExpect(jsonPath("$.applicationCounts.REJECTED").value(0))
+                .andExpect(jsonPath("$.totalApplications").value(1));
+    }
+
+    @Test
+    void applicationsAreFilteredByStatusAndPaged() throws Exception {
+        mockMvc.perform(get("/api/applications/job/1").header("Authorization", clientToken())
+                        .param("status", "APPLIED").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].jobId").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/applications/job/1").header("Authorization", clientToken())
+                        .param("status", "ACCEPTED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    void inboxListsApplicationsAcrossTheClientsJobs() throws Exception {
+        mockMvc.perform(get("/api/applications/inbox").header("Authorization", clientToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].jobId").value(1))
+                .andExpect(jsonPath("$.items[0].clientId").value(1));
+
+        String freelancer = "Bearer " + jwtService.generateToken(
+                userRepository.findByEmail("maya@skilllink.com").orElseThrow());
+        mockMvc.perform(get("/api/applications/inbox").header("Authorization", freelancer))
+                .andExpect(status().isForbidden());
+    }
+
+    private String clientToken() {
+        return "Bearer " + jwtService.generateToken(userRepository.findByEmail("client@skilllink.com").orElseThrow());
+    }
+}
@@ -0,0 +1,150 @@
+package com.skilllink.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skilllink.dto.CursorPage;
+import com.skilllink.dto.JobSummaryResponse;
+import com.skilllink.service.JobService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-job-list;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class JobListIntegrationTest {
+
+    private static final int SEEDED_JOBS = 120;
+    private static final int SKILLS_PER_JOB = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void summaryViewKeepsCardFieldsAndDropsDescriptions() throws Exception {
+        mockMvc.perform(get("/api/jobs").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].title").isNotEmpty())
+                .andExpect(jsonPath("$.items[0].budget").isNumber())
+                .andExpect(jsonPath("$.items[0].requiredSkills").isNotEmpty())
+                .andExpect(jsonPath("$.items[0].clientName").isNotEmpty())
+                .andExpect(jsonPath("$.items[0].description").doesNotExist());
+    }
+
+    @Test
+    void fullViewStillIncludesDescriptions() throws Exception {
+        mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].description").isNotEmpty());
+    }
+
+    @Test
+    void fullViewPagesWithTheSameEnvelope() throws Exception {
+        seedJobs();
+
+        String first = mockMvc.perform(get("/api/jobs").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(5))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode page = objectMapper.readTree(first);
+        String second = mockMvc.perform(get("/api/jobs").param("limit", "5")
+                        .param("cursor", page.get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(5))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(second).get("items").get(0).get("id").asLong())
+                .isGreaterThan(page.get("items").get(4).get("id").asLong());
+    }
+
+    @Test
+    void summaryPageReadsOnlyItsOwnJobsAndSkills() throws Exception {
+        seedJobs();
+        int catalogRows = count("SELECT COUNT(*) FROM jobs") + count("SELECT COUNT(*) FROM job_skills");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        CursorPage<JobSummaryResponse> page = jobService.getJobSummaries(null, 10);
+        long rowsRead = 0;
+        for (String query : statistics.getQueries()) {
+            rowsRead += statistics.getQueryStatistics(query).getExecutionRowCount();
+        }
+
+        assertThat(page.items()).hasSize(10);
+        assertThat(page.nextCursor()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(rowsRead).isLessThanOrEqualTo(11 + 10 * SKILLS_PER_JOB);
+        assertThat(rowsRead * 5).isLessThan(catalogRows);
+
+        String next = mockMvc.perform(get("/api/jobs").param("view", "summary").param("limit", "10")
+                        .param("cursor", page.nextCursor()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(10))
+                .andReturn().getResponse().getContentAsString();
+        long firstOnNextPage = objectMapper.readTree(next).get("items").get(0).get("id").asLong();
+        assertThat(firstOnNextPage).isGreaterThan(page.items().get(9).id());
+    }
+
+    @Test
+    void namingEveryFieldOfTheViewIsTheSameSelectionAsNamingNone() throws Exception {
+        String all = "id,title,budget,status,createdAt,requiredSkills,clientId,clientName,freelancerId,"
+                + "freelancerName,viewCount";
+        String etag = mockMvc.perform(get("/api/jobs").param("view", "summary"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/jobs").param("view", "summary").param("fields", all)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    private void seedJobs() {
+        if (count("SELECT COUNT(*) FROM jobs WHERE title = 'Seeded'") > 0) {
+            return;
+        }
+        List<Object[]> jobs = new ArrayList<>();
+        List<Object[]> skills = new ArrayList<>();
+        for (long id = 1_000; id < 1_000 + SEEDED_JOBS; id++) {
+            jobs.add(new Object[]{id, LocalDateTime.now()});
+            for (int skill = 0; skill < SKILLS_PER_JOB; skill++) {
+                skills.add(new Object[]{id, "skill-" + skill});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO jobs (id, title, description, budget, client_id, status, created_at, "
+                + "view_count) VALUES (?, 'Seeded', 'Seeded description', 100, 1, 'OPEN', ?, 0)", jobs);
+        jdbcTemplate.batchUpdate("INSERT INTO job_skills (job_id, skill) VALUES (?, ?)", skills);
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.skilllink.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class CapturingStatementInspector implements StatementInspector {
+
+    static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURED.add(sql);
+        return sql;
+    }
+}
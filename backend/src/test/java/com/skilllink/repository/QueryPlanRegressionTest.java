@@ -0,0 +1,272 @@
+package com.skilllink.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.JobStatus;
+import com.skilllink.model.RollupMetric;
+import com.skilllink.model.UserRole;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Seeds a few thousand rows, runs every query method declared on the repositories, captures the
+ * SQL Hibernate sends and fails when H2's {@code EXPLAIN} reports a full scan that is not listed
+ * in {@link #FULL_SCANS_ALLOWED}. The database runs in MySQL compatibility mode so the generated
+ * SQL matches production.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-query-plans;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.skilllink.repository.CapturingStatementInspector"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(JobRepository.class, ApplicationRepository.class,
+            EnrollmentRepository.class, CourseRepository.class, UserRepository.class, SkillRepository.class,
+            StatRollupRepository.class);
+
+    // Whole-catalog reads: a scan is the plan we want.
+    private static final Set<String> FULL_SCANS_ALLOWED = Set.of(
+            "SkillRepository.findAllAliases",
+            "SkillRepository.countJobUsage",
+            "SkillRepository.countUserUsage");
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan \\*/");
+    private static final int USERS = 400;
+    private static final int JOBS = 4_000;
+    private static final int COURSES = 1_500;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private StatRollupRepository statRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, Runnable> invocations = new LinkedHashMap<>();
+
+    @BeforeAll
+    void seedAndRegister() {
+        seed();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        PageRequest page = PageRequest.of(0, 21);
+
+        invocations.put("JobRepository.findByClientId", () -> jobRepository.findByClientId(101L));
+        invocations.put("JobRepository.findByFreelancerId", () -> jobRepository.findByFreelancerId(102L));
+        invocations.put("JobRepository.findByStatus", () -> jobRepository.findByStatus(JobStatus.OPEN));
+        invocations.put("JobRepository.findRecentByStatus",
+                () -> jobRepository.findRecentByStatus(JobStatus.OPEN, PageRequest.of(0, 20)));
+        invocations.put("JobRepository.findPageAfter", () -> jobRepository.findPageAfter(2_000L, page));
+        invocations.put("JobRepository.findSummariesAfter", () -> jobRepository.findSummariesAfter(2_000L, page));
+        invocations.put("JobRepository.findSkillsByJobIdIn", () ->
+                jobRepository.findSkillsByJobIdIn(List.of(2_001L, 2_002L, 2_003L)));
+        invocations.put("JobRepository.findIdsWithoutCanonicalSkills", () ->
+                jobRepository.findIdsWithoutCanonicalSkills(0L, PageRequest.of(0, 200)));
+        invocations.put("JobRepository.findWithPartiesByIdIn", () -> jobRepository.findWithPartiesByIdIn(List.of(1L, 2L)));
+        invocations.put("JobRepository.findWithPartiesById", () -> jobRepository.findWithPartiesById(1L));
+        invocations.put("JobRepository.findIdleJobIds", () ->
+                jobRepository.findIdleJobIds(JobStatus.OPEN, 0L, now.minusDays(30), PageRequest.of(0, 200)));
+        invocations.put("JobRepository.lockIdleRollupRows", () ->
+                jobRepository.lockIdleRollupRows(List.of(1L, 2L), JobStatus.OPEN, now.minusDays(30)));
+        invocations.put("JobRepository.closeIdleJobs", () ->
+                jobRepository.closeIdleJobs(List.of(1L, 2L), JobStatus.OPEN, JobStatus.CLOSED, now.minusDays(30)));
+        invocations.put("JobRepository.findMaxId", jobRepository::findMaxId);
+        invocations.put("JobRepository.findRollupRows", () -> jobRepository.findRollupRows(1_000L, 2_000L));
+
+        invocations.put("ApplicationRepository.findByFreelancerId", () -> applicationRepository.findByFreelancerId(102L));
+        invocations.put("ApplicationRepository.findByJobId", () -> applicationRepository.findByJobId(1L));
+        invocations.put("ApplicationRepository.existsByJobIdAndFreelancerId", () ->
+                applicationRepository.existsByJobIdAndFreelancerId(1L, 102L));
+        invocations.put("ApplicationRepository.findPageByJobAfter", () ->
+                applicationRepository.findPageByJobAfter(100L, now.minusYears(1), 0L, page));
+        invocations.put("ApplicationRepository.findPageByJobAndStatusAfter", () ->
+                applicationRepository.findPageByJobAndStatusAfter(100L, ApplicationStatus.APPLIED, now.minusYears(1), 0L, page));
+        invocations.put("ApplicationRepository.findInboxPageBefore", () ->
+                applicationRepository.findInboxPageBefore(101L, now, Long.MAX_VALUE, page));
+        invocations.put("ApplicationRepository.findInboxPageByStatusBefore", () ->
+                applicationRepository.findInboxPageByStatusBefore(101L, ApplicationStatus.APPLIED, now, Long.MAX_VALUE, page));
+        invocations.put("ApplicationRepository.countByJobIdsGroupedByStatus", () ->
+                applicationRepository.countByJobIdsGroupedByStatus(List.of(100L, 101L)));
+        invocations.put("ApplicationRepository.updateStatusForJobs", () -> applicationRepository.updateStatusForJobs(
+                List.of(1L, 2L), JobStatus.CLOSED, ApplicationStatus.APPLIED, ApplicationStatus.REJECTED));
+        invocations.put("ApplicationRepository.findMaxId", applicationRepository::findMaxId);
+        invocations.put("ApplicationRepository.findRollupRows", () ->
+                applicationRepository.findRollupRows(1_000L, 2_000L));
+        invocations.put("ApplicationRepository.findRollupRowsByJobIdInAndStatus", () ->
+                applicationRepository.findRollupRowsByJobIdInAndStatus(List.of(100L, 101L), ApplicationStatus.APPLIED));
+
+        invocations.put("EnrollmentRepository.existsByCourseIdAndLearnerId", () ->
+                enrollmentRepository.existsByCourseIdAndLearnerId(1L, 103L));
+        invocations.put("EnrollmentRepository.findByLearnerId", () -> enrollmentRepository.findByLearnerId(103L));
+        invocations.put("EnrollmentRepository.findMaxId", enrollmentRepository::findMaxId);
+        invocations.put("EnrollmentRepository.findRollupRows", () -> enrollmentRepository.findRollupRows(1_000L, 2_000L));
+        invocations.put("EnrollmentRepository.findLearnerIdsByCourseId", () ->
+                enrollmentRepository.findLearnerIdsByCourseId(1L));
+        invocations.put("EnrollmentRepository.findLearnerIdsByCourseIdAndLearnerIdIn", () ->
+                enrollmentRepository.findLearnerIdsByCourseIdAndLearnerIdIn(1L, List.of(103L, 104L)));
+        invocations.put("EnrollmentRepository.findRollupRowsByCourseIdAndLearnerIdIn", () ->
+                enrollmentRepository.findRollupRowsByCourseIdAndLearnerIdIn(1L, List.of(103L, 104L)));
+
+        invocations.put("CourseRepository.findByMentorId", () -> courseRepository.findByMentorId(2L));
+        invocations.put("CourseRepository.findWithMentorByIdIn", () -> courseRepository.findWithMentorByIdIn(List.of(1L, 2L)));
+        invocations.put("CourseRepository.findNewestAfter", () -> courseRepository.findNewestAfter(now, Long.MAX_VALUE, page));
+        invocations.put("CourseRepository.findCheapestAfter", () ->
+                courseRepository.findCheapestAfter(BigDecimal.TEN, 0L, page));
+        invocations.put("CourseRepository.findPriciestAfter", () ->
+                courseRepository.findPriciestAfter(BigDecimal.TEN, Long.MAX_VALUE, page));
+        invocations.put("CourseRepository.findMostPopularAfter", () ->
+                courseRepository.findMostPopularAfter(5L, Long.MAX_VALUE, page));
+        invocations.put("CourseRepository.findNewestSummariesAfter", () ->
+                courseRepository.findNewestSummariesAfter(now, Long.MAX_VALUE, page));
+        invocations.put("CourseRepository.findCheapestSummariesAfter", () ->
+                courseRepository.findCheapestSummariesAfter(BigDecimal.TEN, 0L, page));
+        invocations.put("CourseRepository.findPriciestSummariesAfter", () ->
+                courseRepository.findPriciestSummariesAfter(BigDecimal.TEN, Long.MAX_VALUE, page));
+        invocations.put("CourseRepository.findMostPopularSummariesAfter", () ->
+                courseRepository.findMostPopularSummariesAfter(5L, Long.MAX_VALUE, page));
+
+        invocations.put("UserRepository.findByEmail", () -> userRepository.findByEmail("maya@skilllink.com"));
+        invocations.put("UserRepository.existsByEmail", () -> userRepository.existsByEmail("maya@skilllink.com"));
+        invocations.put("UserRepository.findIdsWithoutCanonicalSkills", () ->
+                userRepository.findIdsWithoutCanonicalSkills(0L, PageRequest.of(0, 200)));
+        invocations.put("UserRepository.findProfilesByRoleAfter", () ->
+                userRepository.findProfilesByRoleAfter(UserRole.FREELANCER, 0L, PageRequest.of(0, 500)));
+
+        invocations.put("SkillRepository.findBySlugIn", () -> skillRepository.findBySlugIn(List.of("react", "sql")));
+        invocations.put("SkillRepository.findAliasesIn", () -> skillRepository.findAliasesIn(List.of("reactjs", "js")));
+        invocations.put("SkillRepository.findAllAliases", skillRepository::findAllAliases);
+        invocations.put("SkillRepository.countJobUsage", skillRepository::countJobUsage);
+        invocations.put("SkillRepository.countUserUsage", skillRepository::countUserUsage);
+
+        invocations.put("StatRollupRepository.sumByDay", () ->
+                statRollupRepository.sumByDay(RollupMetric.JOBS, today.minusDays(29), today));
+        invocations.put("StatRollupRepository.findBySubject", () ->
+                statRollupRepository.findBySubject(RollupMetric.APPLICATIONS, today.minusDays(29), today));
+    }
+
+    @Test
+    void everyDeclaredQueryMethodIsCovered() {
+        List<String> declared = REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isDefault() && !method.isSynthetic())
+                        .map(Method::getName)
+                        .map(name -> repository.getSimpleName() + "." + name))
+                .distinct()
+                .toList();
+
+        assertThat(invocations.keySet()).containsAll(declared);
+    }
+
+    @Test
+    void noQueryScansALargeTable() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<String> violations = new ArrayList<>();
+        invocations.forEach((name, invocation) -> {
+            CapturingStatementInspector.CAPTURED.clear();
+            transaction.executeWithoutResult(status -> {
+                invocation.run();
+                status.setRollbackOnly();
+            });
+            List<String> statements = List.copyOf(CapturingStatementInspector.CAPTURED);
+            assertThat(statements).as("SQL captured for %s", name).isNotEmpty();
+            if (FULL_SCANS_ALLOWED.contains(name)) {
+                return;
+            }
+            for (String sql : statements) {
+                String plan = explain(sql);
+                Matcher scan = TABLE_SCAN.matcher(plan);
+                while (scan.find()) {
+                    violations.add(name + " scans " + scan.group(1) + ":\n  " + plan);
+                }
+            }
+        });
+
+        assertThat(violations).as(violations.stream().collect(Collectors.joining("\n"))).isEmpty();
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                (ResultSet rs) -> rs.next() ? rs.getString(1).replaceAll("\\s+", " ") : "");
+    }
+
+    private void seed() {
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email, password, role, is_mentor) VALUES (?, ?, ?, 'x', ?, false)",
+                range(100, 100 + USERS).stream().map(id -> new Object[]{
+                        id, "User " + id, "user" + id + "@plans.test", id % 2 == 0 ? "FREELANCER" : "CLIENT"}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO jobs (id, title, description, budget, client_id, freelancer_id, status, "
+                        + "created_at, view_count) VALUES (?, 'Job', 'Seeded', 100, ?, ?, ?, ?, 0)",
+                range(100, 100 + JOBS).stream().map(id -> new Object[]{
+                        id, 101 + 2 * (id % (USERS / 2)), id % 10 == 0 ? 100 + 2 * (id % (USERS / 2)) : null,
+                        id % 25 == 0 ? "OPEN" : id % 10 == 0 ? "IN_PROGRESS" : "CLOSED",
+                        LocalDateTime.now().minusMinutes(id)}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO job_skills (job_id, skill) VALUES (?, ?)",
+                range(100, 100 + JOBS).stream().map(id -> new Object[]{id, "skill-" + (id % 300)}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO applications (job_id, freelancer_id, client_id, status, applied_at) "
+                        + "VALUES (?, ?, ?, ?, ?)",
+                range(0, JOBS * 2).stream().map(i -> new Object[]{
+                        100 + i % JOBS, 100 + 2 * ((i / JOBS) + 3 * (i % 60)), 101 + 2 * ((100 + i % JOBS) % (USERS / 2)),
+                        i % 7 == 0 ? "ACCEPTED" : "APPLIED", LocalDateTime.now().minusMinutes(i)}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO courses (id, mentor_id, title, description, price, created_at, view_count, "
+                        + "enrollment_count) VALUES (?, ?, 'Course', 'Seeded', ?, ?, 0, ?)",
+                range(100, 100 + COURSES).stream().map(id -> new Object[]{
+                        id, 100 + 2 * (id % (USERS / 2)), BigDecimal.valueOf(id % 500), LocalDateTime.now().minusHours(id),
+                        id % 40}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO enrollments (course_id, learner_id, enrolled_at) VALUES (?, ?, ?)",
+                range(0, COURSES * 2).stream().map(i -> new Object[]{
+                        100 + i % COURSES, 101 + 2 * (i / COURSES + 2 * (i % 90)), LocalDateTime.now()}).toList());
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static List<Long> range(long from, long to) {
+        List<Long> values = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,141 @@
+package com.skilllink.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import java.nio.file.Path;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-routing-primary;DB_CLOSE_DELAY=-1",
+        "skilllink.datasource.replica.url=jdbc:h2:mem:skilllink-routing-replica;DB_CLOSE_DELAY=-1",
+        "skilllink.datasource.replica.sticky-window=PT1M"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String PROBE_TITLE = "Replica lag probe";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void writerReadsOwnWriteWhileOthersSeeReplicaUntilItCatchesUp() throws Exception {
+        replicate();
+
+        mockMvc.perform(post("/api/jobs")
+                        .header("Authorization", bearer("client@skilllink.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + PROBE_TITLE + "\",\"description\":\"Routing\",\"budget\":150,\"skills\":[\"SQL\"]}"))
+                .andExpect(status().isOk());
+
+        assertThat(countProbeJobs(primary)).isEqualTo(1);
+        assertThat(countProbeJobs(replica)).isZero();
+
+        mockMvc.perform(get("/api/jobs/client").header("Authorization", bearer("client@skilllink.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.title == '" + PROBE_TITLE + "')]").exists());
+
+        mockMvc.perform(get("/api/users/me/dashboard").header("Authorization", bearer("maya@skilllink.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openJobs[?(@.title == '" + PROBE_TITLE + "')]").doesNotExist());
+
+        replicate();
+
+        mockMvc.perform(get("/api/users/me/dashboard").header("Authorization", bearer("maya@skilllink.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openJobs[?(@.title == '" + PROBE_TITLE + "')]").exists());
+    }
+
+    @Test
+    void freshlyRegisteredUserAuthenticatesBeforeTheReplicaHasTheRow() throws Exception {
+        replicate();
+
+        String body = mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Rita Replica\",\"email\":\"rita@skilllink.com\","
+                                + "\"password\":\"Password@123\",\"role\":\"LEARNER\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(body).get("token").asText();
+
+        assertThat(new JdbcTemplate(replica).queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = 'rita@skilllink.com'", Integer.class)).isZero();
+        mockMvc.perform(get("/api/users/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("rita@skilllink.com"));
+    }
+
+    @Test
+    void authenticatedPrincipalIsLoadedFromThePrimary() throws Exception {
+        replicate();
+        Long leoId = userRepository.findByEmail("leo@skilllink.com").orElseThrow().getId();
+
+        mockMvc.perform(put("/api/users/" + leoId)
+                        .header("Authorization", bearer("leo@skilllink.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bio\":\"Written to the primary\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(new JdbcTemplate(replica).queryForObject(
+                "SELECT bio FROM users WHERE email = 'leo@skilllink.com'", String.class))
+                .isNotEqualTo("Written to the primary");
+        mockMvc.perform(get("/api/users/me").header("Authorization", bearer("leo@skilllink.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bio").value("Written to the primary"));
+    }
+
+    // Stands in for asynchronous replication: the replica only sees what was copied at the last call.
+    private void replicate() {
+        String script = tempDir.resolve("replica.sql").toString().replace('\\', '/');
+        new JdbcTemplate(primary).execute("SCRIPT TO '" + script + "'");
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("DROP ALL OBJECTS");
+        replicaJdbc.execute("RUNSCRIPT FROM '" + script + "'");
+    }
+
+    private int countProbeJobs(DataSource dataSource) {
+        Integer count = new JdbcTemplate(dataSource)
+                .queryForObject("SELECT COUNT(*) FROM jobs WHERE title = ?", Integer.class, PROBE_TITLE);
+        return count != null ? count : 0;
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userRepository.findByEmail(email).orElseThrow());
+    }
+}
@@ -0,0 +1,106 @@
+package com.skilllink.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-rate-limit;DB_CLOSE_DELAY=-1",
+        "skilllink.rate-limit.auth.capacity=2",
+        "skilllink.rate-limit.catalog.capacity=3",
+        "skilllink.rate-limit.trusted-proxies=10.9.0.1, 10.9.0.2"
+})
+@AutoConfigureMockMvc
+class RateLimitIntegrationTest {
+
+    private static final String LOGIN = "{\"email\":\"client@skilllink.com\",\"password\":\"Password@123\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void loginAttemptsFromOneAddressAreThrottled() throws Exception {
+        for (int i = 1; i >= 0; i--) {
+            mockMvc.perform(post("/api/auth/login").with(remote("10.0.0.1"))
+                            .contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("RateLimit-Limit", "2"))
+                    .andExpect(header().string("RateLimit-Remaining", Integer.toString(i)));
+        }
+
+        mockMvc.perform(post("/api/auth/login").with(remote("10.0.0.1"))
+                        .contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        mockMvc.perform(post("/api/auth/login").with(remote("10.0.0.2"))
+                        .contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void signedInCallersAreLimitedPerUserRatherThanPerAddress() throws Exception {
+        String token = "Bearer " + jwtService.generateToken(userRepository.findByEmail("leo@skilllink.com").orElseThrow());
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/courses").with(remote("10.0.1." + i)).header("Authorization", token))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/courses").with(remote("10.0.1.9")).header("Authorization", token))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/api/courses").with(remote("10.0.1.9")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void forwardedForIsHonoredOnlyFromTrustedProxies() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/jobs").with(remote("10.9.0.1"))
+                            .header("X-Forwarded-For", "203.0.113.7, 10.9.0.2"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/jobs").with(remote("10.9.0.2")).header("X-Forwarded-For", "203.0.113.7"))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/api/jobs").with(remote("10.9.0.1")).header("X-Forwarded-For", "203.0.113.8"))
+                .andExpect(status().isOk());
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/jobs").with(remote("10.0.2.1")).header("X-Forwarded-For", "203.0.113." + (20 + i)))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/jobs").with(remote("10.0.2.1")).header("X-Forwarded-For", "203.0.113.99"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void unlimitedRoutesCarryNoRateLimitHeaders() throws Exception {
+        String token = "Bearer " + jwtService.generateToken(userRepository.findByEmail("leo@skilllink.com").orElseThrow());
+        mockMvc.perform(get("/api/users/me").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("RateLimit-Limit"));
+    }
+
+    private static RequestPostProcessor remote(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
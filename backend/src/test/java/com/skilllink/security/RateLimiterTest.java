@@ -0,0 +1,139 @@
+package com.skilllink.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new RateLimiter(Map.of(RateLimitGroup.AUTH, new RateLimiter.Limit(3, Duration.ofSeconds(3))),
+                now::get);
+    }
+
+    @Test
+    void acquire_allowsBurstThenRefillsOneTokenPerInterval() {
+        assertThat(limiter.acquire(RateLimitGroup.AUTH, "ip:a").remaining()).isEqualTo(2);
+        assertThat(limiter.acquire(RateLimitGroup.AUTH, "ip:a").remaining()).isEqualTo(1);
+        assertThat(limiter.acquire(RateLimitGroup.AUTH, "ip:a").remaining()).isZero();
+
+        RateLimiter.Decision denied = limiter.acquire(RateLimitGroup.AUTH, "ip:a");
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfterNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.acquire(RateLimitGroup.AUTH, "ip:b").allowed()).isTrue();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.acquire(RateLimitGroup.AUTH, "ip:a").allowed()).isTrue();
+        assertThat(limiter.acquire(RateLimitGroup.AUTH, "ip:a").allowed()).isFalse();
+    }
+
+    @Test
+    void acquire_ignoresGroupsWithoutALimit() {
+        assertThat(limiter.acquire(RateLimitGroup.CATALOG, "ip:a")).isNull();
+    }
+
+    @Test
+    void evictIdle_dropsOnlyFullyRefilledKeys() {
+        limiter.acquire(RateLimitGroup.AUTH, "ip:a");
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        limiter.acquire(RateLimitGroup.AUTH, "ip:b");
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+
+        limiter.evictIdle();
+
+        assertThat(limiter.trackedKeys(RateLimitGroup.AUTH)).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_sweepsOnlyABoundedBatchPerNewKeyOnceOverTheThreshold() {
+        for (int i = 0; i <= RateLimiter.SWEEP_THRESHOLD; i++) {
+            limiter.acquire(RateLimitGroup.AUTH, "ip:" + i);
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        int tracked = limiter.trackedKeys(RateLimitGroup.AUTH);
+
+        limiter.acquire(RateLimitGroup.AUTH, "ip:new");
+
+        assertThat(limiter.trackedKeys(RateLimitGroup.AUTH))
+                .isEqualTo(tracked + 1 - RateLimiter.SWEEP_BATCH);
+    }
+
+    @Test
+    void acquire_neverAdmitsMoreThanCapacityUnderContention() throws Exception {
+        RateLimiter contended = new RateLimiter(
+                Map.of(RateLimitGroup.WRITES, new RateLimiter.Limit(500, Duration.ofHours(1))), now::get);
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            pool.submit(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    if (contended.acquire(RateLimitGroup.WRITES, "user:1").allowed()) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(admitted.get()).isEqualTo(500);
+    }
+
+    @Test
+    void constructor_rejectsEmptyBuckets() {
+        assertThatThrownBy(() -> new RateLimiter(
+                Map.of(RateLimitGroup.AUTH, new RateLimiter.Limit(0, Duration.ofMinutes(1))), now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Run with -Dskilllink.benchmark=true; prints and checks the mean cost of one acquire.
+    @Test
+    @EnabledIfSystemProperty(named = "skilllink.benchmark", matches = "true")
+    void benchmark_acquireCostsLessThanAMicrosecond() throws Exception {
+        RateLimiter real = new RateLimiter(10, Duration.ofMinutes(1), 1_000_000, Duration.ofSeconds(1),
+                60, Duration.ofMinutes(1));
+        int threads = Runtime.getRuntime().availableProcessors();
+        int perThread = 2_000_000;
+        for (int warmup = 0; warmup < 2; warmup++) {
+            run(real, threads, perThread);
+        }
+        long elapsed = run(real, threads, perThread);
+        double nanosPerOp = (double) elapsed * threads / ((long) threads * perThread);
+        System.out.printf("RateLimiter.acquire: %.1f ns/op across %d threads%n", nanosPerOp, threads);
+
+        assertThat(nanosPerOp).isLessThan(1_000);
+    }
+
+    private static long run(RateLimiter limiter, int threads, int perThread) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            String[] keys = new String[1024];
+            for (int k = 0; k < keys.length; k++) {
+                keys[k] = "ip:" + t + "." + k;
+            }
+            pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    limiter.acquire(RateLimitGroup.CATALOG, keys[i & 1023]);
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.MINUTES);
+        return System.nanoTime() - start;
+    }
+}
@@ -2,27 +2,35 @@ package com.skilllink.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.skilllink.dto.ApplicationResponse;
+import com.skilllink.dto.CursorPage;
 import com.skilllink.model.Application;
 import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.InvalidationKind;
 import com.skilllink.model.Job;
 import com.skilllink.model.JobStatus;
 import com.skilllink.model.User;
 import com.skilllink.model.UserRole;
 import com.skilllink.repository.ApplicationRepository;
+import com.skilllink.repository.ApplicationStatusCount;
 import com.skilllink.repository.JobRepository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 class ApplicationServiceTest {
@@ -33,6 +41,18 @@ class ApplicationServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private CacheInvalidationBus invalidations;
+
+    @Mock
+    private StatsRollups stats;
+
     @InjectMocks
     private ApplicationService applicationService;
 
@@ -59,18 +79,81 @@ class ApplicationServiceTest {
         application.setAppliedAt(LocalDateTime.now().minusDays(1));
 
         when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
-        when(applicationRepository.findByJobId(job.getId())).thenReturn(List.of(application));
+        when(applicationRepository.findPageByJobAfter(eq(job.getId()), any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(application));
 
-        List<ApplicationResponse> responses = applicationService.getForJob(job.getId(), client);
+        CursorPage<ApplicationResponse> page = applicationService.getForJob(job.getId(), null, null, 20, client);
 
-        assertThat(responses).hasSize(1);
-        ApplicationResponse response = responses.get(0);
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+        ApplicationResponse response = page.items().get(0);
         assertThat(response.jobId()).isEqualTo(job.getId());
         assertThat(response.freelancerId()).isEqualTo(freelancer.getId());
         assertThat(response.status()).isEqualTo(ApplicationStatus.APPLIED);
 
         verify(jobRepository).findById(job.getId());
-        verify(applicationRepository).findByJobId(job.getId());
+    }
+
+    @Test
+    void getPage_returnsCursorAfterLastServedApplicationAndFiltersByStatus() {
+        Job job = new Job();
+        job.setId(100L);
+        LocalDateTime appliedAt = LocalDateTime.of(2024, 5, 1, 9, 30);
+        List<Application> window = List.of(application(1L, job, appliedAt), application(2L, job, appliedAt),
+                application(3L, job, appliedAt.plusMinutes(1)));
+        when(applicationRepository.findPageByJobAndStatusAfter(eq(100L), eq(ApplicationStatus.APPLIED), any(), eq(0L),
+                any(Pageable.class))).thenReturn(window);
+
+        CursorPage<ApplicationResponse> first = applicationService.getPage(100L, ApplicationStatus.APPLIED, null, 2);
+
+        assertThat(first.items()).extracting(ApplicationResponse::id).containsExactly(1L, 2L);
+        assertThat(KeysetCursor.decode(first.nextCursor())).isEqualTo(new KeysetCursor(appliedAt.toString(), 2L));
+
+        applicationService.getPage(100L, ApplicationStatus.APPLIED, first.nextCursor(), 2);
+        verify(applicationRepository).findPageByJobAndStatusAfter(eq(100L), eq(ApplicationStatus.APPLIED),
+                eq(appliedAt), eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void getInbox_pagesNewestFirstFromTheCursor() {
+        User client = new User();
+        client.setId(42L);
+        client.setRole(UserRole.CLIENT);
+        Job job = new Job();
+        job.setId(100L);
+        job.setClient(client);
+        LocalDateTime appliedAt = LocalDateTime.of(2024, 5, 1, 9, 30);
+        when(applicationRepository.findInboxPageBefore(eq(42L), any(), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(application(9L, job, appliedAt), application(8L, job, appliedAt.minusHours(1))));
+
+        CursorPage<ApplicationResponse> page = applicationService.getInbox(client, null, null, 1);
+
+        assertThat(page.items()).extracting(ApplicationResponse::id).containsExactly(9L);
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(appliedAt.toString(), 9L));
+    }
+
+    @Test
+    void getInbox_isOnlyForClients() {
+        User freelancer = new User();
+        freelancer.setId(77L);
+        freelancer.setRole(UserRole.FREELANCER);
+
+        assertThatThrownBy(() -> applicationService.getInbox(freelancer, null, null, 20))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void countByStatus_groupsAPageOfJobsAndFillsMissingStatusesWithZero() {
+        when(applicationRepository.countByJobIdsGroupedByStatus(List.of(100L, 101L))).thenReturn(List.of(
+                new ApplicationStatusCount(100L, ApplicationStatus.APPLIED, 4L),
+                new ApplicationStatusCount(100L, ApplicationStatus.REJECTED, 1L)));
+
+        Map<Long, Map<ApplicationStatus, Long>> counts = applicationService.countByStatus(List.of(100L, 101L));
+
+        assertThat(counts.get(100L)).isEqualTo(Map.of(
+                ApplicationStatus.APPLIED, 4L, ApplicationStatus.ACCEPTED, 0L, ApplicationStatus.REJECTED, 1L));
+        assertThat(counts.get(101L)).isEqualTo(Map.of(
+                ApplicationStatus.APPLIED, 0L, ApplicationStatus.ACCEPTED, 0L, ApplicationStatus.REJECTED, 0L));
     }
 
     @Test
@@ -90,11 +173,11 @@ class ApplicationServiceTest {
 
         when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
 
-        assertThatThrownBy(() -> applicationService.getForJob(job.getId(), otherClient))
+        assertThatThrownBy(() -> applicationService.getForJob(job.getId(), null, null, 20, otherClient))
                 .isInstanceOf(SecurityException.class)
                 .hasMessageContaining("Cannot view applications");
 
-        verify(applicationRepository, never()).findByJobId(job.getId());
+        verify(applicationRepository, never()).findPageByJobAfter(any(), any(), any(), any());
     }
 
     @Test
@@ -137,6 +220,10 @@ class ApplicationServiceTest {
 
         verify(applicationRepository).findById(application.getId());
         verify(applicationRepository).findByJobId(job.getId());
+        verify(invalidations).publish(InvalidationKind.JOB, job.getId());
+        verify(stats).jobStatusChanged(job, JobStatus.OPEN);
+        verify(stats).applicationStatusChanged(application, ApplicationStatus.APPLIED);
+        verify(stats).applicationStatusChanged(other, ApplicationStatus.APPLIED);
     }
 
     @Test
@@ -219,4 +306,16 @@ class ApplicationServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Job is not open");
     }
+
+    private static Application application(Long id, Job job, LocalDateTime appliedAt) {
+        User freelancer = new User();
+        freelancer.setId(77L);
+        Application application = new Application();
+        application.setId(id);
+        application.setJob(job);
+        application.setFreelancer(freelancer);
+        application.setStatus(ApplicationStatus.APPLIED);
+        application.setAppliedAt(appliedAt);
+        return application;
+    }
 }
@@ -0,0 +1,115 @@
+package com.skilllink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CatalogSnapshotCacheTest {
+
+    private CatalogSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CatalogSnapshotCache(new ObjectMapper(), Duration.ofMinutes(5), 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void get_serializesOnceAndServesTheSameBytes() throws IOException {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<String>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of("java", "spring");
+        };
+
+        CatalogSnapshotCache.Snapshot first = cache.get(Catalog.JOBS, "all", loader);
+        CatalogSnapshotCache.Snapshot second = cache.get(Catalog.JOBS, "all", loader);
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).isEqualTo("[\"java\",\"spring\"]");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(first.json());
+        }
+    }
+
+    @Test
+    void invalidate_keepsServingStaleSnapshotWhileRebuilding() throws InterruptedException {
+        AtomicInteger version = new AtomicInteger(1);
+        Supplier<Integer> loader = version::get;
+        CatalogSnapshotCache.Snapshot original = cache.get(Catalog.COURSES, "NEWEST|20|", loader);
+
+        version.set(2);
+        cache.invalidate(Catalog.COURSES);
+
+        CatalogSnapshotCache.Snapshot current = cache.get(Catalog.COURSES, "NEWEST|20|", loader);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (current == original && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            current = cache.get(Catalog.COURSES, "NEWEST|20|", loader);
+        }
+
+        assertThat(new String(current.json(), StandardCharsets.UTF_8)).isEqualTo("2");
+        assertThat(current.etag()).isNotEqualTo(original.etag());
+        assertThat(cache.get(Catalog.JOBS, "all", () -> "jobs").json()).isNotEmpty();
+    }
+
+    @Test
+    void get_doesNotCacheFailedLoads() {
+        assertThatThrownBy(() -> cache.get(Catalog.COURSES, "bad", () -> {
+            throw new IllegalArgumentException("Invalid cursor");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.get(Catalog.COURSES, "bad", () -> "ok").json())
+                .isEqualTo("\"ok\"".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void get_evictsTheLeastRecentlyUsedKeyWhenFull() throws InterruptedException {
+        CatalogSnapshotCache small = new CatalogSnapshotCache(new ObjectMapper(), Duration.ofMinutes(5), 2);
+        try {
+            AtomicInteger loads = new AtomicInteger();
+            Supplier<Integer> loader = loads::incrementAndGet;
+            small.get(Catalog.COURSES, "a", loader);
+            Thread.sleep(2);
+            small.get(Catalog.COURSES, "b", loader);
+            Thread.sleep(2);
+            small.get(Catalog.COURSES, "a", loader);
+            Thread.sleep(2);
+
+            small.get(Catalog.COURSES, "c", loader);
+            small.get(Catalog.COURSES, "c", loader);
+            small.get(Catalog.COURSES, "a", loader);
+
+            assertThat(loads).hasValue(3);
+            small.get(Catalog.COURSES, "b", loader);
+            assertThat(loads).hasValue(4);
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    @Test
+    void eachEncodingHasItsOwnEtag() {
+        CatalogSnapshotCache.Snapshot snapshot = cache.get(Catalog.JOBS, "all", () -> List.of("java"));
+
+        assertThat(snapshot.etag()).startsWith("\"").endsWith("\"");
+        assertThat(snapshot.gzipEtag()).startsWith("\"").endsWith("\"").isNotEqualTo(snapshot.etag());
+    }
+}
@@ -0,0 +1,79 @@
+package com.skilllink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.skilllink.dto.CursorPage;
+import com.skilllink.dto.DashboardResponse;
+import com.skilllink.model.User;
+import com.skilllink.model.UserRole;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private CourseService courseService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        dashboardService = new DashboardService(jobService, applicationService, courseService, userService,
+                transactionManager, Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    void sectionsPastTheDeadlineAreReportedAndInterrupted() throws Exception {
+        User learner = new User();
+        learner.setId(3L);
+        learner.setRole(UserRole.LEARNER);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(courseService.getEnrollments(learner)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return List.of();
+        });
+        when(courseService.getCourses(CourseSort.POPULAR, null, 6)).thenReturn(new CursorPage<>(List.of(), null));
+
+        DashboardResponse dashboard = dashboardService.getDashboard(learner);
+
+        assertThat(dashboard.unavailable()).containsExactly("enrollments");
+        assertThat(dashboard.courses()).isEmpty();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,88 @@
+package com.skilllink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class DecayingTopKTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    void ranksByAccumulatedWeight() {
+        DecayingTopK ranking = new DecayingTopK(3, 1_000, HOUR, 0L);
+
+        ranking.record(1L, 1.0, 0L);
+        ranking.record(2L, 5.0, 0L);
+        ranking.record(3L, 2.0, 0L);
+        ranking.record(1L, 3.0, 0L);
+
+        assertThat(ranking.top(10)).containsExactly(2L, 1L, 3L);
+        assertThat(ranking.top(2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void recentActivityOutranksOlderHeavierActivity() {
+        DecayingTopK ranking = new DecayingTopK(5, 1_000, HOUR, 0L);
+
+        ranking.record(1L, 10.0, 0L);
+        ranking.record(2L, 3.0, 4 * HOUR);
+
+        assertThat(ranking.top(2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void evictsLowestScoreWhenFull() {
+        DecayingTopK ranking = new DecayingTopK(2, 1_000, HOUR, 0L);
+
+        ranking.record(1L, 1.0, 0L);
+        ranking.record(2L, 2.0, 0L);
+        ranking.record(3L, 3.0, 0L);
+        assertThat(ranking.top(5)).containsExactly(3L, 2L);
+
+        ranking.record(1L, 5.0, 0L);
+        assertThat(ranking.top(5)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void keepsOrderAcrossLandmarkRebase() {
+        DecayingTopK ranking = new DecayingTopK(3, 1_000, HOUR, 0L);
+
+        ranking.record(1L, 4.0, 0L);
+        ranking.record(2L, 2.0, 0L);
+        long muchLater = 800 * HOUR;
+        ranking.record(3L, 1.0, muchLater);
+        ranking.record(3L, 1.0, muchLater);
+
+        assertThat(ranking.top(3)).containsExactly(3L);
+
+        ranking.record(4L, 1.0, muchLater);
+        assertThat(ranking.top(3)).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void removeDropsItemFromRanking() {
+        DecayingTopK ranking = new DecayingTopK(3, 1_000, HOUR, 0L);
+        ranking.record(1L, 1.0, 0L);
+        ranking.record(2L, 2.0, 0L);
+
+        ranking.remove(2L);
+
+        assertThat(ranking.top(3)).containsExactly(1L);
+    }
+
+    @Test
+    void scoresOutsideTheTopAreCappedAndTheLowestDroppedFirst() {
+        DecayingTopK ranking = new DecayingTopK(2, 10, HOUR, 0L);
+        ranking.record(100L, 50.0, 0L);
+        ranking.record(200L, 40.0, 0L);
+        for (long id = 1; id <= 30; id++) {
+            ranking.record(id, id, 0L);
+        }
+
+        assertThat(ranking.tracked()).isLessThanOrEqualTo(10);
+        assertThat(ranking.top(2)).containsExactly(100L, 200L);
+        ranking.record(30L, 45.0, 0L);
+        assertThat(ranking.top(2)).containsExactly(30L, 100L);
+    }
+}
@@ -0,0 +1,159 @@
+package com.skilllink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skilllink.model.Course;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class EngagementCountersTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    private EngagementCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new EngagementCounters(jdbcTemplate, transactionManager, entityManagerFactory);
+    }
+
+    @Test
+    void current_addsPendingIncrementsToPersistedValue() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            pool.submit(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    counters.increment(CounterType.JOB_VIEWS, 7L);
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counters.current(CounterType.JOB_VIEWS, 7L, 40L)).isEqualTo(8_040L);
+        assertThat(counters.current(CounterType.COURSE_VIEWS, 7L, 40L)).isEqualTo(40L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_writesBatchedDeltasAndClearsThem() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        counters.increment(CounterType.COURSE_ENROLLMENTS, 1L);
+        counters.increment(CounterType.COURSE_ENROLLMENTS, 1L);
+        counters.increment(CounterType.COURSE_ENROLLMENTS, 2L);
+
+        counters.flush();
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(
+                eq("UPDATE courses SET enrollment_count = enrollment_count + ? WHERE id = ?"), args.capture());
+        assertThat(args.getValue()).extracting(row -> row[1] + "=" + row[0])
+                .containsExactlyInAnyOrder("1=2", "2=1");
+        assertThat(counters.pending(CounterType.COURSE_ENROLLMENTS, 1L)).isZero();
+        assertThat(counters.pending(CounterType.COURSE_ENROLLMENTS, 2L)).isZero();
+        verify(secondLevelCache).evict(Course.class, 1L);
+        verify(secondLevelCache).evict(Course.class, 2L);
+        verify(secondLevelCache, never()).evictQueryRegion(anyString());
+    }
+
+    @Test
+    void flush_dropsCellsThatDrainedToZero() throws Exception {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        for (long id = 1; id <= 50; id++) {
+            counters.increment(CounterType.JOB_VIEWS, id);
+        }
+
+        counters.flush();
+        assertThat(counters.tracked(CounterType.JOB_VIEWS)).isZero();
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            writers.add(pool.submit(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    counters.increment(CounterType.JOB_VIEWS, 9L);
+                }
+            }));
+        }
+        while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+            counters.flush();
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        pool.shutdown();
+        ArgumentCaptor<List<Object[]>> args = captureBatches();
+        long flushed = 0L;
+        for (List<Object[]> batch : args.getAllValues()) {
+            for (Object[] row : batch) {
+                flushed += (Long) row[0];
+            }
+        }
+
+        assertThat(flushed - 50L + counters.pending(CounterType.JOB_VIEWS, 9L)).isEqualTo(4_000L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Object[]>> captureBatches() {
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), args.capture());
+        return args;
+    }
+
+    @Test
+    void flush_keepsDeltasWhenTheBatchFails() {
+        counters.increment(CounterType.JOB_VIEWS, 3L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        counters.flush();
+
+        assertThat(counters.pending(CounterType.JOB_VIEWS, 3L)).isEqualTo(1L);
+    }
+
+    @Test
+    void flush_skipsDatabaseWhenNothingIsPending() {
+        counters.flush();
+
+        verify(transactionManager, never()).getTransaction(org.mockito.ArgumentMatchers.any());
+    }
+}
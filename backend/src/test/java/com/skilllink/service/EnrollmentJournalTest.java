@@ -0,0 +1,112 @@
+package com.skilllink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EnrollmentJournalTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_000_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void acknowledgedEntriesAreInTheSealedSegment() throws Exception {
+        try (EnrollmentJournal journal = new EnrollmentJournal(directory)) {
+            List<CompletableFuture<Void>> acks = IntStream.rangeClosed(1, 50)
+                    .mapToObj(learner -> journal.append(new EnrollmentJournal.Entry(7L, learner, AT)))
+                    .toList();
+            CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            List<Path> segments = journal.seal();
+
+            assertThat(segments).hasSize(1);
+            List<EnrollmentJournal.Entry> entries = EnrollmentJournal.read(segments.get(0));
+            assertThat(entries).hasSize(50);
+            assertThat(entries.get(0)).isEqualTo(new EnrollmentJournal.Entry(7L, 1L, AT));
+        }
+    }
+
+    @Test
+    void sealStartsANewSegmentAndOnlyReturnsClosedOnes() throws Exception {
+        try (EnrollmentJournal journal = new EnrollmentJournal(directory)) {
+            journal.append(new EnrollmentJournal.Entry(1L, 3L, AT)).get(5, TimeUnit.SECONDS);
+            List<Path> first = journal.seal();
+            journal.append(new EnrollmentJournal.Entry(1L, 4L, AT)).get(5, TimeUnit.SECONDS);
+
+            assertThat(EnrollmentJournal.segments(directory)).isEqualTo(first);
+            List<Path> both = journal.seal();
+            assertThat(both).hasSize(2).startsWith(first.get(0));
+            assertThat(EnrollmentJournal.read(both.get(1))).containsExactly(new EnrollmentJournal.Entry(1L, 4L, AT));
+        }
+    }
+
+    @Test
+    void segmentsLeftOpenByACrashAreRecoveredAndNumberingContinues() throws Exception {
+        Files.writeString(directory.resolve("enrollments-00000000000000000004.log.open"),
+                "2,3," + AT + "\n2,5,2024-03-01T09:3", StandardCharsets.UTF_8);
+
+        try (EnrollmentJournal journal = new EnrollmentJournal(directory)) {
+            List<Path> recovered = EnrollmentJournal.segments(directory);
+            assertThat(recovered).extracting(path -> path.getFileName().toString())
+                    .containsExactly("enrollments-00000000000000000004.log");
+            assertThat(EnrollmentJournal.read(recovered.get(0))).containsExactly(new EnrollmentJournal.Entry(2L, 3L, AT));
+
+            journal.append(new EnrollmentJournal.Entry(2L, 6L, AT)).get(5, TimeUnit.SECONDS);
+            assertThat(journal.seal()).extracting(path -> path.getFileName().toString())
+                    .containsExactly("enrollments-00000000000000000004.log", "enrollments-00000000000000000005.log");
+        }
+    }
+
+    @Test
+    void cancelledEntriesAreWithdrawnUnlessTheWriterTookThem() throws Exception {
+        try (EnrollmentJournal journal = new EnrollmentJournal(directory)) {
+            List<CompletableFuture<Void>> acks = IntStream.rangeClosed(1, 500)
+                    .mapToObj(learner -> journal.append(new EnrollmentJournal.Entry(9L, learner, AT)))
+                    .toList();
+            Set<Long> withdrawn = new HashSet<>();
+            for (int i = 0; i < acks.size(); i++) {
+                if (acks.get(i).cancel(false)) {
+                    withdrawn.add(i + 1L);
+                }
+            }
+            acks.stream().filter(ack -> !ack.isCancelled()).forEach(CompletableFuture::join);
+
+            List<Long> written = journal.seal().stream()
+                    .flatMap(segment -> readQuietly(segment).stream())
+                    .map(EnrollmentJournal.Entry::learnerId)
+                    .toList();
+            assertThat(written).hasSize(500 - withdrawn.size()).doesNotContainAnyElementsOf(withdrawn);
+        }
+    }
+
+    @Test
+    void appendsAfterCloseFail() throws Exception {
+        EnrollmentJournal journal = new EnrollmentJournal(directory);
+        journal.close();
+
+        assertThat(journal.append(new EnrollmentJournal.Entry(1L, 3L, AT))).isCompletedExceptionally();
+    }
+
+    private static List<EnrollmentJournal.Entry> readQuietly(Path segment) {
+        try {
+            return EnrollmentJournal.read(segment);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.skilllink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.skilllink.dto.CursorPage;
+import com.skilllink.dto.FreelancerProfileResponse;
+import com.skilllink.model.UserRole;
+import com.skilllink.repository.UserProfileRow;
+import com.skilllink.repository.UserRepository;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class FreelancerSearchIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static final PageRequest FIRST_CHUNK = PageRequest.of(0, 500);
+
+    private FreelancerSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FreelancerSearchIndex(userRepository, transactionManager);
+        when(userRepository.findProfilesByRoleAfter(UserRole.FREELANCER, 0L, FIRST_CHUNK)).thenReturn(List.of(
+                freelancer(2L, true, "React, Spring", "Spring Boot and React mentor"),
+                freelancer(3L, false, "react,figma", "Designer who writes React"),
+                freelancer(4L, false, "spring", "Backend engineer, Spring Boot, Spring Data")));
+        index.rebuild();
+    }
+
+    @Test
+    void search_filtersBySkillsRoleAndMentorInIdOrder() {
+        assertThat(ids(index.search(UserRole.FREELANCER, null, List.of("REACT"), null, null, 20)))
+                .containsExactly(2L, 3L);
+        assertThat(ids(index.search(null, null, List.of("react", "spring"), null, null, 20)))
+                .containsExactly(2L);
+        assertThat(ids(index.search(UserRole.FREELANCER, true, null, null, null, 20)))
+                .containsExactly(2L);
+        assertThat(ids(index.search(null, null, List.of("cobol"), null, null, 20))).isEmpty();
+    }
+
+    @Test
+    void search_pagesWithCursor() {
+        CursorPage<FreelancerProfileResponse> first = index.search(UserRole.FREELANCER, null, null, null, null, 2);
+        assertThat(ids(first)).containsExactly(2L, 3L);
+        assertThat(first.nextCursor()).isNotNull();
+
+        CursorPage<FreelancerProfileResponse> second =
+                index.search(UserRole.FREELANCER, null, null, null, first.nextCursor(), 2);
+        assertThat(ids(second)).containsExactly(4L);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void search_ranksBioMatchesAndPagesThroughRanking() {
+        CursorPage<FreelancerProfileResponse> all = index.search(UserRole.FREELANCER, null, null, "spring boot", null, 20);
+        assertThat(ids(all)).containsExactly(4L, 2L);
+        assertThat(all.items().get(0).score()).isGreaterThan(all.items().get(1).score());
+
+        CursorPage<FreelancerProfileResponse> first = index.search(UserRole.FREELANCER, null, null, "spring boot", null, 1);
+        CursorPage<FreelancerProfileResponse> second =
+                index.search(UserRole.FREELANCER, null, null, "spring boot", first.nextCursor(), 1);
+        assertThat(ids(first)).containsExactly(4L);
+        assertThat(ids(second)).containsExactly(2L);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void rebuild_replaysProfileChangesThatArriveWhileItReads() {
+        when(userRepository.findProfilesByRoleAfter(UserRole.FREELANCER, 0L, FIRST_CHUNK)).thenAnswer(invocation -> {
+            index.onProfileChanged(new UserProfileChangedEvent(4L, "Dana", UserRole.FREELANCER, false, "kotlin", ""));
+            return List.of(
+                    freelancer(2L, true, "React, Spring", "Spring Boot and React mentor"),
+                    freelancer(4L, false, "spring", "Backend engineer, Spring Boot, Spring Data"));
+        });
+
+        index.rebuild();
+
+        assertThat(ids(index.search(null, null, List.of("kotlin"), null, null, 20))).containsExactly(4L);
+        assertThat(ids(index.search(null, null, List.of("spring"), null, null, 20))).containsExactly(2L);
+        index.onProfileChanged(new UserProfileChangedEvent(4L, "Dana", UserRole.FREELANCER, false, "spring", ""));
+        assertThat(ids(index.search(null, null, List.of("spring"), null, null, 20))).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void onProfileChanged_replacesPreviousPostings() {
+        index.onProfileChanged(new UserProfileChangedEvent(3L, "Designer", UserRole.FREELANCER, false,
+                "figma", "Product designer"));
+
+        assertThat(ids(index.search(null, null, List.of("react"), null, null, 20))).containsExactly(2L);
+        assertThat(ids(index.search(null, null, List.of("figma"), "designer", null, 20))).containsExactly(3L);
+        assertThat(ids(index.search(null, null, null, "writes", null, 20))).isEmpty();
+
+        index.onProfileChanged(new UserProfileChangedEvent(5L, "New", UserRole.FREELANCER, false, "react", null));
+        assertThat(ids(index.search(UserRole.FREELANCER, null, List.of("react"), null, null, 20)))
+                .containsExactly(2L, 5L);
+    }
+
+    @Test
+    void onProfileChanged_leavesOtherRolesOut() {
+        index.onProfileChanged(new UserProfileChangedEvent(1L, "Client", UserRole.CLIENT, false,
+                "react", "Hiring react developers"));
+        index.onProfileChanged(new UserProfileChangedEvent(6L, "Learner", UserRole.LEARNER, true, "react", null));
+
+        assertThat(ids(index.search(null, null, List.of("react"), null, null, 20))).containsExactly(2L, 3L);
+        assertThat(ids(index.search(UserRole.CLIENT, null, null, null, null, 20))).isEmpty();
+    }
+
+    @Test
+    void rebuild_readsFreelancersInIdChunks() {
+        List<UserProfileRow> firstChunk = LongStream.rangeClosed(1, FIRST_CHUNK.getPageSize())
+                .mapToObj(id -> freelancer(id, false, "spring", null))
+                .toList();
+        when(userRepository.findProfilesByRoleAfter(UserRole.FREELANCER, 0L, FIRST_CHUNK)).thenReturn(firstChunk);
+        when(userRepository.findProfilesByRoleAfter(UserRole.FREELANCER, 500L, FIRST_CHUNK))
+                .thenReturn(List.of(freelancer(900L, false, "spring", null)));
+
+        index.rebuild();
+
+        CursorPage<FreelancerProfileResponse> page = index.search(null, null, List.of("spring"), null, null, 100);
+        assertThat(ids(page)).startsWith(1L, 2L).hasSize(100);
+        assertThat(ids(index.search(null, null, List.of("spring"), null, KeysetCursor.encode("", 500L), 20)))
+                .containsExactly(900L);
+    }
+
+    @Test
+    void search_rejectsMalformedRankedCursor() {
+        String cursor = KeysetCursor.encode("not-a-score", 2L);
+
+        assertThatThrownBy(() -> index.search(null, null, null, "spring", cursor, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    private static List<Long> ids(CursorPage<FreelancerProfileResponse> page) {
+        return page.items().stream().map(FreelancerProfileResponse::id).toList();
+    }
+
+    private static UserProfileRow freelancer(Long id, boolean mentor, String skills, String bio) {
+        return new UserProfileRow(id, "User " + id, UserRole.FREELANCER, mentor, skills, bio);
+    }
+}
@@ -2,10 +2,13 @@ package com.skilllink.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.skilllink.dto.ApplicationResponse;
+import com.skilllink.dto.CursorPage;
 import com.skilllink.dto.JobDetailResponse;
-import com.skilllink.model.Application;
+import com.skilllink.dto.JobResponse;
 import com.skilllink.model.ApplicationStatus;
 import com.skilllink.model.Job;
 import com.skilllink.model.JobStatus;
@@ -15,6 +18,9 @@ import com.skilllink.repository.JobRepository;
 import com.skilllink.repository.UserRepository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -32,20 +38,33 @@ class JobServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private EngagementCounters counters;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private CacheInvalidationBus invalidations;
+
+    @Mock
+    private StatsRollups stats;
+
+    @Mock
+    private SkillDictionary skillDictionary;
+
     @InjectMocks
     private JobService jobService;
 
     @Test
-    void getJobWithApplications_returnsDetailsForOwner() {
+    void getJobWithApplications_returnsFirstPageAndCountsForOwner() {
         User client = new User();
         client.setId(10L);
         client.setRole(UserRole.CLIENT);
 
-        User freelancer = new User();
-        freelancer.setId(20L);
-        freelancer.setRole(UserRole.FREELANCER);
-        freelancer.setName("Taylor Freelance");
-
         Job job = new Job();
         job.setId(100L);
         job.setClient(client);
@@ -54,32 +73,50 @@ class JobServiceTest {
         job.setBudget(BigDecimal.valueOf(1200));
         job.setStatus(JobStatus.OPEN);
 
-        Application older = new Application();
-        older.setId(1L);
-        older.setJob(job);
-        older.setFreelancer(freelancer);
-        older.setStatus(ApplicationStatus.APPLIED);
-        older.setAppliedAt(LocalDateTime.now().minusDays(2));
-
-        Application newer = new Application();
-        newer.setId(2L);
-        newer.setJob(job);
-        newer.setFreelancer(freelancer);
-        newer.setStatus(ApplicationStatus.APPLIED);
-        newer.setAppliedAt(LocalDateTime.now().minusDays(1));
+        ApplicationResponse older = new ApplicationResponse(1L, 100L, job.getTitle(), ApplicationStatus.APPLIED,
+                LocalDateTime.now().minusDays(2), 20L, "Taylor Freelance", 10L, null);
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(Map.of(
+                ApplicationStatus.APPLIED, 30L, ApplicationStatus.ACCEPTED, 0L, ApplicationStatus.REJECTED, 12L));
 
-        job.getApplications().add(newer);
-        job.getApplications().add(older);
-
-        when(jobRepository.findWithApplicationsById(job.getId())).thenReturn(Optional.of(job));
+        when(jobRepository.findWithPartiesById(job.getId())).thenReturn(Optional.of(job));
+        when(applicationService.getPage(job.getId(), null, null, 20)).thenReturn(new CursorPage<>(List.of(older), "next"));
+        when(applicationService.countByStatus(job.getId())).thenReturn(counts);
 
         JobDetailResponse response = jobService.getJobWithApplications(job.getId(), client);
 
         assertThat(response.job()).isNotNull();
         assertThat(response.job().id()).isEqualTo(job.getId());
-        assertThat(response.applications()).hasSize(2);
-        assertThat(response.applications().get(0).id()).isEqualTo(older.getId());
-        assertThat(response.applications().get(1).id()).isEqualTo(newer.getId());
+        assertThat(response.applications()).containsExactly(older);
+        assertThat(response.nextCursor()).isEqualTo("next");
+        assertThat(response.applicationCounts()).isEqualTo(counts);
+        assertThat(response.totalApplications()).isEqualTo(42L);
+    }
+
+    @Test
+    void getJobsForClient_attachesApplicantCountsFromOneGroupedLookup() {
+        User client = new User();
+        client.setId(10L);
+        client.setRole(UserRole.CLIENT);
+
+        Job first = new Job();
+        first.setId(100L);
+        first.setClient(client);
+        Job second = new Job();
+        second.setId(101L);
+        second.setClient(client);
+
+        Map<ApplicationStatus, Long> firstCounts = Map.of(
+                ApplicationStatus.APPLIED, 3L, ApplicationStatus.ACCEPTED, 0L, ApplicationStatus.REJECTED, 2L);
+        Map<ApplicationStatus, Long> secondCounts = Map.of(
+                ApplicationStatus.APPLIED, 0L, ApplicationStatus.ACCEPTED, 1L, ApplicationStatus.REJECTED, 0L);
+        when(jobRepository.findByClientId(10L)).thenReturn(List.of(first, second));
+        when(applicationService.countByStatus(List.of(100L, 101L)))
+                .thenReturn(Map.of(100L, firstCounts, 101L, secondCounts));
+
+        List<JobResponse> responses = jobService.getJobsForClient(client);
+
+        assertThat(responses).extracting(JobResponse::applicationCounts).containsExactly(firstCounts, secondCounts);
+        verify(applicationService).countByStatus(List.of(100L, 101L));
     }
 
     @Test
@@ -96,7 +133,7 @@ class JobServiceTest {
         job.setId(100L);
         job.setClient(client);
 
-        when(jobRepository.findWithApplicationsById(job.getId())).thenReturn(Optional.of(job));
+        when(jobRepository.findWithPartiesById(job.getId())).thenReturn(Optional.of(job));
 
         assertThatThrownBy(() -> jobService.getJobWithApplications(job.getId(), otherClient))
                 .isInstanceOf(SecurityException.class)
@@ -105,7 +142,7 @@ class JobServiceTest {
 
     @Test
     void getJobWithApplications_throwsWhenJobMissing() {
-        when(jobRepository.findWithApplicationsById(404L)).thenReturn(Optional.empty());
+        when(jobRepository.findWithPartiesById(404L)).thenReturn(Optional.empty());
 
         User client = new User();
         client.setId(10L);
@@ -0,0 +1,60 @@
+package com.skilllink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SkillTrieTest {
+
+    private static final Map<Long, SkillTrie.Entry> SKILLS = Map.of(
+            1L, new SkillTrie.Entry(1L, "React", 40),
+            2L, new SkillTrie.Entry(2L, "React Native", 5),
+            3L, new SkillTrie.Entry(3L, "Redux", 12),
+            4L, new SkillTrie.Entry(4L, "Java", 30),
+            5L, new SkillTrie.Entry(5L, "JavaScript", 50));
+
+    private static final Map<String, Long> KEYS = Map.of(
+            "react", 1L,
+            "reactjs", 1L,
+            "react native", 2L,
+            "redux", 3L,
+            "java", 4L,
+            "javascript", 5L,
+            "js", 5L);
+
+    private final SkillTrie trie = SkillTrie.build(KEYS, SKILLS, 3);
+
+    @Test
+    void completesPrefixesRankedByUsage() {
+        assertThat(names(trie.complete("re", 10))).containsExactly("React", "Redux", "React Native");
+        assertThat(names(trie.complete("java", 10))).containsExactly("JavaScript", "Java");
+        assertThat(names(trie.complete("javas", 10))).containsExactly("JavaScript");
+    }
+
+    @Test
+    void aliasesLeadToTheirSkillOnce() {
+        assertThat(names(trie.complete("react", 10))).containsExactly("React", "React Native");
+        assertThat(names(trie.complete("js", 10))).containsExactly("JavaScript");
+        assertThat(names(trie.complete("j", 10))).containsExactly("JavaScript", "Java");
+    }
+
+    @Test
+    void prefixesEndingInsideAnEdgeStillMatch() {
+        assertThat(names(trie.complete("react n", 10))).containsExactly("React Native");
+        assertThat(trie.complete("reacx", 10)).isEmpty();
+        assertThat(trie.complete("python", 10)).isEmpty();
+    }
+
+    @Test
+    void emptyPrefixReturnsTheMostUsedSkillsUpToCapacity() {
+        assertThat(names(trie.complete("", 10))).containsExactly("JavaScript", "React", "Java");
+        assertThat(names(trie.complete("", 1))).containsExactly("JavaScript");
+        assertThat(SkillTrie.EMPTY.complete("re", 10)).isEmpty();
+    }
+
+    private static List<String> names(List<SkillTrie.Entry> entries) {
+        return entries.stream().map(SkillTrie.Entry::name).toList();
+    }
+}
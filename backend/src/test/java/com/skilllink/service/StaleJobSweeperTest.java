@@ -0,0 +1,129 @@
+package com.skilllink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.JobStatus;
+import com.skilllink.repository.ApplicationRepository;
+import com.skilllink.repository.ApplicationRollupRow;
+import com.skilllink.repository.JobRepository;
+import com.skilllink.repository.JobRollupRow;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class StaleJobSweeperTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Mock
+    private CacheInvalidationBus invalidations;
+
+    @Mock
+    private StatsRollups stats;
+
+    @Mock
+    private TrendingService trending;
+
+    private StaleJobSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new StaleJobSweeper(jobRepository, applicationRepository, transactionManager, events, invalidations,
+                stats, trending, true, 30, 2, Duration.ZERO);
+    }
+
+    @Test
+    void sweep_walksIdleJobsInChunksWithOneTransactionEach() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        PageRequest chunk = PageRequest.of(0, 2);
+        when(jobRepository.findIdleJobIds(JobStatus.OPEN, 0L, cutoff, chunk)).thenReturn(List.of(3L, 7L));
+        when(jobRepository.findIdleJobIds(JobStatus.OPEN, 7L, cutoff, chunk)).thenReturn(List.of(9L));
+        JobRollupRow idleJob = new JobRollupRow(9L, cutoff.minusDays(3), JobStatus.OPEN, BigDecimal.TEN);
+        ApplicationRollupRow pending = new ApplicationRollupRow(12L, 9L, ApplicationStatus.APPLIED, cutoff.minusDays(2));
+        when(jobRepository.lockIdleRollupRows(List.of(3L, 7L), JobStatus.OPEN, cutoff)).thenReturn(List.of());
+        when(jobRepository.lockIdleRollupRows(List.of(9L), JobStatus.OPEN, cutoff)).thenReturn(List.of(idleJob));
+        when(jobRepository.closeIdleJobs(List.of(9L), JobStatus.OPEN, JobStatus.CLOSED, cutoff)).thenReturn(1);
+        when(applicationRepository.findRollupRowsByJobIdInAndStatus(List.of(9L), ApplicationStatus.APPLIED))
+                .thenReturn(List.of(pending));
+
+        int closed = sweeper.sweep(cutoff);
+
+        assertThat(closed).isEqualTo(1);
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(applicationRepository).updateStatusForJobs(List.of(9L), JobStatus.CLOSED,
+                ApplicationStatus.APPLIED, ApplicationStatus.REJECTED);
+        verify(stats).jobsStatusChanged(
+                List.of(new JobRollupRow(9L, idleJob.createdAt(), JobStatus.CLOSED, BigDecimal.TEN)), JobStatus.OPEN);
+        verify(stats).applicationsStatusChanged(List.of(pending), ApplicationStatus.REJECTED);
+        verify(trending).forgetJob(9L);
+    }
+
+    @Test
+    void sweep_countsOnlyTheJobsItLockedWhileStillIdle() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        JobRollupRow stillIdle = new JobRollupRow(5L, cutoff.minusDays(3), JobStatus.OPEN, BigDecimal.ONE);
+        when(jobRepository.findIdleJobIds(eq(JobStatus.OPEN), eq(0L), eq(cutoff), any())).thenReturn(List.of(4L, 5L));
+        // Job 4 was closed by a concurrent sweep between the id scan and the lock.
+        when(jobRepository.lockIdleRollupRows(List.of(4L, 5L), JobStatus.OPEN, cutoff)).thenReturn(List.of(stillIdle));
+        when(jobRepository.closeIdleJobs(List.of(5L), JobStatus.OPEN, JobStatus.CLOSED, cutoff)).thenReturn(1);
+        when(applicationRepository.findRollupRowsByJobIdInAndStatus(List.of(5L), ApplicationStatus.APPLIED))
+                .thenReturn(List.of());
+
+        assertThat(sweeper.sweep(cutoff)).isEqualTo(1);
+        verify(stats).jobsStatusChanged(
+                List.of(new JobRollupRow(5L, stillIdle.createdAt(), JobStatus.CLOSED, BigDecimal.ONE)), JobStatus.OPEN);
+        verify(applicationRepository).updateStatusForJobs(List.of(5L), JobStatus.CLOSED,
+                ApplicationStatus.APPLIED, ApplicationStatus.REJECTED);
+        verify(trending, never()).forgetJob(4L);
+    }
+
+    @Test
+    void sweep_skipsApplicationUpdateWhenJobsGainedActivity() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        when(jobRepository.findIdleJobIds(eq(JobStatus.OPEN), eq(0L), eq(cutoff), any())).thenReturn(List.of(4L));
+        when(jobRepository.lockIdleRollupRows(List.of(4L), JobStatus.OPEN, cutoff)).thenReturn(List.of());
+
+        int closed = sweeper.sweep(cutoff);
+
+        assertThat(closed).isZero();
+        verify(jobRepository, never()).closeIdleJobs(any(), any(), any(), any());
+        verify(applicationRepository, never()).updateStatusForJobs(any(), any(), any(), any());
+    }
+
+    @Test
+    void sweep_returnsImmediatelyWhenNothingIsIdle() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+        when(jobRepository.findIdleJobIds(eq(JobStatus.OPEN), eq(0L), eq(cutoff), any())).thenReturn(List.of());
+
+        assertThat(sweeper.sweep(cutoff)).isZero();
+        verify(transactionManager, never()).getTransaction(any());
+    }
+}
@@ -0,0 +1,69 @@
+package com.skilllink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TrendingServiceTest {
+
+    private final TrendingService trending = new TrendingService(Duration.ofHours(6), 5, 100,
+            Clock.fixed(Instant.parse("2024-03-01T00:00:00Z"), ZoneOffset.UTC));
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void writesRankOnlyOnceTheirTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        trending.recordEnrollment(1L);
+        trending.recordApplication(2L);
+
+        assertThat(trending.trendingCourseIds(5)).isEmpty();
+        assertThat(trending.trendingJobIds(5)).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(trending.trendingCourseIds(5)).containsExactly(1L);
+        assertThat(trending.trendingJobIds(5)).containsExactly(2L);
+    }
+
+    @Test
+    void rolledBackWritesNeverRank() {
+        TransactionSynchronizationManager.initSynchronization();
+        trending.recordEnrollment(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(trending.trendingCourseIds(5)).isEmpty();
+    }
+
+    @Test
+    void jobsAreForgottenOnlyOnceTheirTransactionCommits() {
+        trending.recordJobView(6L);
+        TransactionSynchronizationManager.initSynchronization();
+        trending.forgetJob(6L);
+
+        assertThat(trending.trendingJobIds(5)).containsExactly(6L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(trending.trendingJobIds(5)).isEmpty();
+    }
+
+    @Test
+    void viewsAndWritesOutsideATransactionRankImmediately() {
+        trending.recordCourseView(3L);
+        trending.recordEnrollment(4L);
+
+        assertThat(trending.trendingCourseIds(5)).containsExactly(4L, 3L);
+    }
+}
@@ -0,0 +1,145 @@
+package com.skilllink.skill;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.model.Skill;
+import com.skilllink.repository.JobRepository;
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import com.skilllink.service.SkillDictionary;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:skilllink-skills;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class SkillTaxonomyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void startupBackfillLinksSeededJobsAndProfilesToTheDictionary() {
+        assertThat(inTransaction(() -> slugs(jobRepository.findById(2L).orElseThrow().getCanonicalSkills())))
+                .containsExactlyInAnyOrder("spring boot", "security", "mysql");
+        assertThat(inTransaction(() -> slugs(userRepository.findById(2L).orElseThrow().getCanonicalSkills())))
+                .containsExactlyInAnyOrder("react", "spring", "teaching");
+    }
+
+    @Test
+    void autocompleteIsPublicAndRankedByUsage() throws Exception {
+        mockMvc.perform(get("/api/skills/autocomplete").param("prefix", "Re"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("React"));
+        mockMvc.perform(get("/api/skills/autocomplete").param("prefix", "spring"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", Matchers.containsInAnyOrder("Spring", "Spring Boot")));
+        mockMvc.perform(get("/api/skills/autocomplete").param("prefix", "ReactJS"))
+                .andExpect(jsonPath("$[0].name").value("React"));
+    }
+
+    @Test
+    void writesStoreCanonicalNamesAndNewSkillsBecomeSearchable() throws Exception {
+        mockMvc.perform(post("/api/jobs")
+                        .header("Authorization", bearer("client@skilllink.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Mobile app\",\"description\":\"Cross-platform client\",\"budget\":900,"
+                                + "\"skills\":[\"reactjs\",\"REACT\",\"spring-boot\",\"Kotlin  Multiplatform\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requiredSkills", Matchers.containsInAnyOrder(
+                        "React", "Spring Boot", "Kotlin Multiplatform")));
+
+        mockMvc.perform(put("/api/users/3")
+                        .header("Authorization", bearer("leo@skilllink.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"skills\":\"js; UI/UX ,kotlin_multiplatform\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.skills").value("JavaScript,UI/UX,Kotlin Multiplatform"));
+
+        skillDictionary.rebuild();
+        mockMvc.perform(get("/api/skills/autocomplete").param("prefix", "kot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Kotlin Multiplatform"))
+                .andExpect(jsonPath("$[0].usage").value(2));
+    }
+
+    @Test
+    void requestsAreLimitedInSkillCountAndLength() throws Exception {
+        String tooMany = IntStream.rangeClosed(1, SkillDictionary.MAX_SKILLS + 1)
+                .mapToObj(i -> "skill " + i)
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Sky\",\"email\":\"sky@skilllink.com\",\"password\":\"Password@123\","
+                                + "\"role\":\"FREELANCER\",\"skills\":\"" + tooMany + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("TOO_MANY_SKILLS"));
+        mockMvc.perform(post("/api/jobs")
+                        .header("Authorization", bearer("client@skilllink.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Long\",\"description\":\"Long skill\",\"budget\":100,"
+                                + "\"skills\":[\"" + "x".repeat(SkillDictionary.MAX_NAME_LENGTH + 1) + "\"]}"))
+                .andExpect(status().isBadRequest());
+        assertThat(userRepository.findByEmail("sky@skilllink.com")).isEmpty();
+    }
+
+    @Test
+    void skillsFromRolledBackWritesAreNotKeptAndUnusedOnesAreNotSuggested() throws Exception {
+        TransactionTemplate rolledBack = new TransactionTemplate(transactionManager);
+        rolledBack.executeWithoutResult(status -> {
+            skillDictionary.resolve(List.of("Zig Lang"));
+            status.setRollbackOnly();
+        });
+
+        List<Skill> resolved = inTransaction(() -> skillDictionary.resolve(List.of("zig-lang")));
+        assertThat(resolved).extracting(Skill::getName).containsExactly("zig-lang");
+
+        skillDictionary.rebuild();
+        mockMvc.perform(get("/api/skills/autocomplete").param("prefix", "zig"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    private static List<String> slugs(java.util.Collection<Skill> skills) {
+        return skills.stream().map(Skill::getSlug).toList();
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userRepository.findByEmail(email).orElseThrow());
+    }
+}
@@ -0,0 +1,35 @@
+package com.skilllink.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skilllink.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Boots the prod profile (ddl-auto=validate) against the MySQL schema script, so an entity change
+ * without a matching schema change fails here instead of on a production node. H2 reports MySQL's
+ * {@code TINYINT(1)} booleans as plain tinyint, hence the boolean mapping override.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-prod-schema;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.type.preferred_boolean_jdbc_type=TINYINT",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.data-locations=classpath:data.sql"
+})
+@ActiveProfiles("prod")
+class ProdProfileSchemaValidationTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Test
+    void entitiesMatchTheMysqlSchema() {
+        assertThat(jobRepository.findById(1L)).isPresent();
+    }
+}
@@ -0,0 +1,34 @@
+package com.skilllink.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+class StartupReportTest {
+
+    @Test
+    void reportsPhasesAndSlowestBeans() throws Exception {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(64);
+        StartupStep refresh = startup.start("spring.context.refresh");
+        StartupStep fast = startup.start("spring.beans.instantiate").tag("beanName", "jobService");
+        fast.end();
+        StartupStep outer = startup.start("spring.beans.instantiate").tag("beanName", "jwtAuthenticationFilter");
+        StartupStep slow = startup.start("spring.beans.instantiate").tag("beanName", "entityManagerFactory");
+        Thread.sleep(20);
+        slow.end();
+        outer.end();
+        refresh.end();
+        Instant jvmStart = startup.getBufferedTimeline().getStartTime().minusMillis(150);
+
+        String report = StartupReport.describe(startup.getBufferedTimeline(), Optional.of(jvmStart), Instant.now());
+
+        assertThat(report)
+                .startsWith("Startup: ready in ")
+                .contains("150 ms JVM launch before main", "(AOT off)", "; context refresh ")
+                .containsPattern("slowest beans \\(excluding their dependencies\\): entityManagerFactory=\\d\\dms ");
+    }
+}
@@ -0,0 +1,142 @@
+package com.skilllink.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.dto.ApplicationRequest;
+import com.skilllink.dto.JobRequest;
+import com.skilllink.dto.JobResponse;
+import com.skilllink.dto.PlatformStatsResponse;
+import com.skilllink.model.ApplicationStatus;
+import com.skilllink.model.JobStatus;
+import com.skilllink.model.User;
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import com.skilllink.service.AdminStatsService;
+import com.skilllink.service.ApplicationService;
+import com.skilllink.service.CourseService;
+import com.skilllink.service.JobService;
+import com.skilllink.service.StatsRollups;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-stats;DB_CLOSE_DELAY=-1",
+        "skilllink.admin.emails=client@skilllink.com",
+        "skilllink.stats.flush-interval=PT1H",
+        "skilllink.stats.backfill.chunk-size=1"
+})
+@AutoConfigureMockMvc
+class AdminStatsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private AdminStatsService adminStatsService;
+
+    @Autowired
+    private StatsRollups statsRollups;
+
+    @Test
+    void writesUpdateTheRollupsIncrementallyAndAgreeWithARebuild() {
+        User client = userRepository.findByEmail("client@skilllink.com").orElseThrow();
+        User maya = userRepository.findByEmail("maya@skilllink.com").orElseThrow();
+        User leo = userRepository.findByEmail("leo@skilllink.com").orElseThrow();
+        LocalDate today = LocalDate.now();
+        statsRollups.flush();
+        PlatformStatsResponse before = adminStatsService.getPlatformStats(null, null);
+
+        JobResponse job = jobService.createJob(new JobRequest("Analytics dashboard", "Charts for the admin team",
+                new BigDecimal("500.00"), Set.of("React")), client);
+        Long applicationId = applicationService.apply(new ApplicationRequest(job.id()), maya).id();
+        applicationService.updateStatus(applicationId, ApplicationStatus.ACCEPTED, client);
+        courseService.enroll(2L, leo);
+
+        assertThat(adminStatsService.getPlatformStats(null, null)).isEqualTo(before);
+        statsRollups.flush();
+        PlatformStatsResponse after = adminStatsService.getPlatformStats(null, null);
+
+        assertThat(after.jobsPosted()).isEqualTo(before.jobsPosted() + 1);
+        assertThat(after.budgetPosted()).isEqualByComparingTo(before.budgetPosted().add(new BigDecimal("500")));
+        assertThat(after.applications()).isEqualTo(before.applications() + 1);
+        assertThat(after.acceptedApplications()).isEqualTo(before.acceptedApplications() + 1);
+        assertThat(after.acceptanceRate()).isNotNull();
+        assertThat(after.enrollments()).isEqualTo(before.enrollments() + 1);
+        assertThat(after.days()).hasSize(AdminStatsService.DEFAULT_DAYS).last().satisfies(day -> {
+            assertThat(day.date()).isEqualTo(today);
+            assertThat(day.jobsByStatus().get(JobStatus.IN_PROGRESS))
+                    .isEqualTo(before.days().get(before.days().size() - 1).jobsByStatus().get(JobStatus.IN_PROGRESS) + 1);
+        });
+        assertThat(adminStatsService.getTopJobs(today, today, 100))
+                .anySatisfy(stats -> {
+                    assertThat(stats.jobId()).isEqualTo(job.id());
+                    assertThat(stats.applications()).isEqualTo(1);
+                    assertThat(stats.accepted()).isEqualTo(1);
+                    assertThat(stats.pending()).isZero();
+                });
+        assertThat(adminStatsService.getTopCourses(today, today, 100))
+                .anySatisfy(stats -> {
+                    assertThat(stats.courseId()).isEqualTo(2L);
+                    assertThat(stats.enrollmentsByDay()).containsEntry(today, 1L);
+                });
+
+        statsRollups.rebuild();
+        assertThat(adminStatsService.getPlatformStats(null, null)).isEqualTo(after);
+    }
+
+    @Test
+    void statsEndpointsAreForAdminsOnly() throws Exception {
+        String admin = bearer("client@skilllink.com");
+
+        mockMvc.perform(get("/api/admin/stats").header("Authorization", admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobsPosted", Matchers.greaterThanOrEqualTo(2)))
+                .andExpect(jsonPath("$.days.length()").value(AdminStatsService.DEFAULT_DAYS))
+                .andExpect(jsonPath("$.days[29].jobsByStatus.OPEN", Matchers.greaterThanOrEqualTo(1)));
+        mockMvc.perform(get("/api/admin/stats/courses").header("Authorization", admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].courseId", Matchers.hasItem(1)));
+        mockMvc.perform(get("/api/admin/stats").param("from", "2024-02-01").param("to", "2024-01-01")
+                        .header("Authorization", admin))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/admin/stats/rebuild").header("Authorization", admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rollupRows", Matchers.greaterThan(0)));
+
+        String learner = bearer("leo@skilllink.com");
+        mockMvc.perform(get("/api/admin/stats").header("Authorization", learner))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/admin/stats/rebuild").header("Authorization", learner))
+                .andExpect(status().isForbidden());
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userRepository.findByEmail(email).orElseThrow());
+    }
+}
@@ -0,0 +1,81 @@
+package com.skilllink.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class TracerTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_ID = "00f067aa0ba902b7";
+
+    private final InMemorySpanExporter exporter = new InMemorySpanExporter(10);
+    private final Tracer tracer = new Tracer(List.of(exporter), 1.0);
+
+    @Test
+    void childSpansJoinTheCurrentSpanAndRestoreItWhenClosed() {
+        String traceId;
+        try (Span server = tracer.startServerSpan("GET /api/jobs/1", null)) {
+            traceId = server.traceId();
+            try (Span child = tracer.startSpan("JobService.getJob", SpanKind.INTERNAL)) {
+                assertThat(child.traceId()).isEqualTo(traceId);
+                assertThat(Span.current()).isSameAs(child);
+            }
+            assertThat(Span.current()).isSameAs(server);
+        }
+
+        assertThat(Span.current()).isNull();
+        List<SpanData> spans = exporter.trace(traceId);
+        assertThat(spans).extracting(SpanData::name).containsExactly("GET /api/jobs/1", "JobService.getJob");
+        assertThat(spans.get(1).parentSpanId()).isEqualTo(spans.get(0).spanId());
+        assertThat(spans.get(0).parentSpanId()).isNull();
+    }
+
+    @Test
+    void incomingTraceparentIsHonored() {
+        try (Span server = tracer.startServerSpan("GET /", "00-" + TRACE_ID + "-" + PARENT_ID + "-01")) {
+            assertThat(server.traceId()).isEqualTo(TRACE_ID);
+            assertThat(server.traceparent()).startsWith("00-" + TRACE_ID + "-").endsWith("-01");
+        }
+        assertThat(exporter.trace(TRACE_ID)).singleElement()
+                .extracting(SpanData::parentSpanId).isEqualTo(PARENT_ID);
+
+        assertThat(tracer.startServerSpan("GET /", "00-" + TRACE_ID + "-" + PARENT_ID + "-00").isRecording())
+                .isFalse();
+        try (Span malformed = tracer.startServerSpan("GET /", "00-xyz-" + PARENT_ID + "-01")) {
+            assertThat(malformed.isRecording()).isTrue();
+            assertThat(malformed.traceId()).isNotEqualTo(TRACE_ID).hasSize(32);
+        }
+    }
+
+    @Test
+    void spansOutsideATraceAreNoOps() {
+        assertThat(tracer.startSpan("JobService.getJob", SpanKind.INTERNAL)).isSameAs(Span.NOOP);
+        assertThat(new Tracer(List.of(), 1.0).startServerSpan("GET /", null)).isSameAs(Span.NOOP);
+        assertThat(new Tracer(List.of(exporter), 0.0).startServerSpan("GET /", null)).isSameAs(Span.NOOP);
+        assertThat(exporter.recent(10)).isEmpty();
+    }
+
+    @Test
+    void propagatedTasksJoinTheCallersTraceOnAnotherThread() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        String traceId;
+        try (Span server = tracer.startServerSpan("GET /api/users/me/dashboard", null)) {
+            traceId = server.traceId();
+            CompletableFuture.supplyAsync(Span.propagate(() -> {
+                try (Span section = tracer.startSpan("CourseService.getCourses", SpanKind.INTERNAL)) {
+                    return section.traceId();
+                }
+            }), pool).get();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(exporter.trace(traceId)).extracting(SpanData::name)
+                .containsExactlyInAnyOrder("GET /api/users/me/dashboard", "CourseService.getCourses");
+    }
+}
@@ -0,0 +1,93 @@
+package com.skilllink.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-tracing;DB_CLOSE_DELAY=-1",
+        "skilllink.tracing.exporter=memory",
+        "skilllink.tracing.sample-rate=0",
+        "skilllink.admin.emails=client@skilllink.com"
+})
+@AutoConfigureMockMvc
+class TracingIntegrationTest {
+
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+    private static final String PARENT_ID = "b7ad6b7169203331";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InMemorySpanExporter exporter;
+
+    @Test
+    void sampledRequestIsTracedThroughEveryLayer() throws Exception {
+        String token = "Bearer " + jwtService.generateToken(userRepository.findByEmail("client@skilllink.com").orElseThrow());
+
+        mockMvc.perform(get("/api/jobs/1/details").header("Authorization", token)
+                        .header(TracingFilter.TRACEPARENT, "00-" + TRACE_ID + "-" + PARENT_ID + "-01"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TracingFilter.TRACEPARENT,
+                        startsWith("00-" + TRACE_ID + "-")));
+
+        List<SpanData> spans = exporter.trace(TRACE_ID);
+        SpanData server = spans.stream().filter(span -> span.kind() == SpanKind.SERVER).findFirst().orElseThrow();
+        assertThat(server.name()).isEqualTo("GET /api/jobs/{id}/details");
+        assertThat(server.parentSpanId()).isEqualTo(PARENT_ID);
+        assertThat(server.attributes()).containsEntry("http.status_code", "200");
+        assertThat(spans).extracting(SpanData::name).contains(
+                "security.jwt",
+                "JobController.getJobWithApplications",
+                "JobService.getJobWithApplications",
+                "JobRepository.findWithPartiesById",
+                "http.serialize");
+        assertThat(spans).filteredOn(span -> span.kind() == SpanKind.CLIENT)
+                .isNotEmpty()
+                .allSatisfy(span -> assertThat(span.attributes()).containsKey("db.statement"));
+        assertThat(spans).allSatisfy(span -> assertThat(span.traceId()).isEqualTo(TRACE_ID));
+
+        mockMvc.perform(get("/api/traces/" + TRACE_ID).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].traceId").value(TRACE_ID));
+    }
+
+    @Test
+    void tracesAreOnlyVisibleToAdmins() throws Exception {
+        String token = "Bearer " + jwtService.generateToken(userRepository.findByEmail("maya@skilllink.com").orElseThrow());
+
+        mockMvc.perform(get("/api/traces").header("Authorization", token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/traces/" + TRACE_ID).header("Authorization", token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void unsampledRequestsRecordNothing() throws Exception {
+        exporter.clear();
+
+        mockMvc.perform(get("/api/jobs")).andExpect(status().isOk())
+                .andExpect(header().doesNotExist(TracingFilter.TRACEPARENT));
+
+        assertThat(exporter.recent(10)).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.skilllink.user;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void searchFindsFreelancersBySkillWithoutExposingEmail() throws Exception {
+        mockMvc.perform(get("/api/users/search")
+                        .header("Authorization", bearer("client@skilllink.com"))
+                        .param("role", "FREELANCER")
+                        .param("skills", "Spring,react"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(2))
+                .andExpect(jsonPath("$.items[0].mentor").value(true))
+                .andExpect(jsonPath("$.items[0].email").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void profileUpdatesAreSearchableAfterCommit() throws Exception {
+        updateMaya("react,spring,teaching,svelte", "Exploring Svelte animations");
+        try {
+            mockMvc.perform(get("/api/users/search")
+                            .header("Authorization", bearer("client@skilllink.com"))
+                            .param("skills", "svelte")
+                            .param("q", "animations"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(2))
+                    .andExpect(jsonPath("$.items[0].score").isNumber());
+        } finally {
+            updateMaya("react,spring,teaching", "Full-stack developer and mentor.");
+        }
+    }
+
+    @Test
+    void searchRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/users/search").param("skills", "react"))
+                .andExpect(status().isForbidden());
+    }
+
+    private void updateMaya(String skills, String bio) throws Exception {
+        mockMvc.perform(put("/api/users/2")
+                        .header("Authorization", bearer("maya@skilllink.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"skills\":\"" + skills + "\",\"bio\":\"" + bio + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userRepository.findByEmail(email).orElseThrow());
+    }
+}
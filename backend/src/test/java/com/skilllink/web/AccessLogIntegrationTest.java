@@ -0,0 +1,81 @@
+package com.skilllink.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skilllink.model.User;
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import java.time.Duration;
+import java.util.Optional;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-access-log;DB_CLOSE_DELAY=-1",
+        "skilllink.access-log.sample-rate=1.0",
+        "skilllink.access-log.route-sample-rates=/api/courses=0"
+})
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class AccessLogIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void writesOneJsonLinePerSampledRequest(CapturedOutput output) throws Exception {
+        User client = userRepository.findByEmail("client@skilllink.com").orElseThrow();
+
+        mockMvc.perform(get("/api/courses"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/jobs/1").header("Authorization", "Bearer " + jwtService.generateToken(client)))
+                .andExpect(status().isOk());
+
+        JsonNode entry = Awaitility.await().atMost(Duration.ofSeconds(5))
+                .until(() -> accessLine(output, "/api/jobs/{id}"), Optional::isPresent)
+                .orElseThrow();
+        assertThat(entry.get("method").asText()).isEqualTo("GET");
+        assertThat(entry.get("status").asInt()).isEqualTo(200);
+        assertThat(entry.get("userId").asLong()).isEqualTo(client.getId());
+        assertThat(entry.get("sqlCount").asInt()).isPositive();
+        assertThat(entry.get("bytesOut").asLong()).isPositive();
+        assertThat(entry.get("latencyMicros").asLong()).isPositive();
+        assertThat(accessLine(output, "/api/courses")).isEmpty();
+    }
+
+    private Optional<JsonNode> accessLine(CapturedOutput output, String route) {
+        return output.getOut().lines()
+                .filter(line -> line.contains("\"route\":\"" + route + "\""))
+                .map(line -> line.substring(line.indexOf('{')))
+                .map(this::parse)
+                .findFirst();
+    }
+
+    private JsonNode parse(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.skilllink.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AccessLogRingTest {
+
+    @Test
+    void concurrentProducersLoseNothingWhileThereIsRoom() throws Exception {
+        AccessLogRing<Integer> ring = new AccessLogRing<>(8_000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> producers = new ArrayList<>();
+        for (int producer = 0; producer < 8; producer++) {
+            int base = producer * 1_000;
+            producers.add(pool.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    assertThat(ring.offer(base + i)).isTrue();
+                }
+            }));
+        }
+        pool.shutdown();
+        for (Future<?> producer : producers) {
+            producer.get(10, TimeUnit.SECONDS);
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        Integer item;
+        while ((item = ring.poll()) != null) {
+            seen.add(item);
+        }
+        assertThat(seen).hasSize(8_000);
+    }
+
+    @Test
+    void offerFailsInsteadOfBlockingWhenFull() {
+        AccessLogRing<String> ring = new AccessLogRing<>(3);
+
+        assertThat(ring.capacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer("entry-" + i)).isTrue();
+        }
+        assertThat(ring.offer("overflow")).isFalse();
+
+        assertThat(ring.poll()).isEqualTo("entry-0");
+        assertThat(ring.offer("after-drain")).isTrue();
+    }
+
+    @Test
+    void writerDeliversEntriesPublishedAfterItWentIdle() throws Exception {
+        ObjectMapper objectMapper = mock(ObjectMapper.class);
+        CountDownLatch written = new CountDownLatch(2);
+        when(objectMapper.writeValueAsString(any())).thenAnswer(invocation -> {
+            written.countDown();
+            return "{}";
+        });
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(objectMapper, 16);
+        try {
+            writer.publish(entry(200));
+            Thread.sleep(50);
+            writer.publish(entry(200));
+
+            assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void exceptionsEscapingTheChainAreLoggedAsServerErrors() {
+        AsyncAccessLogWriter writer = mock(AsyncAccessLogWriter.class);
+        AccessLogFilter filter = new AccessLogFilter(writer, true, 0.0, "");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<AccessLogEntry> logged = ArgumentCaptor.forClass(AccessLogEntry.class);
+        verify(writer).publish(logged.capture());
+        assertThat(logged.getValue().status()).isEqualTo(500);
+    }
+
+    @Test
+    void sampleRatesAreValidated() {
+        assertThat(AccessLogFilter.parseRates(" /api/jobs=0.1, /api/jobs/{id}=1 "))
+                .containsEntry("/api/jobs", 0.1)
+                .containsEntry("/api/jobs/{id}", 1.0);
+        assertThatThrownBy(() -> AccessLogFilter.parseRates("/api/jobs"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccessLogFilter.parseRates("/api/jobs=2"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static AccessLogEntry entry(int status) {
+        return new AccessLogEntry(Instant.now(), "GET", "/api/jobs", status, 100, null, 0, 0);
+    }
+}
@@ -0,0 +1,119 @@
+package com.skilllink.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skilllink.repository.UserRepository;
+import com.skilllink.security.JwtService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:skilllink-connection-release;DB_CLOSE_DELAY=-1",
+        "skilllink.counters.flush-interval=PT1H"
+})
+@AutoConfigureMockMvc
+@Import(ConnectionReleaseIntegrationTest.ConnectionProbe.class)
+class ConnectionReleaseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ConnectionProbe probe;
+
+    @Test
+    void connectionsAreBackInThePoolBeforeResponseBodiesAreWritten() throws Exception {
+        String client = bearer("client@skilllink.com");
+        String freelancer = bearer("maya@skilllink.com");
+        String learner = bearer("leo@skilllink.com");
+
+        assertReleased(client, "/api/jobs");
+        assertReleased(client, "/api/jobs/1");
+        assertReleased(client, "/api/jobs/client");
+        assertReleased(client, "/api/jobs/1/details");
+        assertReleased(client, "/api/applications/job/1");
+        assertReleased(freelancer, "/api/jobs/freelancer");
+        assertReleased(freelancer, "/api/applications/freelancer/2");
+        assertReleased(freelancer, "/api/users/me/dashboard");
+        assertReleased(learner, "/api/courses?sort=popular");
+        assertReleased(learner, "/api/courses/1");
+        assertReleased(learner, "/api/users/2");
+    }
+
+    private void assertReleased(String token, String path) throws Exception {
+        probe.reset();
+        mockMvc.perform(get(path).header("Authorization", token)).andExpect(status().isOk());
+        assertThat(probe.activeConnections()).as("active connections while writing %s", path).isZero();
+        assertThat(probe.entityManagerBound()).as("entity manager bound while writing %s", path).isFalse();
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userRepository.findByEmail(email).orElseThrow());
+    }
+
+    @RestControllerAdvice
+    static class ConnectionProbe implements ResponseBodyAdvice<Object> {
+
+        private final HikariDataSource dataSource;
+        private final EntityManagerFactory entityManagerFactory;
+        private final AtomicInteger activeConnections = new AtomicInteger(-1);
+        private volatile boolean entityManagerBound;
+
+        ConnectionProbe(DataSource dataSource, EntityManagerFactory entityManagerFactory) throws SQLException {
+            this.dataSource = dataSource.unwrap(HikariDataSource.class);
+            this.entityManagerFactory = entityManagerFactory;
+        }
+
+        void reset() {
+            activeConnections.set(-1);
+            entityManagerBound = false;
+        }
+
+        int activeConnections() {
+            return activeConnections.get();
+        }
+
+        boolean entityManagerBound() {
+            return entityManagerBound;
+        }
+
+        @Override
+        public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                      ServerHttpRequest request, ServerHttpResponse response) {
+            activeConnections.set(dataSource.getHikariPoolMXBean().getActiveConnections());
+            entityManagerBound = TransactionSynchronizationManager.hasResource(entityManagerFactory);
+            return body;
+        }
+    }
+}
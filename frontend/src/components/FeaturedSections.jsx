@@ -1,6 +1,20 @@
+import { useEffect, useState } from 'react';
 import { motion } from 'framer-motion';
 import { ArrowRight, Star } from 'lucide-react';
 import { freelancers, courses } from '../data/mockData.js';
+import { fetchTrendingCourses } from '../services/courseService.js';
+
+const toFeaturedCourse = (course, index) => {
+  const fallback = courses[index % courses.length] ?? {};
+  return {
+    ...fallback,
+    id: course.id,
+    title: course.title,
+    mentor: course.mentorName,
+    price: Number(course.price),
+    badge: 'Trending'
+  };
+};
 
 const cardVariants = {
   hidden: { opacity: 0, y: 20 },
@@ -91,7 +105,24 @@ const CourseCard = ({ course, index }) => (
   </motion.article>
 );
 
-const FeaturedSections = () => (
+const FeaturedSections = () => {
+  const [featuredCourses, setFeaturedCourses] = useState(courses);
+
+  useEffect(() => {
+    let active = true;
+    fetchTrendingCourses(3)
+      .then((trending) => {
+        if (active && trending.length > 0) {
+          setFeaturedCourses(trending.map(toFeaturedCourse));
+        }
+      })
+      .catch(() => {});
+    return () => {
+      active = false;
+    };
+  }, []);
+
+  return (
   <section className="space-y-16" id="freelancers">
     <header className="space-y-3">
       <h2 className="text-3xl font-semibold text-slate-900 dark:text-white">Top Freelancers ready to collaborate</h2>
@@ -112,11 +143,12 @@ const FeaturedSections = () => (
       </p>
     </header>
     <div className="grid gap-6 lg:grid-cols-3">
-      {courses.map((course, index) => (
+      {featuredCourses.map((course, index) => (
         <CourseCard key={course.id} course={course} index={index} />
       ))}
     </div>
   </section>
-);
+  );
+};
 
 export default FeaturedSections;
@@ -57,14 +57,14 @@ const CoursesPage = () => {
     setLoading(true);
     setError(null);
     try {
-      const data = await fetchCourses();
+      const data = await fetchCourses({ sort });
       setCourses(data);
     } catch (err) {
       setError(err.response?.data?.message || 'Unable to load courses right now.');
     } finally {
       setLoading(false);
     }
-  }, []);
+  }, [sort]);
 
   useEffect(() => {
     loadCourses();
@@ -100,8 +100,10 @@ const CoursesPage = () => {
 
   const handleEnroll = async (courseId) => {
     try {
-      await enrollCourse(courseId);
-      setSnackbar({ open: true, message: 'Enrollment confirmed. See you in class!', severity: 'success' });
+      const enrollment = await enrollCourse(courseId);
+      setSnackbar(enrollment?.pending
+        ? { open: true, message: 'Enrollment received. It will show in your courses in a moment.', severity: 'info' }
+        : { open: true, message: 'Enrollment confirmed. See you in class!', severity: 'success' });
       await loadCourses();
     } catch (err) {
       setSnackbar({ open: true, message: err.response?.data?.message || 'Unable to enroll right now.', severity: 'error' });
@@ -111,22 +113,13 @@ const CoursesPage = () => {
   const closeSnackbar = () => setSnackbar((prev) => ({ ...prev, open: false }));
 
   const filteredCourses = useMemo(() => {
-    const bySearch = courses.filter((course) => {
-      if (!search) return true;
-      return (
-        course.title.toLowerCase().includes(search.toLowerCase()) ||
-        course.description.toLowerCase().includes(search.toLowerCase()) ||
-        course.mentorName?.toLowerCase().includes(search.toLowerCase())
-      );
-    });
-    if (sort === 'price_asc') {
-      return [...bySearch].sort((a, b) => Number(a.price) - Number(b.price));
-    }
-    if (sort === 'price_desc') {
-      return [...bySearch].sort((a, b) => Number(b.price) - Number(a.price));
-    }
-    return bySearch;
-  }, [courses, search, sort]);
+    if (!search) return courses;
+    return courses.filter((course) => (
+      course.title.toLowerCase().includes(search.toLowerCase()) ||
+      course.description.toLowerCase().includes(search.toLowerCase()) ||
+      course.mentorName?.toLowerCase().includes(search.toLowerCase())
+    ));
+  }, [courses, search]);
 
   return (
     <AppShell>
@@ -171,6 +164,7 @@ const CoursesPage = () => {
               onChange={(event) => setSort(event.target.value)}
             >
               <MenuItem value="popular">Most popular</MenuItem>
+              <MenuItem value="newest">Newest</MenuItem>
               <MenuItem value="price_asc">Price: Low to high</MenuItem>
               <MenuItem value="price_desc">Price: High to low</MenuItem>
             </Select>
@@ -1,4 +1,4 @@
-import { useEffect, useMemo, useState } from 'react';
+import { useCallback, useEffect, useMemo, useState } from 'react';
 import { Link } from 'react-router-dom';
 import { Alert, Chip } from '@mui/material';
 import { motion } from 'framer-motion';
@@ -22,7 +22,7 @@ import { useTheme } from '../context/ThemeContext.jsx';
 import AppShell from '../components/AppShell.jsx';
 import PageContainer from '../components/PageContainer.jsx';
 import { fetchClientJobs, fetchFreelancerJobs } from '../services/jobService.js';
-import { fetchFreelancerApplications, fetchJobApplications } from '../services/applicationService.js';
+import { fetchApplicationInbox, fetchFreelancerApplications } from '../services/applicationService.js';
 import { fetchCourses } from '../services/courseService.js';
 
 dayjs.extend(relativeTime);
@@ -51,14 +51,19 @@ const getGreeting = () => {
   return 'Good evening';
 };
 
+const INBOX_PAGE_SIZE = 10;
+
+const countProposals = (job) =>
+  Object.values(job.applicationCounts || {}).reduce((acc, count) => acc + count, 0);
+
 const Dashboard = () => {
   const { user } = useAuth();
   const { theme } = useTheme();
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
   const [jobs, setJobs] = useState([]);
-  const [clientApplications, setClientApplications] = useState({});
   const [freelancerApplications, setFreelancerApplications] = useState([]);
+  const [inbox, setInbox] = useState({ items: [], nextCursor: null, loadingMore: false });
   const [courses, setCourses] = useState([]);
 
   const isClient = user?.role === 'CLIENT';
@@ -74,22 +79,13 @@ const Dashboard = () => {
 
       try {
         if (isClient) {
-          const clientJobs = await fetchClientJobs();
-          let applicationsMap = {};
-          if (clientJobs.length) {
-            const applicationResponses = await Promise.all(
-              clientJobs.map((job) =>
-                fetchJobApplications(job.id).catch(() => [])
-              )
-            );
-            applicationsMap = clientJobs.reduce((acc, job, index) => {
-              acc[job.id] = applicationResponses[index];
-              return acc;
-            }, {});
-          }
+          const [clientJobs, inboxPage] = await Promise.all([
+            fetchClientJobs(),
+            fetchApplicationInbox({ limit: INBOX_PAGE_SIZE }).catch(() => ({ items: [], nextCursor: null }))
+          ]);
           if (!isMounted) return;
           setJobs(clientJobs);
-          setClientApplications(applicationsMap);
+          setInbox({ items: inboxPage?.items || [], nextCursor: inboxPage?.nextCursor || null, loadingMore: false });
         }
 
         if (isFreelancer) {
@@ -131,7 +127,7 @@ const Dashboard = () => {
     const open = jobs.filter((job) => job.status === 'OPEN').length;
     const inProgress = jobs.filter((job) => job.status === 'IN_PROGRESS').length;
     const completed = jobs.filter((job) => job.status === 'COMPLETED').length;
-    const proposals = Object.values(clientApplications).reduce((acc, apps) => acc + apps.length, 0);
+    const proposals = jobs.reduce((acc, job) => acc + countProposals(job), 0);
 
     return [
       {
@@ -163,7 +159,7 @@ const Dashboard = () => {
         accent: 'bg-amber-100 text-amber-700 dark:bg-amber-500/20 dark:text-amber-300'
       }
     ];
-  }, [clientApplications, isClient, jobs]);
+  }, [isClient, jobs]);
 
   const freelancerStats = useMemo(() => {
     if (!isFreelancer) return [];
@@ -298,7 +294,7 @@ const Dashboard = () => {
       ) : (
         jobs.map((job, index) => {
           const Icon = job.status === 'COMPLETED' ? CheckCircle2 : job.status === 'IN_PROGRESS' ? CalendarClock : Rocket;
-          const proposals = clientApplications[job.id]?.length ?? 0;
+          const proposals = countProposals(job);
 
           return (
             <motion.div
@@ -343,6 +339,63 @@ const Dashboard = () => {
     </div>
   );
 
+  const loadMoreInbox = useCallback(async () => {
+    if (!inbox.nextCursor) return;
+    setInbox((prev) => ({ ...prev, loadingMore: true }));
+    try {
+      const page = await fetchApplicationInbox({ cursor: inbox.nextCursor, limit: INBOX_PAGE_SIZE });
+      setInbox((prev) => ({
+        items: [...prev.items, ...(page?.items || [])],
+        nextCursor: page?.nextCursor || null,
+        loadingMore: false
+      }));
+    } catch (err) {
+      setInbox((prev) => ({ ...prev, loadingMore: false }));
+      setError(err.response?.data?.message || 'Failed to load more proposals');
+    }
+  }, [inbox.nextCursor]);
+
+  const renderClientInbox = () => (
+    <div className="space-y-3">
+      {inbox.items.length === 0 ? (
+        <p className="rounded-xl border-2 border-dashed border-slate-300 bg-slate-50 p-6 text-center text-sm text-slate-600 dark:border-slate-700 dark:bg-slate-800/50 dark:text-slate-400">
+          New proposals across your briefs will land here.
+        </p>
+      ) : (
+        inbox.items.map((application) => (
+          <div
+            key={application.id}
+            className="flex items-center justify-between gap-4 rounded-xl border border-slate-200 bg-white px-5 py-4 shadow-sm dark:border-slate-800 dark:bg-slate-900"
+          >
+            <div className="space-y-1">
+              <p className="font-semibold text-slate-900 dark:text-white">{application.freelancerName || 'Freelancer'}</p>
+              <p className="text-sm text-slate-600 dark:text-slate-300">
+                {application.jobTitle} · {dayjs(application.appliedAt).fromNow()}
+              </p>
+            </div>
+            <Chip
+              label={application.status}
+              size="small"
+              className={`${applicationStatusStyles[application.status] || ''} !rounded-full !text-xs !font-semibold`}
+            />
+          </div>
+        ))
+      )}
+      {inbox.nextCursor && (
+        <div className="text-center">
+          <button
+            type="button"
+            onClick={loadMoreInbox}
+            disabled={inbox.loadingMore}
+            className="inline-flex items-center gap-2 rounded-full border border-slate-300 px-4 py-2 text-xs font-semibold text-slate-600 transition hover:border-teal-600 hover:text-teal-600 disabled:opacity-60 dark:border-slate-700 dark:text-slate-300 dark:hover:border-teal-400 dark:hover:text-teal-400"
+          >
+            {inbox.loadingMore ? 'Loading…' : 'Load more proposals'}
+          </button>
+        </div>
+      )}
+    </div>
+  );
+
   const renderFreelancerPipeline = () => (
     <div className="space-y-4">
       {freelancerApplications.length === 0 ? (
@@ -621,6 +674,16 @@ const Dashboard = () => {
             </section>
           )}
 
+          {isClient && (
+            <section className="space-y-4">
+              <div>
+                <h2 className="text-xl font-semibold text-slate-900 dark:text-white">Proposal inbox</h2>
+                <p className="text-sm text-slate-600 dark:text-slate-300">The latest proposals across all of your briefs.</p>
+              </div>
+              {renderClientInbox()}
+            </section>
+          )}
+
           {isFreelancer && (
             <div className="grid gap-8 lg:grid-cols-2">
               <section className="space-y-4">
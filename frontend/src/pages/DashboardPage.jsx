@@ -4,9 +4,7 @@ import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext.jsx';
 import AppShell from '../components/AppShell.jsx';
 import LoadingState from '../components/LoadingState.jsx';
-import { fetchJobs } from '../services/jobService.js';
-import { fetchCourses } from '../services/courseService.js';
-import { fetchFreelancerApplications } from '../services/applicationService.js';
+import { fetchDashboard } from '../services/userService.js';
 import dayjs from 'dayjs';
 import relativeTime from 'dayjs/plugin/relativeTime';
 import { formatCurrencyInr, formatCurrencyRangeInr } from '../utils/currency.js';
@@ -43,25 +41,15 @@ const DashboardPage = () => {
       setLoading(true);
       setError(null);
       try {
-        const jobsPromise = fetchJobs();
-        const coursesPromise = fetchCourses();
-        const applicationsPromise = userRole === 'FREELANCER'
-          ? fetchFreelancerApplications(user.id)
-          : Promise.resolve([]);
-
-        const [jobsData, coursesData, applicationsData] = await Promise.all([
-          jobsPromise,
-          coursesPromise,
-          applicationsPromise
-        ]);
+        const dashboard = await fetchDashboard();
 
         if (!active) {
           return;
         }
 
-        setJobs(jobsData);
-        setCourses(coursesData);
-        setApplications(applicationsData);
+        setJobs(dashboard.postedJobs ?? dashboard.openJobs ?? []);
+        setCourses(dashboard.courses ?? []);
+        setApplications(dashboard.applications ?? []);
       } catch (err) {
         if (!active) {
           return;
@@ -28,7 +28,7 @@ import relativeTime from 'dayjs/plugin/relativeTime';
 import { useAuth } from '../context/AuthContext.jsx';
 import { useTheme } from '../context/ThemeContext.jsx';
 import { applyToJob, createJob, fetchJobs, fetchClientJobs, fetchFreelancerJobs, fetchJobDetails } from '../services/jobService.js';
-import { fetchFreelancerApplications, updateApplicationStatus } from '../services/applicationService.js';
+import { fetchFreelancerApplications, fetchJobApplications, updateApplicationStatus } from '../services/applicationService.js';
 import JobCard from '../components/JobCard.jsx';
 import AppShell from '../components/AppShell.jsx';
 import PageContainer from '../components/PageContainer.jsx';
@@ -50,11 +50,22 @@ const proposalStatusChipMap = {
   rejected: { color: 'error', label: 'Rejected' }
 };
 
+const toProposalTotals = (detail) => {
+  if (!detail?.applicationCounts) return null;
+  const counts = Object.entries(detail.applicationCounts).reduce((acc, [status, count]) => {
+    acc[status.toLowerCase()] = count;
+    return acc;
+  }, {});
+  return { total: detail.totalApplications ?? 0, counts };
+};
+
 const JobsPage = () => {
   const { user } = useAuth();
   const { theme } = useTheme();
   const userRole = user?.role?.toUpperCase();
   const [jobs, setJobs] = useState([]);
+  const [jobsCursor, setJobsCursor] = useState(null);
+  const [loadingMoreJobs, setLoadingMoreJobs] = useState(false);
   const [loading, setLoading] = useState(true);
   const [open, setOpen] = useState(false);
   const [form, setForm] = useState(initialJobForm);
@@ -70,6 +81,9 @@ const JobsPage = () => {
     loading: false,
     error: null,
     items: [],
+    nextCursor: null,
+    loadingMore: false,
+    totals: null,
     actionLoadingId: null
   });
   const [viewMode, setViewMode] = useState('all');
@@ -88,8 +102,9 @@ const JobsPage = () => {
     setLoading(true);
     setError(null);
     try {
-      const data = await fetchJobs();
-      setJobs(data);
+      const page = await fetchJobs();
+      setJobs(page?.items || []);
+      setJobsCursor(page?.nextCursor || null);
     } catch (err) {
       setError(err.response?.data?.message || 'Unable to load jobs right now.');
     } finally {
@@ -97,6 +112,23 @@ const JobsPage = () => {
     }
   }, []);
 
+  const handleLoadMoreJobs = useCallback(async () => {
+    if (!jobsCursor) return;
+    setLoadingMoreJobs(true);
+    try {
+      const page = await fetchJobs({ cursor: jobsCursor });
+      setJobs((prev) => {
+        const seen = new Set(prev.map((job) => job.id));
+        return [...prev, ...(page?.items || []).filter((job) => !seen.has(job.id))];
+      });
+      setJobsCursor(page?.nextCursor || null);
+    } catch (err) {
+      setSnackbar({ open: true, message: err.response?.data?.message || 'Unable to load more jobs.', severity: 'error' });
+    } finally {
+      setLoadingMoreJobs(false);
+    }
+  }, [jobsCursor]);
+
   const loadApplications = useCallback(async () => {
     if (!user || userRole !== 'FREELANCER') {
       setApplications([]);
@@ -252,7 +284,7 @@ const JobsPage = () => {
   };
 
   const handleViewApplications = useCallback(async (job) => {
-    setProposalDialog({ open: true, job, loading: true, error: null, items: [], actionLoadingId: null });
+    setProposalDialog({ open: true, job, loading: true, error: null, items: [], nextCursor: null, loadingMore: false, totals: null, actionLoadingId: null });
     try {
       const detail = await fetchJobDetails(job.id);
       setProposalDialog({
@@ -261,28 +293,69 @@ const JobsPage = () => {
         loading: false,
         error: null,
         items: detail?.applications || [],
+        nextCursor: detail?.nextCursor || null,
+        loadingMore: false,
+        totals: toProposalTotals(detail),
         actionLoadingId: null
       });
     } catch (err) {
-      setProposalDialog({ open: true, job, loading: false, error: err.response?.data?.message || 'Unable to load proposals right now.', items: [], actionLoadingId: null });
+      setProposalDialog({ open: true, job, loading: false, error: err.response?.data?.message || 'Unable to load proposals right now.', items: [], nextCursor: null, loadingMore: false, totals: null, actionLoadingId: null });
     }
   }, [fetchJobDetails]);
 
+  const handleLoadMoreApplications = useCallback(async () => {
+    const jobId = proposalDialog.job?.id;
+    const cursor = proposalDialog.nextCursor;
+    if (!jobId || !cursor) return;
+    setProposalDialog((prev) => ({ ...prev, loadingMore: true }));
+    try {
+      const page = await fetchJobApplications(jobId, { cursor });
+      setProposalDialog((prev) => {
+        const seen = new Set(prev.items.map((item) => item.id));
+        return {
+          ...prev,
+          items: [...prev.items, ...(page?.items || []).filter((item) => !seen.has(item.id))],
+          nextCursor: page?.nextCursor || null,
+          loadingMore: false
+        };
+      });
+    } catch (err) {
+      setProposalDialog((prev) => ({ ...prev, loadingMore: false }));
+      setSnackbar({ open: true, message: err.response?.data?.message || 'Unable to load more proposals.', severity: 'error' });
+    }
+  }, [proposalDialog.job, proposalDialog.nextCursor]);
+
   const closeProposalDialog = () => {
-    setProposalDialog({ open: false, job: null, loading: false, error: null, items: [], actionLoadingId: null });
+    setProposalDialog({ open: false, job: null, loading: false, error: null, items: [], nextCursor: null, loadingMore: false, totals: null, actionLoadingId: null });
   };
 
   const handleApplicationAction = useCallback(async (applicationId, status) => {
     setProposalDialog((prev) => ({ ...prev, actionLoadingId: applicationId, error: null }));
     try {
-      await updateApplicationStatus(applicationId, status);
+      const updated = await updateApplicationStatus(applicationId, status);
       const jobId = proposalDialog.job?.id;
       if (jobId) {
+        // Refresh the job and the first page without dropping the pages already loaded.
         const detail = await fetchJobDetails(jobId);
+        const fresh = new Map((detail?.applications || []).map((application) => [application.id, application]));
+        if (updated?.id != null) {
+          fresh.set(updated.id, updated);
+        }
+        // Accepting rejects every other pending proposal, including ones on pages not re-fetched.
+        const rejectsOthers = status === 'ACCEPTED';
         setProposalDialog((prev) => ({
           ...prev,
           job: detail?.job || prev.job,
-          items: detail?.applications || [],
+          items: prev.items.map((item) => {
+            if (fresh.has(item.id)) {
+              return fresh.get(item.id);
+            }
+            if (rejectsOthers && item.id !== applicationId && (item.status || '').toUpperCase() === 'APPLIED') {
+              return { ...item, status: 'REJECTED' };
+            }
+            return item;
+          }),
+          totals: toProposalTotals(detail) || prev.totals,
           actionLoadingId: null
         }));
       } else {
@@ -341,6 +414,10 @@ const JobsPage = () => {
   }, [applications]);
 
   const proposalStats = useMemo(() => {
+    // Counts come from the job detail so they cover every proposal, not just the pages loaded.
+    if (proposalDialog.totals) {
+      return proposalDialog.totals;
+    }
     const items = proposalDialog.items || [];
     if (!items.length) {
       return { total: 0, counts: {} };
@@ -351,7 +428,7 @@ const JobsPage = () => {
       return acc;
     }, {});
     return { total: items.length, counts };
-  }, [proposalDialog.items]);
+  }, [proposalDialog.items, proposalDialog.totals]);
 
   const jobBudgetDisplay = proposalDialog.job?.budget != null
     ? formatCurrencyRangeInr(proposalDialog.job.budget)
@@ -488,6 +565,13 @@ const JobsPage = () => {
             ))}
           </Grid>
         )}
+        {!isPostedView && !isAssignedView && !currentLoading && !currentError && jobsCursor && (
+          <Box textAlign="center">
+            <Button variant="outlined" disabled={loadingMoreJobs} onClick={handleLoadMoreJobs}>
+              {loadingMoreJobs ? 'Loading…' : 'Load more jobs'}
+            </Button>
+          </Box>
+        )}
         </Stack>
 
         <Dialog open={proposalDialog.open} onClose={closeProposalDialog} maxWidth="sm" fullWidth>
@@ -573,6 +657,18 @@ const JobsPage = () => {
                   </Stack>
                 );
               })}
+              {proposalDialog.nextCursor && (
+                <Box textAlign="center">
+                  <Button
+                    size="small"
+                    variant="outlined"
+                    disabled={proposalDialog.loadingMore}
+                    onClick={handleLoadMoreApplications}
+                  >
+                    {proposalDialog.loadingMore ? 'Loading…' : 'Load more proposals'}
+                  </Button>
+                </Box>
+              )}
             </Stack>
           )}
         </DialogContent>
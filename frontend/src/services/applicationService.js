@@ -5,8 +5,13 @@ export const fetchFreelancerApplications = async (freelancerId) => {
   return response.data;
 };
 
-export const fetchJobApplications = async (jobId) => {
-  const response = await apiClient.get(`/applications/job/${jobId}`);
+export const fetchJobApplications = async (jobId, { status, cursor, limit } = {}) => {
+  const response = await apiClient.get(`/applications/job/${jobId}`, { params: { status, cursor, limit } });
+  return response.data;
+};
+
+export const fetchApplicationInbox = async ({ status, cursor, limit } = {}) => {
+  const response = await apiClient.get('/applications/inbox', { params: { status, cursor, limit } });
   return response.data;
 };
 
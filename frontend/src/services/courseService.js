@@ -1,10 +1,15 @@
 import apiClient from './api.js';
 
-export const fetchCourses = async () => {
-  const response = await apiClient.get('/courses');
+export const fetchCoursePage = async ({ sort, cursor, limit, view, fields } = {}) => {
+  const response = await apiClient.get('/courses', { params: { sort, cursor, limit, view, fields } });
   return response.data;
 };
 
+export const fetchCourses = async (options = {}) => {
+  const page = await fetchCoursePage({ limit: 100, ...options });
+  return page.items;
+};
+
 export const createCourse = async (payload) => {
   const response = await apiClient.post('/courses', payload);
   return response.data;
@@ -14,3 +19,8 @@ export const enrollCourse = async (courseId) => {
   const response = await apiClient.post(`/courses/${courseId}/enroll`);
   return response.data;
 };
+
+export const fetchTrendingCourses = async (limit = 6) => {
+  const response = await apiClient.get('/courses/trending', { params: { limit } });
+  return response.data;
+};
@@ -1,7 +1,7 @@
 import apiClient from './api.js';
 
-export const fetchJobs = async () => {
-  const response = await apiClient.get('/jobs');
+export const fetchJobs = async ({ view, fields, cursor, limit } = {}) => {
+  const response = await apiClient.get('/jobs', { params: { view, fields, cursor, limit } });
   return response.data;
 };
 
@@ -29,3 +29,8 @@ export const fetchJobDetails = async (jobId) => {
   const response = await apiClient.get(`/jobs/${jobId}/details`);
   return response.data;
 };
+
+export const fetchTrendingJobs = async (limit = 6) => {
+  const response = await apiClient.get('/jobs/trending', { params: { limit } });
+  return response.data;
+};
@@ -9,3 +9,22 @@ export const updateProfile = async (userId, payload) => {
   const response = await apiClient.put(`/users/${userId}`, payload);
   return response.data;
 };
+
+export const fetchDashboard = async () => {
+  const response = await apiClient.get('/users/me/dashboard');
+  return response.data;
+};
+
+export const searchUsers = async ({ role, mentor, skills, q, cursor, limit } = {}) => {
+  const response = await apiClient.get('/users/search', {
+    params: {
+      role,
+      mentor,
+      skills: Array.isArray(skills) ? skills.join(',') : skills,
+      q,
+      cursor,
+      limit,
+    },
+  });
+  return response.data;
+};